@@ -0,0 +1,104 @@
+package com.kh.tbrr.battle;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kh.tbrr.battle.data.DiceRoller;
+import com.kh.tbrr.battle.data.TraitData;
+import com.kh.tbrr.data.SkillStatsMapper.CombatStats;
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * 戦闘処理のマイクロベンチマーク。
+ * 命中判定・ダイス・戦闘ステータス集計・特徴の集計・1ターン分の解決を個別に計測する。
+ *
+ * 乱数はすべて固定シード（{@link BattleFixtures#SEED}）で、イテレーションごとに戦闘を初期状態へ戻す。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+
+    @Param({ "bench_brute", "bench_skirmisher" })
+    public String enemyId;
+
+    private BenchGameUI ui;
+    private Player player;
+    private EnemyTemplate template;
+    private BattleManager manager;
+    private EnemyInstance enemy;
+    private BattleCommand attackCommand;
+
+    @Setup(Level.Trial)
+    public void loadFixtures() {
+        BattleFixtures.loadCombatData();
+        template = BattleFixtures.loadEnemy(enemyId);
+        attackCommand = new BattleCommand("前進", "攻撃", "なし", "なし");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBattle() {
+        DiceRoller.setSeed(BattleFixtures.SEED);
+        ui = new BenchGameUI();
+        player = BattleFixtures.createPlayer("bench_fighter");
+        manager = new BattleManager(ui, player, null, new Random(BattleFixtures.SEED));
+        enemy = BattleFixtures.reset(manager, player, template);
+    }
+
+    @Benchmark
+    public boolean checkHit() {
+        BattleState state = manager.getState();
+        return manager.checkHit(12, 10, null, false,
+                state.getPlayerConditions(), state.getEnemyConditions()).isHit;
+    }
+
+    @Benchmark
+    public int diceRollSingle() {
+        return DiceRoller.roll("1d6");
+    }
+
+    @Benchmark
+    public int diceRollWithBonus() {
+        return DiceRoller.roll("2d6+3");
+    }
+
+    @Benchmark
+    public CombatStats playerCombatStats() {
+        return player.getCombatStats();
+    }
+
+    @Benchmark
+    public List<TraitData> activePlayerTraits() {
+        return manager.getActivePlayerTraits();
+    }
+
+    /**
+     * 行動順判定からターン終了処理までの1ターン。
+     * 決着がついたら同じシード列のまま戦闘を初期状態へ戻して続ける。
+     */
+    @Benchmark
+    public BattleManager.BattleResult resolveTurn() {
+        BattleManager.BattleResult result = manager.resolveTurn(attackCommand, enemy);
+        if (result != null) {
+            enemy = BattleFixtures.reset(manager, player, template);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package com.kh.tbrr.battle;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.kh.tbrr.battle.data.AbilityData;
+import com.kh.tbrr.battle.data.BenchCombatData;
+import com.kh.tbrr.battle.data.CombatBaseRules;
+import com.kh.tbrr.battle.data.CombatDataLoader;
+import com.kh.tbrr.battle.data.TraitData;
+import com.kh.tbrr.battle.data.TraitRegistry;
+import com.kh.tbrr.data.CombatConditionRegistry;
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * ベンチマーク用の固定データ（/bench 以下のJSON）を読み込む。
+ *
+ * 敵・プレイヤー・特徴・戦闘ルール・アビリティ（basic_attack）はベンチマーク専用のものを使い、
+ * ゲーム側のデータ追加・調整で計測対象が変わらないようにする（本体のリソースがなくても動く）。
+ * 戦闘状態異常は本体のリソースがあればそれを使う。
+ */
+public final class BattleFixtures {
+
+    /** DiceRoller と BattleManager に与える固定シード */
+    public static final long SEED = 20250101L;
+
+    private static final Gson GSON = new Gson();
+    private static boolean combatDataLoaded = false;
+
+    private BattleFixtures() {
+    }
+
+    /** プレイヤーの固定データ（Player は直接Gsonで読まず、必要な項目だけ設定する） */
+    static class PlayerFixture {
+        String name;
+        int maxHp;
+        int maxAp;
+        List<String> skills;
+        List<String> traits;
+        List<String> inventory;
+    }
+
+    /**
+     * 戦闘用データ（本体リソース＋ベンチ用特徴）を読み込む。二重読み込みはしない。
+     */
+    public static synchronized void loadCombatData() {
+        if (combatDataLoaded)
+            return;
+        CombatConditionRegistry.loadAll();
+        CombatDataLoader.loadAllTraits();
+        CombatDataLoader.loadAllStances();
+        BenchCombatData.install(read("/bench/combat_base_rules.json", CombatBaseRules.class),
+                read("/bench/abilities/basic_attack.json", AbilityData.class));
+        TraitData[] traits = read("/bench/traits.json", TraitData[].class);
+        for (TraitData t : traits) {
+            TraitRegistry.register(t);
+        }
+        combatDataLoaded = true;
+    }
+
+    public static EnemyTemplate loadEnemy(String id) {
+        EnemyTemplate template = read("/bench/enemies/" + id + ".json", EnemyTemplate.class);
+        template.prepare();
+        return template;
+    }
+
+    public static Player createPlayer(String id) {
+        PlayerFixture f = read("/bench/players/" + id + ".json", PlayerFixture.class);
+        Player player = new Player();
+        player.setName(f.name);
+        player.setMaxHp(f.maxHp);
+        player.setHp(f.maxHp);
+        player.setMaxAp(f.maxAp);
+        player.setAp(f.maxAp);
+        if (f.skills != null)
+            f.skills.forEach(player::addSkill);
+        if (f.traits != null)
+            f.traits.forEach(player::addTrait);
+        if (f.inventory != null)
+            f.inventory.forEach(player::addItem);
+        return player;
+    }
+
+    /** 戦闘開始直後の状態に戻す（HP・AP・SPを全快させ、新しい敵を配置する） */
+    public static EnemyInstance reset(BattleManager manager, Player player, EnemyTemplate template) {
+        player.setHp(player.getMaxHp());
+        player.setAp(player.getMaxAp());
+        EnemyInstance enemy = new EnemyInstance(template);
+        manager.setUpBattle(enemy);
+        return enemy;
+    }
+
+    private static <T> T read(String path, Class<T> type) {
+        try (InputStream is = BattleFixtures.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new IllegalStateException("ベンチマーク用データが見つかりません: " + path);
+            }
+            return GSON.fromJson(new InputStreamReader(is, StandardCharsets.UTF_8), type);
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("ベンチマーク用データの読み込みに失敗: " + path, e);
+        }
+    }
+}
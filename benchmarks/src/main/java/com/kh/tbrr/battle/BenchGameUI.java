@@ -0,0 +1,121 @@
+package com.kh.tbrr.battle;
+
+import java.util.List;
+
+import com.kh.tbrr.data.models.Player;
+import com.kh.tbrr.ui.GameUI;
+
+/**
+ * ベンチマーク用の何もしないUI。
+ * 出力は文字数だけ数えて捨てる（文字列連結がJITで消されないようにするため）。
+ * 入力を求められた場合は常に先頭の選択肢を返す。
+ */
+public class BenchGameUI implements GameUI {
+
+    private long printedChars;
+
+    public long getPrintedChars() {
+        return printedChars;
+    }
+
+    @Override
+    public void print(String message) {
+        if (message != null)
+            printedChars += message.length();
+    }
+
+    @Override
+    public void printError(String message) {
+        print(message);
+    }
+
+    @Override
+    public void printWarning(String message) {
+        print(message);
+    }
+
+    @Override
+    public void printTitleBar(String title) {
+        print(title);
+    }
+
+    @Override
+    public void printSeparator() {
+    }
+
+    @Override
+    public void clearScreen() {
+    }
+
+    @Override
+    public String getInput() {
+        return "";
+    }
+
+    @Override
+    public String getInput(String prompt) {
+        return "";
+    }
+
+    @Override
+    public int getPlayerChoice(int max) {
+        return 1;
+    }
+
+    @Override
+    public int getPlayerChoice(int max, Player currentPlayer) {
+        return 1;
+    }
+
+    @Override
+    public int getPlayerChoiceWithDevCheck(int max, boolean checkDevMode) {
+        return 1;
+    }
+
+    @Override
+    public boolean getYesNo() {
+        return true;
+    }
+
+    @Override
+    public void waitForEnter() {
+    }
+
+    @Override
+    public void printPlayerStatus(Player player) {
+    }
+
+    @Override
+    public int showChoices(List<String> choices) {
+        return 1;
+    }
+
+    @Override
+    public void showFloorInfo(int floorNumber, String areaName) {
+    }
+
+    @Override
+    public void showEventInfo(String eventTitle) {
+    }
+
+    @Override
+    public void showImage(String imageType, String imagePath) {
+    }
+
+    @Override
+    public void changePortraitExpression(String expression) {
+    }
+
+    @Override
+    public void resetPortraitExpression() {
+    }
+
+    @Override
+    public void printImportantLog(String message) {
+        print(message);
+    }
+
+    @Override
+    public void close() {
+    }
+}
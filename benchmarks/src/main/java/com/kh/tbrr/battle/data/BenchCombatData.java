@@ -0,0 +1,18 @@
+package com.kh.tbrr.battle.data;
+
+/**
+ * ベンチマーク用の戦闘ルール・アビリティを CombatDataLoader に登録する。
+ * CombatDataLoader の登録口はパッケージ内からしか呼べないため、同じパッケージに置いている。
+ */
+public final class BenchCombatData {
+
+    private BenchCombatData() {
+    }
+
+    public static void install(CombatBaseRules rules, AbilityData... abilities) {
+        CombatDataLoader.setBaseRules(rules);
+        for (AbilityData ability : abilities) {
+            CombatDataLoader.putAbility(ability);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.kh.tbrr.bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * JMH の結果（-rf json）を基準値ファイルと比較する。
+ *
+ * 使い方:
+ *   java -cp target/benchmarks.jar com.kh.tbrr.bench.BaselineCheck 結果.json baseline/battle-baseline.json [--update]
+ *
+ * 基準値より threshold（既定15%）以上遅くなった項目があれば一覧を出して終了コード1を返す。
+ * --update を付けると、今回の結果で基準値ファイルを書き換える（基準マシンで計測したときだけ使う）。
+ * 基準値ファイルがまだなければ、--update で今回の結果から作る。
+ */
+public class BaselineCheck {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineCheck <jmh-result.json> <baseline.json> [--update]");
+            System.exit(2);
+        }
+        Path resultPath = Paths.get(args[0]);
+        Path baselinePath = Paths.get(args[1]);
+        boolean update = args.length > 2 && "--update".equals(args[2]);
+
+        if (!Files.exists(baselinePath)) {
+            if (!update) {
+                System.err.println("基準値ファイルがありません: " + baselinePath
+                        + "（基準マシンで計測し、--update を付けて作成してください）");
+                System.exit(2);
+            }
+            writeBaseline(baselinePath, createBaseline(resultPath));
+            System.out.println("基準値を作成しました: " + baselinePath);
+            return;
+        }
+
+        Map<String, Double> current = readResults(resultPath);
+        JsonObject baseline = readJson(baselinePath).getAsJsonObject();
+        double threshold = baseline.has("threshold") ? baseline.get("threshold").getAsDouble() : 0.15;
+
+        int regressions = 0;
+        int compared = 0;
+        for (JsonElement el : baseline.getAsJsonArray("benchmarks")) {
+            JsonObject entry = el.getAsJsonObject();
+            String key = key(entry.get("benchmark").getAsString(), entry.getAsJsonObject("params"));
+            Double now = current.get(key);
+            if (now == null) {
+                System.out.println("[skip] 結果なし: " + key);
+                continue;
+            }
+            JsonElement base = entry.get("score");
+            if (update) {
+                entry.addProperty("score", now);
+                continue;
+            }
+            if (base == null || base.isJsonNull()) {
+                System.out.printf("[new ] %-70s %12.1f%n", key, now);
+                continue;
+            }
+            compared++;
+            double ratio = now / base.getAsDouble();
+            boolean regressed = ratio > 1.0 + threshold;
+            if (regressed)
+                regressions++;
+            System.out.printf("[%s] %-70s %12.1f -> %12.1f (%+.1f%%)%n",
+                    regressed ? "SLOW" : " ok ", key, base.getAsDouble(), now, (ratio - 1.0) * 100);
+        }
+
+        if (update) {
+            writeBaseline(baselinePath, baseline);
+            System.out.println("基準値を更新しました: " + baselinePath);
+            return;
+        }
+
+        System.out.println("比較 " + compared + " 件 / 劣化 " + regressions + " 件（しきい値 "
+                + Math.round(threshold * 100) + "%）");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /** JMH の結果から基準値ファイルの中身を作る */
+    private static JsonObject createBaseline(Path resultPath) throws IOException {
+        JsonObject baseline = new JsonObject();
+        baseline.addProperty("description", "戦闘ベンチマークの基準値。");
+        baseline.addProperty("threshold", 0.15);
+        JsonArray benchmarks = new JsonArray();
+        for (JsonElement el : readJson(resultPath).getAsJsonArray()) {
+            JsonObject r = el.getAsJsonObject();
+            JsonObject metric = r.getAsJsonObject("primaryMetric");
+            JsonObject entry = new JsonObject();
+            entry.add("benchmark", r.get("benchmark"));
+            entry.add("params", r.has("params") ? r.get("params") : new JsonObject());
+            entry.add("scoreUnit", metric.get("scoreUnit"));
+            entry.add("score", metric.get("score"));
+            benchmarks.add(entry);
+        }
+        baseline.add("benchmarks", benchmarks);
+        return baseline;
+    }
+
+    private static void writeBaseline(Path path, JsonObject baseline) throws IOException {
+        baseline.addProperty("recordedOn", LocalDate.now().toString());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(baseline, w);
+            w.write("\n");
+        }
+    }
+
+    /** JMH の結果を「ベンチマーク名+パラメータ → スコア」の表にする */
+    private static Map<String, Double> readResults(Path path) throws IOException {
+        Map<String, Double> map = new HashMap<>();
+        JsonArray results = readJson(path).getAsJsonArray();
+        for (JsonElement el : results) {
+            JsonObject r = el.getAsJsonObject();
+            String key = key(r.get("benchmark").getAsString(), r.getAsJsonObject("params"));
+            map.put(key, r.getAsJsonObject("primaryMetric").get("score").getAsDouble());
+        }
+        return map;
+    }
+
+    private static String key(String benchmark, JsonObject params) {
+        if (params == null || params.size() == 0)
+            return benchmark;
+        Map<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<String, JsonElement> e : params.entrySet()) {
+            sorted.put(e.getKey(), e.getValue().getAsString());
+        }
+        return benchmark + sorted;
+    }
+
+    private static JsonElement readJson(Path path) throws IOException {
+        try (Reader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(r);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.kh.tbrr;
 
+import com.kh.tbrr.manager.ImageCache;
 import com.kh.tbrr.ui.MainMenuScreen;
+import com.kh.tbrr.ui.ScreenRegistry;
 
 import javafx.application.Application;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 
 /**
@@ -19,8 +22,12 @@ public class MainGUI extends Application {
             System.exit(0);
         });
 
+        // 画像を表示サイズにデコードするときの倍率（画面の情報はFXスレッドでしか読めない）
+        ImageCache.setOutputScale(Screen.getPrimary().getOutputScaleX());
+
         // メインメニューを直接表示
-        MainMenuScreen mainMenu = new MainMenuScreen(primaryStage);
+        MainMenuScreen mainMenu = ScreenRegistry.of(primaryStage)
+                .get(MainMenuScreen.class, () -> new MainMenuScreen(primaryStage));
         mainMenu.show();
     }
 
@@ -0,0 +1,104 @@
+package com.kh.tbrr.battle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 戦闘イベントログを JSON Lines 形式でファイルへ書き出すリスナー。
+ * 1戦闘につき1ファイル（userdata/logs/battle/yyyyMMdd_HHmmss_敵ID.jsonl）を作成する。
+ *
+ * 開発者モードの「battlelog on」で有効化する（既定は無効）。
+ * 長いボス戦を後から解析・再生するための出力で、ゲーム進行には影響しない。
+ */
+public class BattleEventJsonlExporter implements BattleEventLog.Listener {
+
+    private static final String LOG_DIR = "userdata/logs/battle";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static volatile boolean enabled = false;
+
+    private BufferedWriter writer;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    @Override
+    public void onEvents(BattleEventLog log, long fromSeq, long toSeq) {
+        try {
+            for (long seq = fromSeq; seq < toSeq; seq++) {
+                BattleEventLog.Entry e = log.get(seq);
+                if (e == null)
+                    continue;
+                if (writer == null) {
+                    open(e.getType() == BattleEventLog.Type.BATTLE_START ? e.getRef() : "unknown");
+                }
+                writer.write(toJson(e));
+                writer.newLine();
+                if (e.getType() == BattleEventLog.Type.BATTLE_END) {
+                    close();
+                }
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException ex) {
+            System.err.println("[BattleEventJsonlExporter] 書き込みに失敗: " + ex.getMessage());
+            close();
+        }
+    }
+
+    private void open(String enemyId) throws IOException {
+        Path dir = Paths.get(LOG_DIR);
+        Files.createDirectories(dir);
+        String safeId = (enemyId != null) ? enemyId.replaceAll("[^A-Za-z0-9_\\-]", "_") : "unknown";
+        Path file = dir.resolve(LocalDateTime.now().format(FILE_TIME) + "_" + safeId + ".jsonl");
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    private void close() {
+        if (writer == null)
+            return;
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            // 閉じる際の失敗は無視
+        }
+        writer = null;
+    }
+
+    static String toJson(BattleEventLog.Entry e) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("seq", e.getSeq());
+        obj.addProperty("type", e.getType().name());
+        obj.addProperty("turn", e.getTurn());
+        if (e.getActor() != BattleEventLog.Actor.NONE) {
+            obj.addProperty("actor", e.getActor().name());
+        }
+        obj.addProperty("a", e.getA());
+        obj.addProperty("b", e.getB());
+        obj.addProperty("c", e.getC());
+        if (e.getFlag()) {
+            obj.addProperty("flag", true);
+        }
+        if (e.getRef() != null) {
+            obj.addProperty("ref", e.getRef());
+        }
+        if (e.getSubject() != null) {
+            obj.addProperty("subject", e.getSubject());
+        }
+        return obj.toString();
+    }
+}
@@ -0,0 +1,246 @@
+package com.kh.tbrr.battle;
+
+/**
+ * 戦闘中に発生した出来事（ターン開始、行動順、移動、命中/ミス、ダメージ、状態付与/解除、SP変化）を
+ * 型付きイベントとして記録するリングバッファ。
+ *
+ * エントリは生成時にすべて確保しておき、記録時は中身を上書きするだけなので戦闘中の割り当ては発生しない。
+ * 記録したイベントは {@link #publish()} でまとめてリスナーへ渡す（BattleManager はターンごとに1回呼ぶ）。
+ * 戦闘パネルの要約ログや JSONL 出力はすべてこのバッファの消費者として実装する。
+ */
+public class BattleEventLog {
+
+    /** イベントの種類 */
+    public enum Type {
+        BATTLE_START, // subject=敵名, ref=敵ID
+        TURN_START, // turn, a=距離, b=プレイヤーSP, c=敵SP
+        INITIATIVE, // a=プレイヤー値, b=敵値, flag=プレイヤー先行
+        MOVE, // actor, a=移動前距離, b=移動後距離
+        FORCED_MOVE, // actor(動かされた側), a=移動前距離, b=移動後距離, ref=アビリティ名
+        HIT, // actor, subject=対象名, ref=アビリティ名, flag=クリティカル
+        MISS, // actor, subject=対象名, ref=アビリティ名
+        DAMAGE, // actor(攻撃側), subject=対象名, a=総ダメージ, b=HPに通った量, c=SP吸収量, flag=クリティカル
+        CONDITION_APPLIED, // actor(付与された側), ref=状態ID, a=持続ターン
+        CONDITION_EXPIRED, // actor(解除された側), ref=状態ID
+        SP_CHANGE, // actor, a=変化前, b=変化後
+        BATTLE_END // ref=BattleResult名
+    }
+
+    /** 行動主体 */
+    public enum Actor {
+        NONE, PLAYER, ENEMY
+    }
+
+    /**
+     * 1件分のイベント。リングバッファ内で使い回されるため、リスナーの外へ参照を持ち出さないこと。
+     */
+    public static final class Entry {
+        private long seq;
+        private Type type;
+        private int turn;
+        private Actor actor;
+        private int a;
+        private int b;
+        private int c;
+        private boolean flag;
+        private String ref;
+        private String subject;
+
+        public long getSeq() { return seq; }
+        public Type getType() { return type; }
+        public int getTurn() { return turn; }
+        public Actor getActor() { return actor; }
+        public int getA() { return a; }
+        public int getB() { return b; }
+        public int getC() { return c; }
+        public boolean getFlag() { return flag; }
+        public String getRef() { return ref; }
+        public String getSubject() { return subject; }
+    }
+
+    /**
+     * イベントの消費者。publish() のたびに、前回以降に記録されたイベントの範囲を受け取る。
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param log     イベントログ（範囲内のエントリは {@link BattleEventLog#get(long)} で参照）
+         * @param fromSeq 今回分の先頭シーケンス番号（含む）
+         * @param toSeq   今回分の末尾シーケンス番号（含まない）
+         */
+        void onEvents(BattleEventLog log, long fromSeq, long toSeq);
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final java.util.List<Listener> listeners = new java.util.ArrayList<>();
+
+    /** 次に書き込むシーケンス番号 */
+    private long nextSeq = 0;
+    /** 最後にpublishした位置 */
+    private long publishedSeq = 0;
+    /** 現在のターン数（TURN_START で更新され、以後のイベントに付与される） */
+    private int currentTurn = 0;
+
+    public BattleEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 保持件数（2のべき乗に切り上げる）
+     */
+    public BattleEventLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        this.entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+        }
+        this.mask = size - 1;
+    }
+
+    public void addListener(Listener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** 戦闘開始時にバッファを空にする（リスナーは維持する） */
+    public void reset() {
+        nextSeq = 0;
+        publishedSeq = 0;
+        currentTurn = 0;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /** 記録済みの件数（上書きで失われた分も含む） */
+    public long getNextSeq() {
+        return nextSeq;
+    }
+
+    /** バッファ内に残っている最古のシーケンス番号 */
+    public long getOldestSeq() {
+        return Math.max(0, nextSeq - entries.length);
+    }
+
+    /**
+     * 指定シーケンスのエントリを返す。上書き済み・未記録なら null。
+     */
+    public Entry get(long seq) {
+        if (seq < getOldestSeq() || seq >= nextSeq)
+            return null;
+        return entries[(int) (seq & mask)];
+    }
+
+    // =============================================
+    // --- 記録 ---
+    // =============================================
+
+    public void record(Type type, Actor actor, int a, int b, int c, boolean flag, String ref, String subject) {
+        Entry e = entries[(int) (nextSeq & mask)];
+        e.seq = nextSeq;
+        e.type = type;
+        e.turn = currentTurn;
+        e.actor = actor;
+        e.a = a;
+        e.b = b;
+        e.c = c;
+        e.flag = flag;
+        e.ref = ref;
+        e.subject = subject;
+        nextSeq++;
+    }
+
+    public void turnStart(int turn, int distance, int playerSp, int enemySp) {
+        currentTurn = turn;
+        record(Type.TURN_START, Actor.NONE, distance, playerSp, enemySp, false, null, null);
+    }
+
+    public void battleStart(String enemyId, String enemyName) {
+        record(Type.BATTLE_START, Actor.NONE, 0, 0, 0, false, enemyId, enemyName);
+    }
+
+    public void initiative(int playerValue, int enemyValue, boolean playerFirst) {
+        record(Type.INITIATIVE, Actor.NONE, playerValue, enemyValue, 0, playerFirst, null, null);
+    }
+
+    public void move(Actor actor, int fromDistance, int toDistance) {
+        if (fromDistance != toDistance) {
+            record(Type.MOVE, actor, fromDistance, toDistance, 0, false, null, null);
+        }
+    }
+
+    /** アビリティによる強制的な距離変更（ノックバック等）。actor は動かされた側 */
+    public void forcedMove(Actor moved, int fromDistance, int toDistance, String abilityName) {
+        if (fromDistance != toDistance) {
+            record(Type.FORCED_MOVE, moved, fromDistance, toDistance, 0, false, abilityName, null);
+        }
+    }
+
+    public void hit(Actor actor, String targetName, String abilityName, boolean critical) {
+        record(Type.HIT, actor, 0, 0, 0, critical, abilityName, targetName);
+    }
+
+    public void miss(Actor actor, String targetName, String abilityName) {
+        record(Type.MISS, actor, 0, 0, 0, false, abilityName, targetName);
+    }
+
+    public void damage(Actor actor, String targetName, int total, int hpDamage, boolean critical) {
+        record(Type.DAMAGE, actor, total, hpDamage, total - hpDamage, critical, null, targetName);
+    }
+
+    public void conditionApplied(Actor target, String conditionId, int duration) {
+        record(Type.CONDITION_APPLIED, target, duration, 0, 0, false, conditionId, null);
+    }
+
+    public void conditionExpired(Actor target, String conditionId) {
+        record(Type.CONDITION_EXPIRED, target, 0, 0, 0, false, conditionId, null);
+    }
+
+    public void spChange(Actor actor, int before, int after) {
+        if (before != after) {
+            record(Type.SP_CHANGE, actor, before, after, 0, false, null, null);
+        }
+    }
+
+    public void battleEnd(String result) {
+        record(Type.BATTLE_END, Actor.NONE, 0, 0, 0, false, result, null);
+    }
+
+    // =============================================
+    // --- 配信 ---
+    // =============================================
+
+    /**
+     * 前回の publish 以降に記録されたイベントをまとめてリスナーへ渡す。
+     * バッファ容量を超えて上書きされた分は範囲から除外される。
+     */
+    public void publish() {
+        long from = Math.max(publishedSeq, getOldestSeq());
+        long to = nextSeq;
+        publishedSeq = to;
+        if (from >= to)
+            return;
+        for (Listener l : listeners) {
+            l.onEvents(this, from, to);
+        }
+    }
+
+    /**
+     * バッファに残っている全イベントを指定リスナーへ渡し直す（リプレイ・解析用）。
+     */
+    public void replay(Listener listener) {
+        long from = getOldestSeq();
+        if (from < nextSeq) {
+            listener.onEvents(this, from, nextSeq);
+        }
+    }
+}
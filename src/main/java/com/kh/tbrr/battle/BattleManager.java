@@ -4,6 +4,7 @@ import com.kh.tbrr.data.models.Item;
 import com.kh.tbrr.data.models.CombatConditionData;
 import com.kh.tbrr.data.ItemRegistry;
 import com.kh.tbrr.data.CombatConditionRegistry;
+import com.kh.tbrr.ui.BattleViewModel;
 import com.kh.tbrr.ui.GameUI;
 import com.kh.tbrr.ui.JavaFXUI;
 import com.kh.tbrr.manager.DataManager;
@@ -31,11 +32,21 @@ public class BattleManager {
     private DataManager dataManager;
     private Random random;
 
+    /** 戦闘中の出来事を型付きで記録するログ（戦闘パネル・JSONL出力が購読する） */
+    private final BattleEventLog eventLog = new BattleEventLog();
+
     public BattleManager(GameUI ui, Player player, DataManager dataManager) {
+        this(ui, player, dataManager, new Random());
+    }
+
+    /**
+     * 乱数を指定して生成する（シード固定のベンチマーク・再現用）。
+     */
+    BattleManager(GameUI ui, Player player, DataManager dataManager, Random random) {
         this.ui = ui;
         this.player = player;
         this.dataManager = dataManager;
-        this.random = new Random();
+        this.random = random;
     }
 
     public BattleState getState() {
@@ -54,10 +65,14 @@ public class BattleManager {
         return lastResult;
     }
 
+    public BattleEventLog getEventLog() {
+        return eventLog;
+    }
+
     /**
      * 現在のプレイヤーの恒常特徴（Trait）と、装備由来のTrait、スタンスから得られる一時特徴を合算して返す。
      */
-    private java.util.List<TraitData> getActivePlayerTraits() {
+    java.util.List<TraitData> getActivePlayerTraits() {
         java.util.List<TraitData> list = new java.util.ArrayList<>();
         // getEffectiveTraits() により永続Trait + 装備由来Traitを合算して取得
         for (String id : player.getEffectiveTraits()) {
@@ -97,7 +112,6 @@ public class BattleManager {
     }
 
     public BattleResult startBattle(String enemyId) {
-        state = new BattleState();
         CombatConditionRegistry.loadAll(); // 戦闘用状態異常データの読み込み
         CombatDataLoader.loadAllTraits(); // 特徴（Trait）データの読み込み（二重読み込み防止済み）
         CombatDataLoader.loadAllStances(); // スタンスデータの読み込み（UI表示名からの自動検索用）
@@ -111,27 +125,21 @@ public class BattleManager {
         }
         ui.updateAvailableStances(stanceNames);
 
-        EnemyData enemy = dataManager.loadEnemyData(enemyId);
+        EnemyInstance enemy = dataManager.createEnemyInstance(enemyId);
         if (enemy == null) {
             ui.print("【エラー】敵データの読み込みに失敗しました: " + enemyId);
             return lastResult;
         }
-        state.setCurrentEnemy(enemy);
-        if (enemy.getInitialCombatConditions() != null) {
-            for (var cond : enemy.getInitialCombatConditions()) {
-                state.getEnemyConditions()
-                        .add(new BattleState.ActiveCombatCondition(cond.getConditionId(), cond.getDuration()));
-            }
+        setUpBattle(enemy);
+        if (BattleEventJsonlExporter.isEnabled()) {
+            eventLog.addListener(new BattleEventJsonlExporter());
         }
 
-        // --- SP初期化 ---
-        player.setCurrentSp(player.calcInitialSp());
-        enemy.setCurrentSp(enemy.getInitialSp());
-
         ui.print("【バトル開始！】 " + enemy.getName() + " に遭遇した！");
 
         if (ui instanceof JavaFXUI) {
             JavaFXUI jfxUi = (JavaFXUI) ui;
+            eventLog.addListener(jfxUi::onBattleEvents);
             jfxUi.setBattleMode(true);
             // サブウィンドウに戦闘情報パネルを表示する
             jfxUi.showBattlePanel();
@@ -155,113 +163,36 @@ public class BattleManager {
                 ui.print("【敵】" + enemy.getName() + " (HP: " + enemy.getHp() + "/" + enemy.getMaxHp() + ")");
                 ui.print("コマンドを選択してください。");
 
-                // サブウィンドウの戦闘情報をターン開始時に一括更新
-                jfxUi.updateBattlePanel(
-                        state.getTurnCount(), state.getDistance(),
-                        player, enemy,
-                        state.getPlayerConditions(), state.getEnemyConditions());
-                // ターン间切りログ
-                jfxUi.appendBattleLog("\u2500── ターン " + state.getTurnCount() + " ───");
-
-                // 逃走可否をUIへ通知
+                // 逃走可否
                 // 距離3以上かつcanFlee=trueなら「逃げる」を表示する
                 // （後退+1で距離4に達するため、距離3からでも逃走できる）
                 boolean fleeAvailable = (state.getDistance() >= 3) && enemy.isCanFlee();
-                ui.updateFleeAvailability(fleeAvailable);
+
+                // サブウィンドウの戦闘情報をターン開始時に一括更新（逃走可否も含む）
+                jfxUi.updateBattlePanel(BattleViewModel.capture(
+                        state.getTurnCount(), state.getDistance(),
+                        player, enemy,
+                        state.getPlayerConditions(), state.getEnemyConditions(),
+                        fleeAvailable));
+                // ターン区切り（前ターンの出来事と合わせて、コマンド入力前に一括でパネルへ反映）
+                // ステータスとログは同じパルスで描画される（逃走の成否は processPlayerTurn 側でも判定する）
+                eventLog.turnStart(state.getTurnCount(), state.getDistance(),
+                        player.getCurrentSp(), enemy.getCurrentSp());
+                eventLog.publish();
 
                 BattleCommand cmd = jfxUi.getBattleCommand();
                 if (cmd != null) {
-                    // ターン開始時点で今回選んだスタンスをStateに記憶させておく
-                    state.setCurrentPlayerStance(cmd.getStance() != null ? cmd.getStance() : "なし");
-
-                    // プレイヤーの行動順ボーナスを計算
-                    int playerInitBonus = 0;
-                    for (TraitData td : getActivePlayerTraits()) {
-                        if (td.getInitiativeBonus() != 0)
-                            playerInitBonus += td.getInitiativeBonus();
+                    BattleResult result = resolveTurn(cmd, enemy);
+                    if (result != null) {
+                        lastResult = result;
+                        battleEnded = true;
                     }
-
-                    // 敵の行動順ボーナスを計算
-                    int enemyInitBonus = 0;
-                    for (TraitData td : getActiveEnemyTraits()) {
-                        if (td.getInitiativeBonus() != 0)
-                            enemyInitBonus += td.getInitiativeBonus();
-                    }
-
-                    // --- イニシアチブ判定（機敏 + 1d6 + ボーナス） ---
-                    int playerFinesse = (player.getCombatStats() != null) ? player.getCombatStats().finesse() : 0;
-                    int enemyFinesse = enemy.getFinesse();
-                    int playerInitiative = playerFinesse + DiceRoller.roll("1d6") + playerInitBonus;
-                    int enemyInitiative = enemyFinesse + DiceRoller.roll("1d6") + enemyInitBonus;
-
-                    boolean playerGoesFirst = playerInitiative >= enemyInitiative;
-                    String initMsg = playerGoesFirst ? "(プレイヤー先行)" : "(敵先行)";
-
-                    String pBonusStr = playerInitBonus != 0
-                            ? " (補正 " + (playerInitBonus > 0 ? "+" : "") + playerInitBonus + ")"
-                            : "";
-                    String eBonusStr = enemyInitBonus != 0
-                            ? " (補正 " + (enemyInitBonus > 0 ? "+" : "") + enemyInitBonus + ")"
-                            : "";
-
-                    ui.print("　[行動順判定: プレイヤー " + playerInitiative + pBonusStr + " vs 敵 " + enemyInitiative + eBonusStr
-                            + "] " + initMsg);
-
-                    if (playerGoesFirst) {
-                        // プレイヤー先行
-                        ui.print("＞プレイヤーの行動: " + cmd.toString());
-                        boolean escapeSuccess = processPlayerTurn(cmd, enemy);
-                        if (escapeSuccess) {
-                            lastResult = BattleResult.FLED;
-                            battleEnded = true;
-                            continue;
-                        }
-                        if (enemy.getHp() <= 0) {
-                            ui.print("【勝利！】 " + enemy.getName() + " を倒した！");
-                            lastResult = BattleResult.VICTORY;
-                            battleEnded = true;
-                            continue;
-                        }
-                        // 敵のターン
-                        processEnemyTurn(enemy);
-                        if (player.getHp() <= 0) {
-                            lastResult = BattleResult.DEFEAT;
-                            battleEnded = true;
-                            continue;
-                        }
-                    } else {
-                        // 敵先行
-                        processEnemyTurn(enemy);
-                        if (player.getHp() <= 0) {
-                            lastResult = BattleResult.DEFEAT;
-                            battleEnded = true;
-                            continue;
-                        }
-                        // プレイヤーのターン
-                        ui.print("＞プレイヤーの行動: " + cmd.toString());
-                        boolean escapeSuccess = processPlayerTurn(cmd, enemy);
-                        if (escapeSuccess) {
-                            lastResult = BattleResult.FLED;
-                            battleEnded = true;
-                            continue;
-                        }
-                        if (enemy.getHp() <= 0) {
-                            ui.print("【勝利！】 " + enemy.getName() + " を倒した！");
-                            lastResult = BattleResult.VICTORY;
-                            battleEnded = true;
-                            continue;
-                        }
-                    }
-
-                    // --- ターン終了処理（ステータス更新） ---
-                    updateConditions(state.getPlayerConditions());
-                    updateConditions(state.getEnemyConditions());
-
-                    state.incrementTurn();
                 }
             }
 
-            // 戦闘終了時にUIを通常モードに戻す
+            // 最終ターンの出来事を反映してから、戦闘終了時にUIを通常モードに戻す
+            eventLog.battleEnd(lastResult.name());
+            eventLog.publish();
             jfxUi.setBattleMode(false);
             jfxUi.hideBattlePanel(); // 戦闘パネルを閉じて背景画像に戻す
             ui.showImage("enemy", ""); // 敵画像を消去（非表示にする）
@@ -276,6 +207,111 @@ public class BattleManager {
         return lastResult;
     }
 
+    /**
+     * 1ターン分（行動順判定 → 両者の行動 → ターン終了処理）を解決する。
+     *
+     * @return 戦闘が終わった場合はその結果、続行する場合は null
+     */
+    BattleResult resolveTurn(BattleCommand cmd, EnemyInstance enemy) {
+        // ターン開始時点で今回選んだスタンスをStateに記憶させておく
+        state.setCurrentPlayerStance(cmd.getStance() != null ? cmd.getStance() : "なし");
+
+        // プレイヤーの行動順ボーナスを計算
+        int playerInitBonus = 0;
+        for (TraitData td : getActivePlayerTraits()) {
+            if (td.getInitiativeBonus() != 0)
+                playerInitBonus += td.getInitiativeBonus();
+        }
+
+        // 敵の行動順ボーナスを計算
+        int enemyInitBonus = 0;
+        for (TraitData td : getActiveEnemyTraits()) {
+            if (td.getInitiativeBonus() != 0)
+                enemyInitBonus += td.getInitiativeBonus();
+        }
+
+        // --- イニシアチブ判定（機敏 + 1d6 + ボーナス） ---
+        int playerFinesse = (player.getCombatStats() != null) ? player.getCombatStats().finesse() : 0;
+        int enemyFinesse = enemy.getFinesse();
+        int playerInitiative = playerFinesse + DiceRoller.roll("1d6") + playerInitBonus;
+        int enemyInitiative = enemyFinesse + DiceRoller.roll("1d6") + enemyInitBonus;
+
+        boolean playerGoesFirst = playerInitiative >= enemyInitiative;
+        eventLog.initiative(playerInitiative, enemyInitiative, playerGoesFirst);
+        String initMsg = playerGoesFirst ? "(プレイヤー先行)" : "(敵先行)";
+
+        String pBonusStr = playerInitBonus != 0
+                ? " (補正 " + (playerInitBonus > 0 ? "+" : "") + playerInitBonus + ")"
+                : "";
+        String eBonusStr = enemyInitBonus != 0
+                ? " (補正 " + (enemyInitBonus > 0 ? "+" : "") + enemyInitBonus + ")"
+                : "";
+
+        ui.print("　[行動順判定: プレイヤー " + playerInitiative + pBonusStr + " vs 敵 " + enemyInitiative + eBonusStr
+                + "] " + initMsg);
+
+        if (playerGoesFirst) {
+            // プレイヤー先行
+            ui.print("＞プレイヤーの行動: " + cmd.toString());
+            boolean escapeSuccess = processPlayerTurn(cmd, enemy);
+            if (escapeSuccess) {
+                return BattleResult.FLED;
+            }
+            if (enemy.getHp() <= 0) {
+                ui.print("【勝利！】 " + enemy.getName() + " を倒した！");
+                return BattleResult.VICTORY;
+            }
+            // 敵のターン
+            processEnemyTurn(enemy);
+            if (player.getHp() <= 0) {
+                return BattleResult.DEFEAT;
+            }
+        } else {
+            // 敵先行
+            processEnemyTurn(enemy);
+            if (player.getHp() <= 0) {
+                return BattleResult.DEFEAT;
+            }
+            // プレイヤーのターン
+            ui.print("＞プレイヤーの行動: " + cmd.toString());
+            boolean escapeSuccess = processPlayerTurn(cmd, enemy);
+            if (escapeSuccess) {
+                return BattleResult.FLED;
+            }
+            if (enemy.getHp() <= 0) {
+                ui.print("【勝利！】 " + enemy.getName() + " を倒した！");
+                return BattleResult.VICTORY;
+            }
+        }
+
+        // --- ターン終了処理（ステータス更新） ---
+        updateConditions(state.getPlayerConditions(), BattleEventLog.Actor.PLAYER);
+        updateConditions(state.getEnemyConditions(), BattleEventLog.Actor.ENEMY);
+
+        state.incrementTurn();
+        return null;
+    }
+
+    /**
+     * 戦闘状態を初期化し、敵を配置する（初期状態異常・SP・イベントログの開始）。
+     */
+    void setUpBattle(EnemyInstance enemy) {
+        state = new BattleState();
+        eventLog.reset();
+        state.setCurrentEnemy(enemy);
+        if (enemy.getInitialCombatConditions() != null) {
+            for (var cond : enemy.getInitialCombatConditions()) {
+                state.getEnemyConditions()
+                        .add(new BattleState.ActiveCombatCondition(cond.getConditionId(), cond.getDuration()));
+            }
+        }
+
+        // --- SP初期化 ---
+        player.setCurrentSp(player.calcInitialSp());
+        enemy.setCurrentSp(enemy.getInitialSp());
+        eventLog.battleStart(enemy.getId(), enemy.getName());
+    }
+
     /**
      * アビリティがリスト式自動アップグレードに対応している場合、プレイヤーの所持数に応じて上位のアビリティデータに変換して返す。
      * 条件を満たさない場合は元のアビリティデータをそのまま返す。
@@ -319,7 +355,7 @@ public class BattleManager {
         return baseAbility;
     }
 
-    private boolean processPlayerTurn(BattleCommand cmd, EnemyData enemy) {
+    private boolean processPlayerTurn(BattleCommand cmd, EnemyInstance enemy) {
         // [0] ターン開始時に自身の防御状態を解除
         state.setPlayerDefending(false);
         // [0.5] 今回のターンのスタンス(構え)を保持（相手ターンの割り込み等で使用）
@@ -381,8 +417,10 @@ public class BattleManager {
             moveAmount = 2; // 全力移動なら2マス動く
         }
 
+        int distanceBeforeMove = state.getDistance();
         if ("前進".equals(move)) {
             state.setDistance(Math.max(0, state.getDistance() - moveAmount));
+            eventLog.move(BattleEventLog.Actor.PLAYER, distanceBeforeMove, state.getDistance());
             ui.print("　プレイヤーは前進した。（現在距離: " + state.getDistance() + "）");
         } else if ("後退".equals(move)) {
             if (state.getDistance() == 0) {
@@ -397,6 +435,7 @@ public class BattleManager {
             // プレイヤーが死んでいなければ後退する
             if (player.getHp() > 0) {
                 state.setDistance(Math.min(4, state.getDistance() + moveAmount));
+                eventLog.move(BattleEventLog.Actor.PLAYER, distanceBeforeMove, state.getDistance());
                 ui.print("　プレイヤーは後退した。（現在距離: " + state.getDistance() + "）");
             }
         }
@@ -447,6 +486,7 @@ public class BattleManager {
                     if (!foundProne) {
                         state.getPlayerConditions().add(new BattleState.ActiveCombatCondition("prone", 1));
                     }
+                    eventLog.conditionApplied(BattleEventLog.Actor.PLAYER, "prone", 1);
                     ui.print("　★ " + playerName + " は [転倒] になった！");
 
                     return false; // 以降の攻撃処理をすべて不発にする
@@ -545,7 +585,11 @@ public class BattleManager {
                 }
 
                 // ダメージ処理（SP→HPの順）
+                int enemySpBefore = enemy.getCurrentSp();
                 int hpDamage = enemy.applyBattleDamage(totalDamage, false);
+                eventLog.hit(BattleEventLog.Actor.PLAYER, enemy.getName(), ability.getName(), isCritical);
+                eventLog.damage(BattleEventLog.Actor.PLAYER, enemy.getName(), totalDamage, hpDamage, isCritical);
+                eventLog.spChange(BattleEventLog.Actor.ENEMY, enemySpBefore, enemy.getCurrentSp());
 
                 String diceMsg = "(基礎ダイス:" + diceRoll + (masteryLevel > 0 ? " + 習熟追加" + masteryLevel + "d4" : "")
                         + " + 習熟固定:" + masteryFixedBonus + " + ステ修正:" + scalingStatVal + ")";
@@ -554,13 +598,6 @@ public class BattleManager {
                 int spAbsorbed = totalDamage - hpDamage;
                 String spMsg = spAbsorbed > 0 ? "（SP" + spAbsorbed + "吸収、HPに" + hpDamage + "通った）" : "";
                 ui.print("　命中！ " + enemy.getName() + " に " + totalDamage + " のダメージ！ " + diceMsg + critMsg + spMsg);
-                // サブウィンドウのログに要約を追記
-                if (ui instanceof JavaFXUI) {
-                    String logSummary = "命中！" + enemy.getName() + "に" + totalDamage + "ダメージ"
-                            + (isCritical ? "　[クリティカル]" : "")
-                            + (spAbsorbed > 0 ? "　SP" + spAbsorbed + "吸収" : "");
-                    ((JavaFXUI) ui).appendBattleLog(logSummary);
-                }
 
                 // --- CombatCondition付与の処理 ---
                 if (ability.getApplyCombatConditions() != null) {
@@ -579,6 +616,8 @@ public class BattleManager {
                                 state.getEnemyConditions().add(
                                         new BattleState.ActiveCombatCondition(app.getConditionId(), app.getDuration()));
                             }
+                            eventLog.conditionApplied(BattleEventLog.Actor.ENEMY, app.getConditionId(),
+                                    app.getDuration());
                             CombatConditionData cData = CombatConditionRegistry
                                     .getConditionById(app.getConditionId());
                             if (cData != null) {
@@ -591,6 +630,7 @@ public class BattleManager {
                 // --- アビリティによる強制距離変更（ノックバック等）---
                 if (ability.getForceDistanceTo() != null) {
                     int forced = Math.max(0, Math.min(4, ability.getForceDistanceTo()));
+                    eventLog.forcedMove(BattleEventLog.Actor.ENEMY, state.getDistance(), forced, ability.getName());
                     state.setDistance(forced);
                     ui.print("　★ 吹き飛ばし！ 距離が " + forced + " に変化した。");
                 }
@@ -604,10 +644,7 @@ public class BattleManager {
 
             } else {
                 ui.print("　かわされた！（ミス！）");
-                // サブウィンドウのログに要約を追記
-                if (ui instanceof JavaFXUI) {
-                    ((JavaFXUI) ui).appendBattleLog("攻撃がかわされた！");
-                }
+                eventLog.miss(BattleEventLog.Actor.PLAYER, enemy.getName(), ability.getName());
             }
         }
         return false;
@@ -620,7 +657,7 @@ public class BattleManager {
      * offHandDamageMultiplier（デフォルト0.5倍）
      * - オフハンド武器のcombatStatsボーナスは適用しない（仕様）
      */
-    private void processOffHandAttack(EnemyData enemy, AbilityData ability, CombatBaseRules baseRules) {
+    private void processOffHandAttack(EnemyInstance enemy, AbilityData ability, CombatBaseRules baseRules) {
         // 二刀流特徴（Trait）を探す
         final TraitData dualWield = getActivePlayerTraits().stream()
                 .filter(t -> t != null && "SYSTEMIC".equals(t.getType()) && "DUAL_WIELD".equals(t.getSystemicEffect()))
@@ -686,12 +723,15 @@ public class BattleManager {
             }
 
             enemy.setHp(enemy.getHp() - offDamage);
+            eventLog.hit(BattleEventLog.Actor.PLAYER, enemy.getName(), offHandWeapon.getName(), offResult.isCritical);
+            eventLog.damage(BattleEventLog.Actor.PLAYER, enemy.getName(), offDamage, offDamage, offResult.isCritical);
             String penaltyMsg = penaltyFree ? "（ペナルティなし）"
                     : "（命中" + dualWield.getOffHandHitPenalty() + "%・ダメージ×" + offDmgMult + "）";
             String critMsg2 = offResult.isCritical ? " 【クリティカル！】" : "";
             ui.print("　　オフハンド命中！ " + enemy.getName() + " に " + offDamage + " のダメージ！" + penaltyMsg + critMsg2);
         } else {
             ui.print("　　オフハンドは外れた！");
+            eventLog.miss(BattleEventLog.Actor.PLAYER, enemy.getName(), offHandWeapon.getName());
         }
     }
 
@@ -833,7 +873,7 @@ public class BattleManager {
     }
 
     // 敵のターン処理
-    private void processEnemyTurn(EnemyData enemy) {
+    private void processEnemyTurn(EnemyInstance enemy) {
         state.setEnemyDefending(false); // 敵ターン開始時に自身の防御状態を解除
 
         // --- 相手のスタンスによる特殊トリガー（対抗呪文など）の判定枠 ---
@@ -844,6 +884,7 @@ public class BattleManager {
         CombatBaseRules baseRules = CombatDataLoader.getBaseRules();
 
         // --- 1. ムーブの実行 ---
+        int distanceBeforeMove = state.getDistance();
         if ("predator".equalsIgnoreCase(enemy.getAiType())) {
             // Predator: 可能なら前進する
             if (state.getDistance() > 0) {
@@ -870,36 +911,28 @@ public class BattleManager {
             // 移動メッセージも出さず、距離の変化も起こさない
         }
 
+        eventLog.move(BattleEventLog.Actor.ENEMY, distanceBeforeMove, state.getDistance());
+
         // --- 2. ルール評価とアクション決定 ---
-        EnemyData.AIActionChoice selectedChoice = null;
+        // 条件・重みは読み込み時にコンパイル済み（EnemyActionTable）
+        EnemyTemplate.AIActionChoice selectedChoice = null;
         String selectedAbilityId = null;
-        EnemyData.AIActionRule matchedRule = null;
-
-        if (enemy.getActionRules() != null) {
-            for (EnemyData.AIActionRule rule : enemy.getActionRules()) {
-                // 使用回数チェック
-                int usedCount = enemy.getRuleUsageCounts().getOrDefault(rule, 0);
-                if (rule.getMaxUses() != -1 && usedCount >= rule.getMaxUses()) {
-                    continue; // 回数上限に達している場合はスキップ
-                }
-
-                // 条件チェック（移動後の距離で判定）
-                boolean conditionMet = evaluateEnemyCondition(rule.getCondition(), state.getDistance(), enemy, player);
-                if (conditionMet) {
-                    matchedRule = rule;
-                    selectedChoice = selectAbilityFromRule(rule);
-                    if (selectedChoice != null) {
-                        selectedAbilityId = selectedChoice.getAbility();
-                    }
-                    break;
-                }
+        EnemyActionTable table = enemy.getActionTable();
+        int[] usageCounts = enemy.getRuleUsageCounts();
+
+        // 条件チェック（移動後の距離で判定）
+        int matchedRule = table.findRule(state, enemy, player, usageCounts);
+        if (matchedRule >= 0) {
+            selectedChoice = table.pick(matchedRule, random);
+            if (selectedChoice != null) {
+                selectedAbilityId = selectedChoice.getAbility();
             }
         }
 
         // --- 3. アクションの実行 ---
         if (selectedAbilityId != null) {
             // 回数カウントアップ
-            enemy.getRuleUsageCounts().put(matchedRule, enemy.getRuleUsageCounts().getOrDefault(matchedRule, 0) + 1);
+            usageCounts[matchedRule]++;
 
             if ("flee".equalsIgnoreCase(selectedAbilityId)) {
                 // 特殊行動: 逃走 (現状メッセージのみ)
@@ -919,45 +952,7 @@ public class BattleManager {
         }
     }
 
-    // 条件評価ヘルパーメソッド
-    private boolean evaluateEnemyCondition(String conditionStr, int currentDistance, EnemyData enemy, Player player) {
-        if (conditionStr == null || conditionStr.isEmpty() || "ALWAYS".equalsIgnoreCase(conditionStr)) {
-            return true;
-        }
-        if (conditionStr.startsWith("DISTANCE_>=_")) {
-            int val = Integer.parseInt(conditionStr.substring(12));
-            return currentDistance >= val;
-        }
-        if (conditionStr.startsWith("DISTANCE_<=_")) {
-            int val = Integer.parseInt(conditionStr.substring(12));
-            return currentDistance <= val;
-        }
-        return false;
-    }
-
-    // 重み付け抽選ヘルパーメソッド
-    private EnemyData.AIActionChoice selectAbilityFromRule(EnemyData.AIActionRule rule) {
-        if (rule.getActions() == null || rule.getActions().isEmpty())
-            return null;
-        int totalWeight = 0;
-        for (EnemyData.AIActionChoice choice : rule.getActions()) {
-            totalWeight += choice.getWeight();
-        }
-        if (totalWeight <= 0)
-            return rule.getActions().get(0);
-
-        int r = random.nextInt(totalWeight);
-        int current = 0;
-        for (EnemyData.AIActionChoice choice : rule.getActions()) {
-            current += choice.getWeight();
-            if (r < current) {
-                return choice;
-            }
-        }
-        return rule.getActions().get(0); // フォールバック
-    }
-
-    private void executeEnemyAttack(EnemyData enemy, AbilityData ability, CombatBaseRules baseRules,
+    private void executeEnemyAttack(EnemyInstance enemy, AbilityData ability, CombatBaseRules baseRules,
             String nameOverride) {
         String abilityName = (nameOverride != null && !nameOverride.isEmpty()) ? nameOverride : ability.getName();
 
@@ -1028,7 +1023,11 @@ public class BattleManager {
             }
 
             // ダメージ処理（SP→HPの順）
+            int playerSpBefore = player.getCurrentSp();
             int hpDamage = player.applyBattleDamage(totalDamage, false);
+            eventLog.hit(BattleEventLog.Actor.ENEMY, player.getName(), abilityName, isCritical);
+            eventLog.damage(BattleEventLog.Actor.ENEMY, player.getName(), totalDamage, hpDamage, isCritical);
+            eventLog.spChange(BattleEventLog.Actor.PLAYER, playerSpBefore, player.getCurrentSp());
 
             String playerName = player.getName() != null ? player.getName() : "冒険者";
             String reduceMsg = reduction > 0 ? "（" + reduction + "ダメージ軽減）" : "";
@@ -1038,24 +1037,14 @@ public class BattleManager {
             String spMsg = spAbsorbed > 0 ? "（SP" + spAbsorbed + "吸収、HPに" + hpDamage + "通った）" : "";
             ui.print("　" + enemy.getName() + " の攻撃！[" + abilityName + "] " + playerName + " に " + totalDamage
                     + " のダメージ！" + reduceMsg + critMsg + spMsg);
-            // サブウィンドウのログに要約を追記
-            if (ui instanceof JavaFXUI) {
-                String logSummary = enemy.getName() + "の攻撃！" + totalDamage + "ダメージ"
-                        + (isCritical ? "　[クリティカル]" : "")
-                        + (spAbsorbed > 0 ? "　SP" + spAbsorbed + "吸収" : "");
-                ((JavaFXUI) ui).appendBattleLog(logSummary);
-            }
             ui.printPlayerStatus(player); // 右パネルのHP/AP表示を更新
         } else {
             ui.print("　" + enemy.getName() + " の攻撃！[" + abilityName + "] ...しかし、回避した！");
-            // サブウィンドウのログに要約を追記
-            if (ui instanceof JavaFXUI) {
-                ((JavaFXUI) ui).appendBattleLog(enemy.getName() + "の攻撃を回避！");
-            }
+            eventLog.miss(BattleEventLog.Actor.ENEMY, player.getName(), abilityName);
         }
     }
 
-    private void executePlayerOpportunityAttack(EnemyData enemy) {
+    private void executePlayerOpportunityAttack(EnemyInstance enemy) {
         CombatBaseRules baseRules = CombatDataLoader.getBaseRules();
         AbilityData ability = CombatDataLoader.getAbility("basic_attack");
         if (ability == null)
@@ -1124,13 +1113,18 @@ public class BattleManager {
             }
 
             // 機会攻撃ダメージ処理（SP→HPの順）
-            enemy.applyBattleDamage(totalDamage, false);
+            int enemySpBefore = enemy.getCurrentSp();
+            int hpDamage = enemy.applyBattleDamage(totalDamage, false);
+            eventLog.hit(BattleEventLog.Actor.PLAYER, enemy.getName(), ability.getName(), result.isCritical);
+            eventLog.damage(BattleEventLog.Actor.PLAYER, enemy.getName(), totalDamage, hpDamage, result.isCritical);
+            eventLog.spChange(BattleEventLog.Actor.ENEMY, enemySpBefore, enemy.getCurrentSp());
             String critMsg = result.isCritical ? " 【クリティカル！" + critMult + "倍】" : "";
             ui.print("　機会攻撃命中！ " + enemy.getName() + " に " + totalDamage + " のダメージ！" + critMsg);
 
             processOffHandAttack(enemy, ability, baseRules);
         } else {
             ui.print("　機会攻撃はかわされた！");
+            eventLog.miss(BattleEventLog.Actor.PLAYER, enemy.getName(), ability.getName());
         }
     }
 
@@ -1160,7 +1154,11 @@ public class BattleManager {
                 totalDamage /= 2;
 
             // 敵機会攻撃のダメージ処理（SP→HPの順）
+            int playerSpBefore = p.getCurrentSp();
             int hpDamage = p.applyBattleDamage(totalDamage, false);
+            eventLog.hit(BattleEventLog.Actor.ENEMY, p.getName(), "機会攻撃", result.isCritical);
+            eventLog.damage(BattleEventLog.Actor.ENEMY, p.getName(), totalDamage, hpDamage, result.isCritical);
+            eventLog.spChange(BattleEventLog.Actor.PLAYER, playerSpBefore, p.getCurrentSp());
             String reduceMsg = reduction > 0 ? "（" + reduction + "ダメージ軽減）" : "";
             int spAbsorbed = totalDamage - hpDamage;
             String spMsg = spAbsorbed > 0 ? "（SP" + spAbsorbed + "吸収）" : "";
@@ -1168,10 +1166,11 @@ public class BattleManager {
             ui.printPlayerStatus(p);
         } else {
             ui.print("　機会攻撃を回避した！");
+            eventLog.miss(BattleEventLog.Actor.ENEMY, p.getName(), "機会攻撃");
         }
     }
 
-    private HitResult checkHit(int attackerStat, int defenderStat, Integer overrideBaseChance, boolean targetDefending,
+    HitResult checkHit(int attackerStat, int defenderStat, Integer overrideBaseChance, boolean targetDefending,
             java.util.List<BattleState.ActiveCombatCondition> atkConds,
             java.util.List<BattleState.ActiveCombatCondition> defConds) {
         CombatBaseRules rules = CombatDataLoader.getBaseRules();
@@ -1211,7 +1210,8 @@ public class BattleManager {
         return new HitResult(roll <= hitChance, false);
     }
 
-    private void updateConditions(java.util.List<BattleState.ActiveCombatCondition> conditions) {
+    private void updateConditions(java.util.List<BattleState.ActiveCombatCondition> conditions,
+            BattleEventLog.Actor owner) {
         java.util.Iterator<BattleState.ActiveCombatCondition> it = conditions.iterator();
         while (it.hasNext()) {
             BattleState.ActiveCombatCondition c = it.next();
@@ -1219,6 +1219,7 @@ public class BattleManager {
                 c.decrementDuration();
                 if (c.getDuration() == 0) {
                     it.remove(); // 効果切れ
+                    eventLog.conditionExpired(owner, c.getConditionId());
                 }
             }
         }
@@ -1266,7 +1267,7 @@ public class BattleManager {
         return mult;
     }
 
-    private static class HitResult {
+    static class HitResult {
         public final boolean isHit;
         public final boolean isCritical;
 
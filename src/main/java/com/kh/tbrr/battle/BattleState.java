@@ -3,7 +3,7 @@ package com.kh.tbrr.battle;
 public class BattleState {
     private int turnCount;
     private int distance; // 0: 至近, 1: 近, 2: 中, 3: 遠, 4: 超遠
-    private EnemyData currentEnemy;
+    private EnemyInstance currentEnemy;
 
     // --- バトル状態フラグ ---
     private boolean playerDefending = false;
@@ -37,11 +37,11 @@ public class BattleState {
         this.distance = distance;
     }
 
-    public EnemyData getCurrentEnemy() {
+    public EnemyInstance getCurrentEnemy() {
         return currentEnemy;
     }
 
-    public void setCurrentEnemy(EnemyData currentEnemy) {
+    public void setCurrentEnemy(EnemyInstance currentEnemy) {
         this.currentEnemy = currentEnemy;
     }
 
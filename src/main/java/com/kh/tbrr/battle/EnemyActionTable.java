@@ -0,0 +1,269 @@
+package com.kh.tbrr.battle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * 敵の行動ルール（actionRules）を、敵データの読み込み時に一度だけ解釈して作る決定テーブル。
+ *
+ * 条件文字列の解析・重みの合計はすべてコンパイル時に済ませておき、
+ * 戦闘中は「前から順に条件を評価 → 最初に一致したルールから重み付き抽選」だけを行う。
+ * ルールの使用回数はルールの並び順（インデックス）で管理する。
+ *
+ * 対応する条件（"&&" で AND 結合可能）:
+ * <ul>
+ * <li>ALWAYS（または空文字・null）</li>
+ * <li>DISTANCE_&gt;=_n / DISTANCE_&lt;=_n / DISTANCE_==_n … 現在距離</li>
+ * <li>TURN_&gt;=_n / TURN_&lt;=_n / TURN_==_n … 現在ターン数</li>
+ * <li>TURN_EVERY_n … nターンごと（ターン数がnの倍数）</li>
+ * <li>HP_PCT_&gt;=_n / HP_PCT_&lt;=_n … 敵自身のHP割合（%）</li>
+ * <li>SP_&gt;=_n / SP_&lt;=_n … 敵自身の現在SP</li>
+ * <li>PLAYER_HP_PCT_&gt;=_n / PLAYER_HP_PCT_&lt;=_n … プレイヤーのHP割合（%）</li>
+ * <li>PLAYER_SP_&gt;=_n / PLAYER_SP_&lt;=_n … プレイヤーの現在SP</li>
+ * <li>PLAYER_HAS_xxx / PLAYER_LACKS_xxx … プレイヤーが戦闘状態xxxを持つ/持たない</li>
+ * <li>SELF_HAS_xxx / SELF_LACKS_xxx … 敵自身が戦闘状態xxxを持つ/持たない</li>
+ * </ul>
+ * 解釈できない条件は従来どおり「常に不成立」として扱う（読み込み時に警告を出す）。
+ */
+public class EnemyActionTable {
+
+    /** コンパイル済みの条件 */
+    @FunctionalInterface
+    interface Condition {
+        boolean test(BattleState state, EnemyInstance enemy, Player player);
+    }
+
+    /** 比較条件の左辺（数値の取り出し方） */
+    @FunctionalInterface
+    private interface IntSource {
+        int get(BattleState state, EnemyInstance enemy, Player player);
+    }
+
+    private static final Condition ALWAYS = (s, e, p) -> true;
+    private static final Condition NEVER = (s, e, p) -> false;
+
+    /** 例: DISTANCE_>=_2, PLAYER_HP_PCT_<=_30 */
+    private static final Pattern COMPARE_PATTERN = Pattern.compile("^([A-Z_]+?)_(>=|<=|==|>|<)_(-?\\d+)$");
+
+    private final Condition[] conditions;
+    private final int[] maxUses;
+    private final EnemyTemplate.AIActionChoice[][] choices;
+    /** 各ルールの累積重み（choicesと同じ並び） */
+    private final int[][] cumulativeWeights;
+    /** 各ルールの重み合計（0以下なら先頭の行動を固定で返す） */
+    private final int[] totalWeights;
+
+    private EnemyActionTable(int size) {
+        this.conditions = new Condition[size];
+        this.maxUses = new int[size];
+        this.choices = new EnemyTemplate.AIActionChoice[size][];
+        this.cumulativeWeights = new int[size][];
+        this.totalWeights = new int[size];
+    }
+
+    /**
+     * 行動ルールのリストから決定テーブルを作る。
+     *
+     * @param rules   JSONから読み込んだ行動ルール（nullなら空テーブル）
+     * @param enemyId 警告表示用の敵ID
+     */
+    public static EnemyActionTable compile(List<EnemyTemplate.AIActionRule> rules, String enemyId) {
+        int size = (rules != null) ? rules.size() : 0;
+        EnemyActionTable table = new EnemyActionTable(size);
+
+        for (int i = 0; i < size; i++) {
+            EnemyTemplate.AIActionRule rule = rules.get(i);
+            table.conditions[i] = compileCondition(rule.getCondition(), enemyId);
+            table.maxUses[i] = rule.getMaxUses();
+
+            List<EnemyTemplate.AIActionChoice> actions = rule.getActions();
+            int n = (actions != null) ? actions.size() : 0;
+            EnemyTemplate.AIActionChoice[] ruleChoices = new EnemyTemplate.AIActionChoice[n];
+            int[] cumulative = new int[n];
+            int total = 0;
+            for (int j = 0; j < n; j++) {
+                ruleChoices[j] = actions.get(j);
+                total += actions.get(j).getWeight();
+                cumulative[j] = total;
+            }
+            table.choices[i] = ruleChoices;
+            table.cumulativeWeights[i] = cumulative;
+            table.totalWeights[i] = total;
+        }
+        return table;
+    }
+
+    /** ルール数 */
+    public int size() {
+        return conditions.length;
+    }
+
+    /**
+     * 使用回数と条件を満たす最初のルールのインデックスを返す。
+     *
+     * @param usageCounts ルールごとの使用回数（インデックスはルールの並び順）
+     * @return 該当ルールのインデックス（なければ -1）
+     */
+    public int findRule(BattleState state, EnemyInstance enemy, Player player, int[] usageCounts) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (maxUses[i] != -1 && usageCounts[i] >= maxUses[i]) {
+                continue; // 回数上限に達している場合はスキップ
+            }
+            if (conditions[i].test(state, enemy, player)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 指定ルールの行動候補から重み付き抽選を行う。
+     * 累積重みを二分探索するため、候補数が多くても抽選コストはほぼ一定。
+     *
+     * @return 選ばれた行動（候補がなければ null）
+     */
+    public EnemyTemplate.AIActionChoice pick(int ruleIndex, Random random) {
+        EnemyTemplate.AIActionChoice[] ruleChoices = choices[ruleIndex];
+        if (ruleChoices.length == 0)
+            return null;
+        int total = totalWeights[ruleIndex];
+        if (total <= 0)
+            return ruleChoices[0];
+
+        int r = random.nextInt(total);
+        int[] cumulative = cumulativeWeights[ruleIndex];
+        // r < cumulative[idx] となる最小の idx を探す
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (r < cumulative[mid]) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return ruleChoices[lo];
+    }
+
+    // =============================================
+    // --- 条件のコンパイル ---
+    // =============================================
+
+    private static Condition compileCondition(String conditionStr, String enemyId) {
+        if (conditionStr == null || conditionStr.trim().isEmpty()) {
+            return ALWAYS;
+        }
+        String[] terms = conditionStr.split("&&");
+        List<Condition> compiled = new ArrayList<>(terms.length);
+        for (String term : terms) {
+            Condition c = compileTerm(term.trim(), enemyId);
+            if (c == NEVER)
+                return NEVER;
+            if (c != ALWAYS)
+                compiled.add(c);
+        }
+        if (compiled.isEmpty())
+            return ALWAYS;
+        if (compiled.size() == 1)
+            return compiled.get(0);
+
+        Condition[] all = compiled.toArray(new Condition[0]);
+        return (s, e, p) -> {
+            for (Condition c : all) {
+                if (!c.test(s, e, p))
+                    return false;
+            }
+            return true;
+        };
+    }
+
+    private static Condition compileTerm(String term, String enemyId) {
+        String upper = term.toUpperCase();
+        if (upper.isEmpty() || "ALWAYS".equals(upper)) {
+            return ALWAYS;
+        }
+
+        // 戦闘状態の有無（IDは大文字小文字を元のまま使う）
+        if (upper.startsWith("PLAYER_HAS_")) {
+            String id = term.substring(11);
+            return (s, e, p) -> hasCondition(s.getPlayerConditions(), id);
+        }
+        if (upper.startsWith("PLAYER_LACKS_")) {
+            String id = term.substring(13);
+            return (s, e, p) -> !hasCondition(s.getPlayerConditions(), id);
+        }
+        if (upper.startsWith("SELF_HAS_")) {
+            String id = term.substring(9);
+            return (s, e, p) -> hasCondition(s.getEnemyConditions(), id);
+        }
+        if (upper.startsWith("SELF_LACKS_")) {
+            String id = term.substring(11);
+            return (s, e, p) -> !hasCondition(s.getEnemyConditions(), id);
+        }
+
+        try {
+            if (upper.startsWith("TURN_EVERY_")) {
+                int n = Integer.parseInt(upper.substring(11));
+                if (n > 0) {
+                    return (s, e, p) -> s.getTurnCount() % n == 0;
+                }
+            } else {
+                Matcher m = COMPARE_PATTERN.matcher(upper);
+                if (m.matches()) {
+                    IntSource source = resolveSource(m.group(1));
+                    if (source != null) {
+                        return compare(source, m.group(2), Integer.parseInt(m.group(3)));
+                    }
+                }
+            }
+        } catch (NumberFormatException ex) {
+            // 下の警告へ
+        }
+
+        System.err.println("[EnemyActionTable] 未対応の行動条件です（常に不成立として扱います）: "
+                + term + " (enemy: " + enemyId + ")");
+        return NEVER;
+    }
+
+    private static IntSource resolveSource(String subject) {
+        return switch (subject) {
+            case "DISTANCE" -> (s, e, p) -> s.getDistance();
+            case "TURN" -> (s, e, p) -> s.getTurnCount();
+            case "HP_PCT" -> (s, e, p) -> percent(e.getHp(), e.getMaxHp());
+            case "SP" -> (s, e, p) -> e.getCurrentSp();
+            case "PLAYER_HP_PCT" -> (s, e, p) -> percent(p.getHp(), p.getEffectiveMaxHp());
+            case "PLAYER_SP" -> (s, e, p) -> p.getCurrentSp();
+            default -> null;
+        };
+    }
+
+    private static Condition compare(IntSource source, String op, int value) {
+        return switch (op) {
+            case ">=" -> (s, e, p) -> source.get(s, e, p) >= value;
+            case "<=" -> (s, e, p) -> source.get(s, e, p) <= value;
+            case ">" -> (s, e, p) -> source.get(s, e, p) > value;
+            case "<" -> (s, e, p) -> source.get(s, e, p) < value;
+            default -> (s, e, p) -> source.get(s, e, p) == value;
+        };
+    }
+
+    private static int percent(int current, int max) {
+        if (max <= 0)
+            return 0;
+        return current * 100 / max;
+    }
+
+    private static boolean hasCondition(List<BattleState.ActiveCombatCondition> conditions, String id) {
+        for (BattleState.ActiveCombatCondition c : conditions) {
+            if (c.getConditionId().equals(id))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package com.kh.tbrr.battle;
+
+/**
+ * 1回の戦闘に登場する敵。
+ * 不変データは {@link EnemyTemplate} を参照し、戦闘中に変化する値（HP・SP・ルール使用回数）だけを持つ。
+ * テンプレートがキャッシュ済みなら、生成はこのオブジェクトの割り当てだけで済む。
+ */
+public class EnemyInstance {
+    private final EnemyTemplate template;
+
+    private int hp;
+    private int currentSp; // 戦闘中の現在SP
+    private final int[] ruleUsageCounts; // ルールごとの使用回数（actionRulesの並び順）
+
+    public EnemyInstance(EnemyTemplate template) {
+        this.template = template;
+        this.hp = template.getInitialHp();
+        this.currentSp = 0;
+        this.ruleUsageCounts = new int[template.getActionTable().size()];
+    }
+
+    public EnemyTemplate getTemplate() { return template; }
+
+    // --- テンプレートへの委譲 ---
+    public String getId() { return template.getId(); }
+    public String getName() { return template.getName(); }
+    public int getMaxHp() { return template.getMaxHp(); }
+    public int getMight() { return template.getMight(); }
+    public int getInsight() { return template.getInsight(); }
+    public int getFinesse() { return template.getFinesse(); }
+    public int getPresence() { return template.getPresence(); }
+    public int getSensuality() { return template.getSensuality(); }
+    public int getMoveSpeed() { return template.getMoveSpeed(); }
+    public int getActionCount() { return template.getActionCount(); }
+    public String getImagePath() { return template.getImagePath(); }
+    public String getBattleBackground() { return template.getBattleBackground(); }
+    public String getDeathCause() { return template.getDeathCause(); }
+    public boolean isCanFlee() { return template.isCanFlee(); }
+    public java.util.List<String> getTraits() { return template.getTraits(); }
+    public java.util.List<com.kh.tbrr.battle.BattleState.ActiveCombatCondition> getInitialCombatConditions() { return template.getInitialCombatConditions(); }
+    public int getInitialSp() { return template.getInitialSp(); }
+    public String getAiType() { return template.getAiType(); }
+    public EnemyActionTable getActionTable() { return template.getActionTable(); }
+    public int getStatByName(String statName) { return template.getStatByName(statName); }
+
+    // --- 戦闘中の状態 ---
+    public int getHp() { return hp; }
+    public void setHp(int hp) { this.hp = hp; }
+    public int getCurrentSp() { return currentSp; }
+    public int[] getRuleUsageCounts() { return ruleUsageCounts; }
+
+    /**
+     * 敵の現在SPをセットする（0〜9999でクランプ）。
+     */
+    public void setCurrentSp(int sp) {
+        this.currentSp = Math.max(0, Math.min(9999, sp));
+    }
+
+    /**
+     * 敵のSPを増減する。
+     */
+    public void modifySp(int amount) {
+        setCurrentSp(this.currentSp + amount);
+    }
+
+    /**
+     * 戦闘中の被ダメージ処理（SP → HP の順）。
+     * @param damage       受けるダメージ量（正の整数）
+     * @param isPenetrating trueの場合はSPを無視してHPに直接ダメージ（将来の貫通攻撃実装用）
+     * @return 実際にHPに通ったダメージ量（ログ表示用）
+     */
+    public int applyBattleDamage(int damage, boolean isPenetrating) {
+        if (isPenetrating || currentSp <= 0) {
+            int newHp = Math.max(0, hp - damage);
+            int actualDamage = hp - newHp;
+            hp = newHp;
+            return actualDamage;
+        }
+        int spAbsorbed = Math.min(currentSp, damage);
+        int overflow = damage - spAbsorbed;
+        setCurrentSp(currentSp - spAbsorbed);
+        if (overflow > 0) {
+            hp = Math.max(0, hp - overflow);
+        }
+        return overflow;
+    }
+}
@@ -1,9 +1,16 @@
 package com.kh.tbrr.battle;
 
-public class EnemyData {
+/**
+ * 敵データのテンプレート（JSONから読み込む不変データ）。
+ * DataManager が敵IDごとに1つだけキャッシュし、戦闘ごとの可変状態（HP・SP・ルール使用回数）は
+ * {@link EnemyInstance} 側に持たせる。戦闘開始はテンプレートから EnemyInstance を作るだけで済む。
+ *
+ * Gson以外から値を書き換えないこと（セッターは持たない）。
+ */
+public class EnemyTemplate {
     private String id;
     private String name;
-    private int hp;
+    private int hp; // 戦闘開始時のHP
     private int maxHp;
     private int might;
     private int insight;
@@ -21,14 +28,13 @@ public class EnemyData {
 
     // SP（シールドポイント）
     private int initialSp = 0;  // JSONで設定可能（省略時は0）
-    private int currentSp = 0;  // 戦闘中の現在SP
 
     // --- AIロジック用追加フィールド ---
     public static class AIActionChoice {
         private String ability;
         private int weight;
         private String nameOverride; // 画面表示用のアビリティ名上書き
-        
+
         public String getAbility() { return ability; }
         public int getWeight() { return weight; }
         public String getNameOverride() { return nameOverride; }
@@ -45,12 +51,28 @@ public class EnemyData {
 
     private String aiType = "predator"; // デフォルトの移動ロジック
     private java.util.List<AIActionRule> actionRules;
-    private transient java.util.Map<AIActionRule, Integer> ruleUsageCounts;
+    private transient EnemyActionTable actionTable; // actionRulesのコンパイル結果
+
+    /**
+     * 読み込み直後に一度だけ呼ぶ（DataManager.loadEnemyTemplate）。
+     * 行動ルールを決定テーブルにコンパイルし、リストを読み取り専用にする。
+     */
+    public void prepare() {
+        actionTable = EnemyActionTable.compile(actionRules, id);
+        if (traits != null) {
+            traits = java.util.Collections.unmodifiableList(traits);
+        }
+        if (actionRules != null) {
+            actionRules = java.util.Collections.unmodifiableList(actionRules);
+        }
+        if (initialCombatConditions != null) {
+            initialCombatConditions = java.util.Collections.unmodifiableList(initialCombatConditions);
+        }
+    }
 
     public String getId() { return id; }
     public String getName() { return name; }
-    public int getHp() { return hp; }
-    public void setHp(int hp) { this.hp = hp; }
+    public int getInitialHp() { return hp; }
     public int getMaxHp() { return maxHp; }
     public int getMight() { return might; }
     public int getInsight() { return insight; }
@@ -64,55 +86,20 @@ public class EnemyData {
     public String getDeathCause() { return deathCause; }
     public boolean isCanFlee() { return canFlee; }
     public java.util.List<String> getTraits() { return traits; }
+    /** 戦闘開始時の状態異常（要素は共有されるため、戦闘中はコピーして使うこと） */
     public java.util.List<com.kh.tbrr.battle.BattleState.ActiveCombatCondition> getInitialCombatConditions() { return initialCombatConditions; }
 
     // SP関連
     public int getInitialSp() { return initialSp; }
-    public int getCurrentSp() { return currentSp; }
-
-    /**
-     * 敵の現在SPをセットする（0〜9999でクランプ）。
-     */
-    public void setCurrentSp(int sp) {
-        this.currentSp = Math.max(0, Math.min(9999, sp));
-    }
-
-    /**
-     * 敵のSPを増減する。
-     */
-    public void modifySp(int amount) {
-        setCurrentSp(this.currentSp + amount);
-    }
-
-    /**
-     * 戦闘中の被ダメージ処理（SP → HP の順）。
-     * @param damage       受けるダメージ量（正の整数）
-     * @param isPenetrating trueの場合はSPを無視してHPに直接ダメージ（将来の貫通攻撃実装用）
-     * @return 実際にHPに通ったダメージ量（ログ表示用）
-     */
-    public int applyBattleDamage(int damage, boolean isPenetrating) {
-        if (isPenetrating || currentSp <= 0) {
-            int newHp = Math.max(0, hp - damage);
-            int actualDamage = hp - newHp;
-            hp = newHp;
-            return actualDamage;
-        }
-        int spAbsorbed = Math.min(currentSp, damage);
-        int overflow = damage - spAbsorbed;
-        setCurrentSp(currentSp - spAbsorbed);
-        if (overflow > 0) {
-            hp = Math.max(0, hp - overflow);
-        }
-        return overflow;
-    }
 
     public String getAiType() { return aiType; }
     public java.util.List<AIActionRule> getActionRules() { return actionRules; }
-    public java.util.Map<AIActionRule, Integer> getRuleUsageCounts() {
-        if (ruleUsageCounts == null) {
-            ruleUsageCounts = new java.util.HashMap<>();
+
+    public EnemyActionTable getActionTable() {
+        if (actionTable == null) {
+            prepare();
         }
-        return ruleUsageCounts;
+        return actionTable;
     }
 
     public int getStatByName(String statName) {
@@ -22,6 +22,20 @@ public class CombatDataLoader {
         return baseRules;
     }
 
+    /**
+     * 戦闘ルールを差し替える（リソースを読まずに戦闘処理だけを動かすベンチマーク用）。
+     */
+    static void setBaseRules(CombatBaseRules rules) {
+        baseRules = rules;
+    }
+
+    /**
+     * アビリティを登録する（リソースを読まずに戦闘処理だけを動かすベンチマーク用）。
+     */
+    static void putAbility(AbilityData data) {
+        abilities.put(data.getId(), data);
+    }
+
     public static AbilityData getAbility(String id) {
         if (!abilities.containsKey(id)) {
             AbilityData data = loadJson("/data/battle/abilities/" + id + ".json", AbilityData.class);
@@ -5,6 +5,13 @@ import java.util.Random;
 public class DiceRoller {
     private static final Random RANDOM = new Random();
 
+    /**
+     * 乱数のシードを固定する（ベンチマーク・再現用。通常のゲーム進行では呼ばない）。
+     */
+    public static void setSeed(long seed) {
+        RANDOM.setSeed(seed);
+    }
+
     /**
      * "1d4", "2d6+3", "10" 等の文字列をパースして合計を返す
      */
@@ -8,6 +8,7 @@ import com.kh.tbrr.data.models.Item;
 import com.kh.tbrr.data.models.Player;
 import com.kh.tbrr.data.models.Scenario;
 import com.kh.tbrr.event.EventProcessor;
+import com.kh.tbrr.manager.AutosaveManager;
 import com.kh.tbrr.manager.DataManager;
 import com.kh.tbrr.manager.DeathManager;
 import com.kh.tbrr.manager.EventManager;
@@ -50,6 +51,9 @@ public class GameEngine {
 	// 現在のシナリオ
 	private Scenario currentScenario;
 
+	// 次のフロアの背景として先読みする画像の上限（候補マップが多いときに読み込みすぎないため）
+	private static final int NEXT_FLOOR_PREFETCH_LIMIT = 6;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -115,6 +119,7 @@ public class GameEngine {
 		this.imageManager = new com.kh.tbrr.manager.ImageManager();
 		// AudioManagerの初期化
 		this.audioManager = new com.kh.tbrr.manager.AudioManager();
+		this.audioManager.setDeveloperMode(developerMode);
 
 		// サブシステム初期化（UI が必要なものは ui を渡す）
 		this.deathManager = new DeathManager(ui, dataManager);
@@ -125,6 +130,18 @@ public class GameEngine {
 		com.kh.tbrr.interaction.InteractionRegistry.initialize();
 	}
 
+	/**
+	 * ゲームループを動かすスレッドを作る（開始はしない）
+	 * 仮想スレッドなので、入力待ちの間はプラットフォームスレッドを占有しない。
+	 * 複数のセッション（ヘッドレス実行など）を同時に動かしても、少数のキャリアスレッドを共有するだけで済む
+	 *
+	 * @param body ゲームの実行内容
+	 * @return 未開始のスレッド
+	 */
+	public static Thread newGameThread(Runnable body) {
+		return Thread.ofVirtual().name("game-loop").unstarted(body);
+	}
+
 	/**
 	 * 新規ゲーム開始
 	 */
@@ -363,6 +380,11 @@ public class GameEngine {
 			if (gameState.isGameOver())
 				return;
 
+			// イベントを読んでいる間に、このマップと次のフロアの背景を読み込んでおく
+			prefetchFloorImages(selectedTerrain);
+			// このフロアで引かれうるイベントの開始時SEも先に読み込み始める
+			eventManager.preloadFloorEventSounds(stageConfig, player, gameState);
+
 			// マップ入場イベント処理（マップが変わった場合のみ）
 			processMapEntryEvent(stageConfig, selectedTerrain);
 			if (gameState.isGameOver())
@@ -593,6 +615,11 @@ public class GameEngine {
 
 		// フロア進行時に表情を基本表情にリセット
 		ui.resetPortraitExpression();
+
+		// オートセーブ（書き込みは裏で行う）
+		if (!gameState.isGameOver()) {
+			AutosaveManager.checkpoint(gameState);
+		}
 	}
 
 	/**
@@ -745,6 +772,56 @@ public class GameEngine {
 		}
 	}
 
+	/**
+	 * 背景画像の先読み
+	 * 現在のマップの背景候補（イベント後のリセットでランダムに選ばれる）と、
+	 * 次のフロアで選ばれうるマップの背景を、上限までUIに先読みさせる
+	 */
+	private void prefetchFloorImages(GameMap currentMap) {
+		if (currentMap.getBackgroundImages() != null) {
+			for (String bg : currentMap.getBackgroundImages()) {
+				ui.prefetchImage("background", bg);
+			}
+		}
+
+		int nextFloor = gameState.getCurrentFloor() + 1;
+		if (nextFloor >= currentScenario.getStageConfigs().size()) {
+			return;
+		}
+		Scenario.StageConfig nextStageConfig = currentScenario.getStageConfigByFloor(nextFloor);
+		if (nextStageConfig == null || nextStageConfig.isInheritMap()) {
+			return;
+		}
+
+		List<GameMap> candidates = new java.util.ArrayList<>();
+		if (nextStageConfig.isAllowPlayerChoice() && nextStageConfig.getMapChoices() != null
+				&& !nextStageConfig.getMapChoices().isEmpty()) {
+			for (Scenario.StageConfig.MapChoice choice : nextStageConfig.getMapChoices()) {
+				GameMap map = dataManager.loadMap(choice.getMapId());
+				if (map != null) {
+					candidates.add(map);
+				}
+			}
+		} else if (nextStageConfig.getMapPool() != null) {
+			candidates.addAll(scenarioManager.resolveMapPool(nextStageConfig.getMapPool()));
+		}
+
+		int count = 0;
+		for (GameMap map : candidates) {
+			List<String> bgs = map.getBackgroundImages();
+			if (bgs == null || bgs.isEmpty()) {
+				bgs = (map.getBackgroundImage() != null) ? List.of(map.getBackgroundImage()) : List.of();
+			}
+			for (String bg : bgs) {
+				if (count >= NEXT_FLOOR_PREFETCH_LIMIT) {
+					return;
+				}
+				ui.prefetchImage("background", bg);
+				count++;
+			}
+		}
+	}
+
 	/**
 	 * イベント後に画像をリセット
 	 * イベントで画像変更がなかった場合、基本背景に戻す
@@ -1,6 +1,7 @@
 package com.kh.tbrr.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -15,6 +16,11 @@ import com.kh.tbrr.data.models.Player;
 /**
  * ゲーム状態管理クラス
  * プレイ中の状態、フラグ、カウンター、墓地などを管理
+ *
+ * snapshot() でその時点の状態を写し取れる（オートセーブ、開発者モードの巻き戻し用）。
+ * フラグ・カウンター・山札・墓地のコレクションは写しと共有し、どちらかが次に書き換えるときに初めてコピーする
+ * （コピーオンライト）。写し取り自体はコレクションの大きさによらない。
+ * プレイヤーは多くの画面・マネージャーがリストを直接書き換えるため、写し取りのときに Player.copy() で写す。
  */
 public class GameState {
 	// 基本状態
@@ -34,6 +40,12 @@ public class GameState {
 	private Set<String> flags;
 	private Map<String, Integer> counters;
 
+	// 写しとコレクションを共有しているか（true なら書き換える前にコピーする。保存はしない）
+	private transient boolean flagsShared;
+	private transient boolean countersShared;
+	private transient boolean deckShared;
+	private transient boolean graveyardShared;
+
 	// マップ
 	private GameMap currentMap;
 	private int eventCount = 0;
@@ -56,15 +68,18 @@ public class GameState {
 	private List<String> remainingEventDeck = new ArrayList<>();
 	private String currentEventPoolId = null; // 現在のイベントプールID
 
+	// 読み取り専用（書き換えは setRemainingEventDeck / removeEventFromDeck で行う）
 	public List<String> getRemainingEventDeck() {
-		return remainingEventDeck;
+		return Collections.unmodifiableList(remainingEventDeck);
 	}
 
 	public void setRemainingEventDeck(List<String> deck) {
 		this.remainingEventDeck = new ArrayList<>(deck);
+		this.deckShared = false;
 	}
 
 	public void removeEventFromDeck(String eventId) {
+		ownDeck();
 		remainingEventDeck.remove(eventId);
 	}
 
@@ -76,7 +91,7 @@ public class GameState {
 	// イベントプールIDを設定し、異なる場合はデッキをクリア
 	public void setCurrentEventPoolId(String poolId) {
 		if (poolId == null || !poolId.equals(this.currentEventPoolId)) {
-			this.remainingEventDeck.clear(); // デッキをクリア
+			setRemainingEventDeck(List.of()); // デッキをクリア
 			this.currentEventPoolId = poolId;
 		}
 	}
@@ -103,6 +118,7 @@ public class GameState {
 				player.getJob(),
 				currentFloor,
 				lastDeathCause != null ? lastDeathCause : "generic");
+		ownGraveyard();
 		graveyard.put(player.getId(), record);
 	}
 
@@ -283,6 +299,7 @@ public class GameState {
 	// ========== フラグ管理 ==========
 
 	public void setFlag(String flag) {
+		ownFlags();
 		flags.add(flag);
 	}
 
@@ -291,6 +308,7 @@ public class GameState {
 	}
 
 	public void removeFlag(String flag) {
+		ownFlags();
 		flags.remove(flag);
 	}
 
@@ -299,20 +317,24 @@ public class GameState {
 	}
 
 	public void clearFlags() {
-		flags.clear();
+		flags = new HashSet<>();
+		flagsShared = false;
 	}
 
 	// ========== カウンター管理 ==========
 
 	public void incrementCounter(String key) {
+		ownCounters();
 		counters.put(key, counters.getOrDefault(key, 0) + 1);
 	}
 
 	public void incrementCounter(String key, int amount) {
+		ownCounters();
 		counters.put(key, counters.getOrDefault(key, 0) + amount);
 	}
 
 	public void setCounter(String key, int value) {
+		ownCounters();
 		counters.put(key, value);
 	}
 
@@ -325,11 +347,13 @@ public class GameState {
 	}
 
 	public void resetCounter(String key) {
+		ownCounters();
 		counters.remove(key);
 	}
 
 	public void clearCounters() {
-		counters.clear();
+		counters = new HashMap<>();
+		countersShared = false;
 	}
 
 	// ========== 重要ログ用 ==========
@@ -349,8 +373,8 @@ public class GameState {
 		this.isGameOver = false;
 		this.isVictory = false;
 		this.alternateEndingId = null;
-		this.flags.clear();
-		this.counters.clear();
+		clearFlags();
+		clearCounters();
 		this.lastLoggedFloor = -1;
 	}
 
@@ -360,6 +384,95 @@ public class GameState {
 		this.maxFloor = 10;
 	}
 
+	// ========== 写し取り・巻き戻し ==========
+
+	/**
+	 * その時点の状態を写し取る
+	 * 写しはこの GameState をその後どう書き換えても変わらないので、別のスレッド（オートセーブの書き込み、UI）から読んでよい。
+	 * 写し取りはゲームの状態を書き換えるスレッドで行うこと
+	 *
+	 * @return 写し（読み取り専用として扱う）
+	 */
+	public GameState snapshot() {
+		GameState copy = new GameState();
+		copy.copyFrom(this);
+		copy.currentPlayer = (currentPlayer != null) ? currentPlayer.copy() : null;
+		return copy;
+	}
+
+	/**
+	 * snapshot() で写し取った状態に戻す（開発者モードの巻き戻し用）
+	 * プレイヤーは同じ Player オブジェクトのまま中身を戻すので、画面やマネージャーが持っている参照はそのまま使える。
+	 * 同じ写しに何度でも戻せる
+	 *
+	 * @param snapshot snapshot() の戻り値
+	 */
+	public void restore(GameState snapshot) {
+		Player player = this.currentPlayer;
+		copyFrom(snapshot);
+		if (player != null && snapshot.currentPlayer != null) {
+			player.copyFrom(snapshot.currentPlayer);
+			this.currentPlayer = player;
+		} else {
+			this.currentPlayer = (snapshot.currentPlayer != null) ? snapshot.currentPlayer.copy() : null;
+		}
+	}
+
+	/** プレイヤー以外の状態を写す（コレクションは共有し、両方に共有の印を付ける） */
+	private void copyFrom(GameState other) {
+		currentFloor = other.currentFloor;
+		maxFloor = other.maxFloor;
+		currentScenario = other.currentScenario;
+		isGameOver = other.isGameOver;
+		isVictory = other.isVictory;
+		alternateEndingId = other.alternateEndingId;
+		lastDeathCause = other.lastDeathCause;
+		currentMap = other.currentMap;
+		eventCount = other.eventCount;
+		currentBackgroundImage = other.currentBackgroundImage;
+		currentSubImage = other.currentSubImage;
+		isInRecursiveEvent = other.isInRecursiveEvent;
+		lastLoggedFloor = other.lastLoggedFloor;
+		currentAreaName = other.currentAreaName;
+		currentEventPoolId = other.currentEventPoolId;
+		currentEvent = other.currentEvent;
+
+		flags = other.flags;
+		counters = other.counters;
+		remainingEventDeck = other.remainingEventDeck;
+		graveyard = other.graveyard;
+		flagsShared = countersShared = deckShared = graveyardShared = true;
+		other.flagsShared = other.countersShared = other.deckShared = other.graveyardShared = true;
+	}
+
+	private void ownFlags() {
+		if (flagsShared) {
+			flags = new HashSet<>(flags);
+			flagsShared = false;
+		}
+	}
+
+	private void ownCounters() {
+		if (countersShared) {
+			counters = new HashMap<>(counters);
+			countersShared = false;
+		}
+	}
+
+	private void ownDeck() {
+		if (deckShared) {
+			remainingEventDeck = new ArrayList<>(remainingEventDeck);
+			deckShared = false;
+		}
+	}
+
+	private void ownGraveyard() {
+		if (graveyardShared) {
+			graveyard = new HashMap<>(graveyard);
+			graveyardShared = false;
+		}
+	}
+
 	// ========== デバッグ用 ==========
 
 	@Override
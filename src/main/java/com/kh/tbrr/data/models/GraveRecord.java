@@ -2,8 +2,9 @@ package com.kh.tbrr.data.models;
 
 /**
  * 墓地レコード（死亡記録）モデル
- * ユーザーデータとして userdata/memory/graveyard/ にJSONで保存される。
- * 保存項目は4項目：キャラクター名・職・到達フロア・死亡イベント
+ * ユーザーデータとして userdata/memory/graveyard/ の記録ログに1行のJSONで保存される。
+ * 保存項目：キャラクター名・職・到達フロア・死亡イベント・シナリオ・死亡日時・記録ID
+ * （以前の1ファイル1記録の形式から移行した記録は、シナリオが null、死亡日時がファイルの更新日時になる）
  */
 public class GraveRecord {
     /** キャラクター名（日本語名） */
@@ -14,6 +15,12 @@ public class GraveRecord {
     private int floor;
     /** 死亡したイベントのキー（deathCause） */
     private String deathEvent;
+    /** シナリオID */
+    private String scenario;
+    /** 死亡日時（エポックミリ秒） */
+    private long diedAt;
+    /** 記録ID（UUID） */
+    private String id;
 
     /**
      * コンストラクタ
@@ -30,6 +37,23 @@ public class GraveRecord {
         this.deathEvent = deathEvent;
     }
 
+    /**
+     * コンストラクタ（シナリオ・死亡日時つき）
+     *
+     * @param characterName キャラクター名
+     * @param characterJob  職業名
+     * @param floor         死亡時の到達フロア数
+     * @param deathEvent    死亡イベントキー（deathCause）
+     * @param scenario      シナリオID
+     * @param diedAt        死亡日時（エポックミリ秒）
+     */
+    public GraveRecord(String characterName, String characterJob, int floor, String deathEvent,
+            String scenario, long diedAt) {
+        this(characterName, characterJob, floor, deathEvent);
+        this.scenario = scenario;
+        this.diedAt = diedAt;
+    }
+
     // ========== Getter ==========
 
     public String getCharacterName() {
@@ -47,4 +71,26 @@ public class GraveRecord {
     public String getDeathEvent() {
         return deathEvent;
     }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getDiedAt() {
+        return diedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // ========== Setter（GraveyardManager が保存時に使う） ==========
+
+    public void setDiedAt(long diedAt) {
+        this.diedAt = diedAt;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
 }
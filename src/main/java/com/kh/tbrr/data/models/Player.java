@@ -176,6 +176,71 @@ public class Player {
         this.grade = 0;
     }
 
+    // ========== 写し（GameState.snapshot 用） ==========
+
+    /**
+     * このプレイヤーの写しを作る
+     * リスト・マップは中身をコピーする（どれも ID の短いリストなので軽い）。性格は内容データなので共有する
+     */
+    public Player copy() {
+        Player copy = new Player();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * 他のプレイヤーの内容をこのプレイヤーに写す（GameState.restore で使う）
+     *
+     * @param other 写し元
+     */
+    public void copyFrom(Player other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.englishName = other.englishName;
+        this.raceName = other.raceName;
+        this.raceType = other.raceType;
+        this.gender = other.gender;
+        this.genderIdentity = other.genderIdentity;
+        this.job = other.job;
+        this.background = other.background;
+        this.constellation = other.constellation;
+        this.personality = other.personality;
+        this.backstory = other.backstory;
+        this.bodyType = other.bodyType;
+        this.clothing = other.clothing;
+        this.charmPoints = copyOf(other.charmPoints);
+        this.hp = other.hp;
+        this.maxHp = other.maxHp;
+        this.ap = other.ap;
+        this.maxAp = other.maxAp;
+        this.money = other.money;
+        this.maxMoney = other.maxMoney;
+        this.currentSp = other.currentSp;
+        this.portraitId = other.portraitId;
+        this.portraitFileName = other.portraitFileName;
+        this.baseSkills = copyOf(other.baseSkills);
+        this.skills = copyOf(other.skills);
+        this.baseAbilities = copyOf(other.baseAbilities);
+        this.inheritedAbilities = copyOf(other.inheritedAbilities);
+        this.abilities = copyOf(other.abilities);
+        this.stances = copyOf(other.stances);
+        this.baseTraits = copyOf(other.baseTraits);
+        this.inheritedTraits = copyOf(other.inheritedTraits);
+        this.traits = copyOf(other.traits);
+        this.inventory = copyOf(other.inventory);
+        this.equippedMainWeapon = other.equippedMainWeapon;
+        this.equippedAccessories = copyOf(other.equippedAccessories);
+        this.reserveEquipments = copyOf(other.reserveEquipments);
+        this.statusEffects = (other.statusEffects != null) ? new java.util.HashMap<>(other.statusEffects) : null;
+        this.cruelWorldEnabled = other.cruelWorldEnabled;
+        this.isFatedOne = other.isFatedOne;
+        this.grade = other.grade;
+    }
+
+    private static List<String> copyOf(List<String> list) {
+        return (list != null) ? new ArrayList<>(list) : null;
+    }
+
     // ========== SP管理 ==========
 
     /**
@@ -58,9 +58,42 @@ public class EventProcessor {
 	}
 
 	public String processEvent(GameEvent event, Player player, GameState gameState) {
+		// 開発者モードの rollback で打ち切られたら、開始時点の状態に戻して同じイベントをやり直す
+		// （巻き戻し時点を記録した呼び出しだけが受け止め、それ以外は外側へ渡す）
+		Object rollbackOwner = new Object();
+		try {
+			while (true) {
+				try {
+					return runEvent(event, player, gameState, rollbackOwner);
+				} catch (DeveloperMode.RollbackRequest e) {
+					if (developerMode == null || !developerMode.isRollbackOwner(rollbackOwner)) {
+						throw e;
+					}
+					developerMode.restoreRollbackPoint();
+					ui.print("[DEV] イベント「" + event.getId() + "」の開始時点に状態を戻し、イベントをやり直します");
+					ui.printPlayerStatus(player);
+				}
+			}
+		} finally {
+			if (developerMode != null) {
+				developerMode.clearRollbackPoint(rollbackOwner);
+			}
+		}
+	}
+
+	private String runEvent(GameEvent event, Player player, GameState gameState, Object rollbackOwner) {
 
 		System.err.println("[DEBUG] processEvent called: " + event.getId());
 
+		// 選択肢の結果で鳴る可能性のあるSEを、選択を待つ間に裏で読み込んでおく
+		// （イベント開始時のSEはすぐ鳴るので、フロア開始時に EventManager から先読みする）
+		preloadResultSounds(event);
+
+		// 開発者モードの巻き戻し用に、イベント開始時点の状態を記録する
+		if (developerMode != null) {
+			developerMode.recordRollbackPoint(gameState, event.getId(), rollbackOwner);
+		}
+
 		// イベントのタイトルを表示
 		if (event.getTitle() != null && !event.getTitle().isEmpty()) {
 			ui.showEventInfo(event.getTitle());
@@ -126,6 +159,9 @@ public class EventProcessor {
 		if (availableChoices != null && !availableChoices.isEmpty()) {
 			displayChoices(availableChoices, player);
 
+			// 選択を待つ間に、選択肢の結果で表示されうる画像を読み込んでおく
+			prefetchChoiceImages(availableChoices);
+
 			int choiceIndex = ui.getPlayerChoice(availableChoices.size(), player);
 			if (choiceIndex <= 0 || choiceIndex > availableChoices.size()) {
 				ui.print("【システム】選択肢の取得に失敗しました。イベントをスキップします。");
@@ -149,6 +185,55 @@ public class EventProcessor {
 		return null;
 	}
 
+	/**
+	 * イベント開始時のSEを先読みする（フロア開始時に、このフロアで起こりうるイベントについて呼ぶ）
+	 * 開始時のSEは processEvent の直後に鳴るので、イベントを始めてからでは読み込みが間に合わない
+	 */
+	public void preloadOpeningSounds(List<GameEvent> events) {
+		if (audioManager == null) {
+			return;
+		}
+		List<String> sounds = new ArrayList<>();
+		for (GameEvent event : events) {
+			sounds.add(event.getSoundEffect());
+		}
+		audioManager.preloadSE(sounds);
+	}
+
+	/**
+	 * 各結果のSEと、結果から連鎖するイベントの開始時SEを先読みする
+	 */
+	private void preloadResultSounds(GameEvent event) {
+		if (audioManager == null) {
+			return;
+		}
+		List<String> sounds = new ArrayList<>();
+		if (event.getChoices() != null) {
+			for (Choice choice : event.getChoices()) {
+				addResultSound(sounds, choice.getSuccess());
+				addResultSound(sounds, choice.getFailure());
+				if (choice.getResults() != null) {
+					for (Result result : choice.getResults()) {
+						addResultSound(sounds, result);
+					}
+				}
+			}
+		}
+		audioManager.preloadSE(sounds);
+	}
+
+	private void addResultSound(List<String> sounds, Result result) {
+		if (result != null) {
+			sounds.add(result.getSoundEffect());
+			if (result.getNextEventId() != null && !result.getNextEventId().isEmpty()) {
+				GameEvent next = dataManager.loadEvent(result.getNextEventId());
+				if (next != null) {
+					sounds.add(next.getSoundEffect());
+				}
+			}
+		}
+	}
+
 	/**
 	 * イベント開始時の自動効果を適用
 	 */
@@ -386,6 +471,38 @@ public class EventProcessor {
 		return available;
 	}
 
+	/**
+	 * 選択肢の結果で切り替わる背景・サブ画像と、戦闘になる場合の敵画像・戦闘背景をUIに先読みさせる
+	 */
+	private void prefetchChoiceImages(List<Choice> choices) {
+		for (Choice choice : choices) {
+			prefetchResultImages(choice.getSuccess());
+			prefetchResultImages(choice.getFailure());
+			if (choice.getResults() != null) {
+				for (Result result : choice.getResults()) {
+					prefetchResultImages(result);
+				}
+			}
+		}
+	}
+
+	private void prefetchResultImages(Result result) {
+		if (result == null) {
+			return;
+		}
+		ui.prefetchImage("background", result.getBackgroundImageChange());
+		ui.prefetchImage("sub", result.getSubImageChange());
+
+		if (result.getBattle() != null && !result.getBattle().isEmpty()) {
+			com.kh.tbrr.battle.EnemyTemplate enemy = dataManager.loadEnemyTemplate(result.getBattle());
+			if (enemy != null) {
+				String battleBg = enemy.getBattleBackground();
+				ui.prefetchImage("enemy", enemy.getImagePath());
+				ui.prefetchImage("background", (battleBg != null && !battleBg.isEmpty()) ? battleBg : "bg_000.png");
+			}
+		}
+	}
+
 	private void displayChoices(List<Choice> choices, Player player) {
 		ui.print("━━━━━━━━━━━━━━━━━━━━━━");
 		for (int i = 0; i < choices.size(); i++) {
@@ -1531,66 +1648,66 @@ public class EventProcessor {
 				enrichedParams.putAll(params);
 			}
 
-			// CountDownLatchで結果を待機
-			java.util.concurrent.CountDownLatch latch = new java.util.concurrent.CountDownLatch(1);
-			java.util.concurrent.atomic.AtomicReference<InteractionResult> resultRef = new java.util.concurrent.atomic.AtomicReference<>();
+			// 実行中のインタラクションの Future（セッションが打ち切られたときに取り消す）
+			java.util.concurrent.atomic.AtomicReference<java.util.concurrent.CompletableFuture<InteractionResult>> running = new java.util.concurrent.atomic.AtomicReference<>();
 
 			// インタラクション用の入力コールバックを作成
 			java.util.concurrent.atomic.AtomicReference<java.util.function.Consumer<String>> interactionCallback = new java.util.concurrent.atomic.AtomicReference<>();
 
-			// FXスレッドでUI操作とインタラクション実行を行う
-			javafx.application.Platform.runLater(() -> {
-				try {
-					// サブウィンドウペインを取得して追加（FXスレッド内で実行）
-					Object subWindowPane = ui.getSubWindowPane();
-					if (subWindowPane != null && ui instanceof com.kh.tbrr.ui.JavaFXUI) {
-						com.kh.tbrr.ui.JavaFXUI jfxUI = (com.kh.tbrr.ui.JavaFXUI) ui;
-						javafx.scene.layout.StackPane stackPane = jfxUI.getSubWindowAsStackPane();
-						enrichedParams.put("_subWindowPane", stackPane);
-
-						// 入力ハンドラーをパラメータに追加して○ボタン入力を受け取れるようにする
-						enrichedParams.put("_inputCallback", interactionCallback);
-
-						// JavaFXUIに一時的な入力ハンドラーを設定
-						jfxUI.setInteractionInputHandler(input -> {
-							java.util.function.Consumer<String> callback = interactionCallback.get();
-							if (callback != null) {
-								callback.accept(input);
-							}
-						});
-					}
-
-					// インタラクションを非同期実行
-					handler.execute(enrichedParams, player).thenAccept(result -> {
-						// 入力ハンドラーをクリア
-						if (ui instanceof com.kh.tbrr.ui.JavaFXUI) {
-							((com.kh.tbrr.ui.JavaFXUI) ui).setInteractionInputHandler(null);
+			// FXスレッドでUI操作とインタラクション実行を行い、その結果の Future をつなぐ
+			java.util.concurrent.CompletableFuture<InteractionResult> resultFuture = java.util.concurrent.CompletableFuture
+					.supplyAsync(() -> {
+						// サブウィンドウペインを取得して追加（FXスレッド内で実行）
+						Object subWindowPane = ui.getSubWindowPane();
+						if (subWindowPane != null && ui instanceof com.kh.tbrr.ui.JavaFXUI) {
+							com.kh.tbrr.ui.JavaFXUI jfxUI = (com.kh.tbrr.ui.JavaFXUI) ui;
+							javafx.scene.layout.StackPane stackPane = jfxUI.getSubWindowAsStackPane();
+							enrichedParams.put("_subWindowPane", stackPane);
+
+							// 入力ハンドラーをパラメータに追加して○ボタン入力を受け取れるようにする
+							enrichedParams.put("_inputCallback", interactionCallback);
+
+							// JavaFXUIに一時的な入力ハンドラーを設定
+							jfxUI.setInteractionInputHandler(input -> {
+								java.util.function.Consumer<String> callback = interactionCallback.get();
+								if (callback != null) {
+									callback.accept(input);
+								}
+							});
 						}
-						resultRef.set(result);
-						latch.countDown();
-					}).exceptionally(ex -> {
+						return enrichedParams;
+					}, javafx.application.Platform::runLater)
+					// インタラクションを非同期実行
+					.thenCompose(p -> {
+						java.util.concurrent.CompletableFuture<InteractionResult> execution = handler.execute(p, player);
+						running.set(execution);
+						return execution;
+					})
+					.exceptionally(ex -> new InteractionResult("error"))
+					.whenComplete((r, ex) -> {
 						// 入力ハンドラーをクリア
 						if (ui instanceof com.kh.tbrr.ui.JavaFXUI) {
 							((com.kh.tbrr.ui.JavaFXUI) ui).setInteractionInputHandler(null);
 						}
-						resultRef.set(new InteractionResult("error"));
-						latch.countDown();
-						return null;
 					});
-				} catch (Exception ex) {
-					resultRef.set(new InteractionResult("error"));
-					latch.countDown();
-				}
-			});
 
-			// 結果を待機（最大60秒）
-			boolean completed = latch.await(60, java.util.concurrent.TimeUnit.SECONDS);
-			if (!completed) {
+			// 結果を待機（最大60秒。タイトルに戻る・中断で取り消される）
+			InteractionResult interactionResult;
+			try {
+				interactionResult = ui.awaitInteraction(resultFuture, 60, java.util.concurrent.TimeUnit.SECONDS);
+			} catch (java.util.concurrent.TimeoutException e) {
 				ui.print("【システム】インタラクションがタイムアウトしました");
 				return;
+			} catch (java.util.concurrent.CancellationException e) {
+				// 結果は反映せずにイベントを抜ける
+				java.util.concurrent.CompletableFuture<InteractionResult> execution = running.get();
+				if (execution != null) {
+					execution.cancel(false);
+				}
+				ui.setInteractionInputHandler(null);
+				throw e;
 			}
 
-			InteractionResult interactionResult = resultRef.get();
 			if (interactionResult == null) {
 				ui.print("【システム】インタラクション結果がありません");
 				return;
@@ -1603,6 +1720,9 @@ public class EventProcessor {
 			// 結果に応じた処理
 			handleInteractionResult(interactionResult, params, player, gameState);
 
+		} catch (java.util.concurrent.CancellationException | DeveloperMode.RollbackRequest e) {
+			// 結果から連鎖したイベント中の中断・巻き戻しはエラー扱いにせず外側へ渡す
+			throw e;
 		} catch (Exception e) {
 			ui.print("【システム】インタラクション実行エラー: " + e.getMessage());
 			e.printStackTrace();
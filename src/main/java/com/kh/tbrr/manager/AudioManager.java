@@ -1,24 +1,58 @@
 package com.kh.tbrr.manager;
 
 import java.net.URL;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.kh.tbrr.system.DeveloperMode;
 
 import javafx.scene.media.AudioClip;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
 /**
  * Audio Manager for SE (Sound Effects) and BGM
  * Handles sound playback for the game
+ *
+ * SE clips are loaded ahead of time with preloadSE (opening sounds at floor start, result sounds when an event starts),
+ * so that the first playback does not stall the game thread on resource lookup and decoding.
+ * Loaded clips are kept in a bounded LRU cache.
+ * Per-call logging is printed only while the developer mode debug output is visible.
  */
 public class AudioManager {
 
-	// SE cache (AudioClip is suitable for short sound effects)
-	private Map<String, AudioClip> seCache;
+	// Maximum number of SE clips kept in memory
+	private static final int MAX_SE_CLIPS = 48;
+
+	// SE cache (AudioClip is suitable for short sound effects). Access-ordered LRU, guarded by itself
+	private final Map<String, AudioClip> seCache;
+
+	// SE clips currently being loaded (so that preload and play never load the same file twice)
+	private final Map<String, CompletableFuture<AudioClip>> seLoading = new ConcurrentHashMap<>();
+
+	// SE files that were not found (warned only once)
+	private final Set<String> missingSE = ConcurrentHashMap.newKeySet();
+
+	// Background loader for SE preloading.
+	// Shared by all instances (a new AudioManager is created per game), so dispose() does not need to stop it
+	private static final ExecutorService seLoader = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "audio-preload");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// Used only to decide whether to print per-call logs
+	private DeveloperMode developerMode;
 
-	// Current BGM player
-	private MediaPlayer currentBgmPlayer;
+	// BGM playback (crossfade and prepared players)
+	private final BgmController bgm;
 
 	// Volume settings (0.0 to 1.0)
 	private double seVolume;
@@ -29,56 +63,55 @@ public class AudioManager {
 	private boolean bgmEnabled;
 
 	public AudioManager() {
-		this.seCache = new HashMap<>();
+		this.seCache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, AudioClip> eldest) {
+				if (size() <= MAX_SE_CLIPS) {
+					return false;
+				}
+				eldest.getValue().stop();
+				return true;
+			}
+		};
 		this.seVolume = 0.7;
 		this.bgmVolume = 0.5;
+		this.bgm = new BgmController(bgmVolume);
 		this.seEnabled = true;
 		this.bgmEnabled = true;
 	}
 
+	/**
+	 * Set the developer mode (per-call logs are printed only while its debug output is visible)
+	 */
+	public void setDeveloperMode(DeveloperMode developerMode) {
+		this.developerMode = developerMode;
+	}
+
+	private boolean isDebug() {
+		return developerMode != null && developerMode.isDebugVisible();
+	}
+
 	/**
 	 * Play a sound effect
 	 * 
 	 * @param fileName SE file name (e.g., "roar01.mp3")
 	 */
 	public void playSE(String fileName) {
-		System.err.println("[AudioManager] playSE called: " + fileName);
-
 		if (!seEnabled || fileName == null || fileName.isEmpty()) {
-			System.err.println("[AudioManager] SE disabled or filename empty");
 			return;
 		}
 
 		try {
-			AudioClip clip = seCache.get(fileName);
-
+			AudioClip clip = getClip(fileName);
 			if (clip == null) {
-				String path = "/data/audio/se/" + fileName;
-				URL resource = getClass().getResource(path);
-
-				System.err.println("[AudioManager] Looking for resource: " + path);
-				System.err.println("[AudioManager] Resource found: " + (resource != null));
-
-				if (resource == null) {
-					System.err.println("[AudioManager] SE file not found: " + path);
-					return;
-				}
-
-				String uri = resource.toExternalForm();
-				System.err.println("[AudioManager] Creating AudioClip from: " + uri);
-
-				clip = new AudioClip(uri);
-				seCache.put(fileName, clip);
-				System.err.println("[AudioManager] AudioClip created successfully");
-			} else {
-				System.err.println("[AudioManager] Using cached AudioClip");
+				return;
 			}
 
 			clip.setVolume(seVolume);
-			System.err.println("[AudioManager] Volume set to: " + seVolume);
-			System.err.println("[AudioManager] Calling play()...");
 			clip.play();
-			System.err.println("[AudioManager] play() called - clip.isPlaying(): " + clip.isPlaying());
+			if (isDebug()) {
+				System.err.println("[AudioManager] playSE: " + fileName);
+			}
 
 		} catch (Exception e) {
 			System.err.println("[AudioManager] Failed to play SE: " + fileName);
@@ -87,66 +120,152 @@ public class AudioManager {
 	}
 
 	/**
-	 * Play background music (loops)
+	 * Load sound effects in the background so that their first playback does not lag
+	 * Files that are already cached or being loaded are skipped
 	 * 
-	 * @param fileName BGM file name (e.g., "dungeon01.mp3")
+	 * @param fileNames SE file names (null / empty entries are ignored)
 	 */
-	public void playBGM(String fileName) {
-		if (!bgmEnabled || fileName == null || fileName.isEmpty()) {
+	public void preloadSE(Collection<String> fileNames) {
+		if (!seEnabled || fileNames == null) {
 			return;
 		}
+		for (String fileName : fileNames) {
+			if (fileName == null || fileName.isEmpty() || missingSE.contains(fileName)) {
+				continue;
+			}
+			synchronized (seCache) {
+				if (seCache.containsKey(fileName)) {
+					continue;
+				}
+			}
+			CompletableFuture<AudioClip> future = new CompletableFuture<>();
+			if (seLoading.putIfAbsent(fileName, future) != null) {
+				continue;
+			}
+			seLoader.execute(() -> {
+				// loadClip puts the clip into the cache before the entry is removed here
+				future.complete(loadClip(fileName));
+				seLoading.remove(fileName, future);
+			});
+		}
+	}
 
-		try {
-			// Stop current BGM
-			stopBGM();
-
-			String path = "/data/audio/music/" + fileName;
-			URL resource = getClass().getResource(path);
+	/**
+	 * Get a clip from the cache, waiting for an in-flight preload or loading it on this thread
+	 */
+	private AudioClip getClip(String fileName) {
+		synchronized (seCache) {
+			AudioClip clip = seCache.get(fileName);
+			if (clip != null) {
+				return clip;
+			}
+		}
+		if (missingSE.contains(fileName)) {
+			return null;
+		}
+		CompletableFuture<AudioClip> loading = seLoading.get(fileName);
+		if (loading != null) {
+			return loading.join();
+		}
+		return loadClip(fileName);
+	}
 
-			if (resource == null) {
-				System.err.println("[AudioManager] BGM file not found: " + path);
-				return;
+	/**
+	 * Resolve and decode a clip, then put it into the cache
+	 * 
+	 * @return the clip, or null if the file was not found
+	 */
+	private AudioClip loadClip(String fileName) {
+		synchronized (seCache) {
+			AudioClip cached = seCache.get(fileName);
+			if (cached != null) {
+				return cached;
 			}
+		}
 
-			Media media = new Media(resource.toExternalForm());
-			currentBgmPlayer = new MediaPlayer(media);
-			currentBgmPlayer.setVolume(bgmVolume);
-			currentBgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-			currentBgmPlayer.play();
+		String path = "/data/audio/se/" + fileName;
+		URL resource = getClass().getResource(path);
+		if (resource == null) {
+			if (missingSE.add(fileName)) {
+				System.err.println("[AudioManager] SE file not found: " + path);
+			}
+			return null;
+		}
 
+		try {
+			AudioClip clip = new AudioClip(resource.toExternalForm());
+			synchronized (seCache) {
+				seCache.put(fileName, clip);
+			}
+			if (isDebug()) {
+				System.err.println("[AudioManager] SE loaded: " + fileName);
+			}
+			return clip;
 		} catch (Exception e) {
-			System.err.println("[AudioManager] Failed to play BGM: " + fileName);
+			System.err.println("[AudioManager] Failed to load SE: " + fileName);
 			e.printStackTrace();
+			return null;
 		}
 	}
 
+	/**
+	 * Prepare a BGM track ahead of time (e.g. when the next map is chosen)
+	 * so that a later playBGM crossfades to it without a loading gap
+	 * 
+	 * @param fileName BGM file name (e.g., "dungeon01.mp3")
+	 */
+	public void prepareBGM(String fileName) {
+		if (!bgmEnabled || fileName == null || fileName.isEmpty()) {
+			return;
+		}
+		bgm.prepare(fileName);
+	}
+
+	/**
+	 * Play background music (loops)
+	 * Crossfades from the current track; returns immediately without waiting for loading
+	 * 
+	 * @param fileName BGM file name (e.g., "dungeon01.mp3")
+	 */
+	public void playBGM(String fileName) {
+		if (!bgmEnabled || fileName == null || fileName.isEmpty()) {
+			return;
+		}
+		bgm.play(fileName);
+	}
+
 	/**
 	 * Stop current BGM
 	 */
 	public void stopBGM() {
-		if (currentBgmPlayer != null) {
-			currentBgmPlayer.stop();
-			currentBgmPlayer.dispose();
-			currentBgmPlayer = null;
-		}
+		bgm.stop();
 	}
 
 	/**
 	 * Pause current BGM
 	 */
 	public void pauseBGM() {
-		if (currentBgmPlayer != null) {
-			currentBgmPlayer.pause();
-		}
+		bgm.pause();
 	}
 
 	/**
 	 * Resume current BGM
 	 */
 	public void resumeBGM() {
-		if (currentBgmPlayer != null) {
-			currentBgmPlayer.play();
-		}
+		bgm.resume();
+	}
+
+	/**
+	 * Set the BGM crossfade duration (0 switches tracks immediately)
+	 * 
+	 * @param millis duration in milliseconds
+	 */
+	public void setBGMCrossfadeMillis(double millis) {
+		bgm.setCrossfade(Duration.millis(millis));
+	}
+
+	public double getBGMCrossfadeMillis() {
+		return bgm.getCrossfade().toMillis();
 	}
 
 	// Volume controls
@@ -161,9 +280,7 @@ public class AudioManager {
 
 	public void setBGMVolume(double volume) {
 		this.bgmVolume = Math.max(0.0, Math.min(1.0, volume));
-		if (currentBgmPlayer != null) {
-			currentBgmPlayer.setVolume(bgmVolume);
-		}
+		bgm.setVolume(bgmVolume);
 	}
 
 	public double getBGMVolume() {
@@ -195,16 +312,23 @@ public class AudioManager {
 	 * Clear SE cache
 	 */
 	public void clearCache() {
-		seCache.clear();
+		synchronized (seCache) {
+			seCache.clear();
+		}
+		missingSE.clear();
 	}
 
 	/**
 	 * Cleanup resources
 	 */
 	public void dispose() {
-		stopBGM();
+		bgm.dispose();
 		// SEキャッシュ内のすべてのAudioClipを停止
-		for (AudioClip clip : seCache.values()) {
+		List<AudioClip> clips;
+		synchronized (seCache) {
+			clips = new ArrayList<>(seCache.values());
+		}
+		for (AudioClip clip : clips) {
 			if (clip != null) {
 				clip.stop();
 			}
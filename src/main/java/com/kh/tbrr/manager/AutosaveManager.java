@@ -0,0 +1,135 @@
+package com.kh.tbrr.manager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.kh.tbrr.core.GameState;
+
+/**
+ * オートセーブ（フロアごとのチェックポイント）
+ *
+ * フロアを進むたびに GameState をその時点の内容で写し取り（GameState.snapshot）、
+ * 書き込み専用のスレッド1本に渡す。JSON ツリー・バイナリ形式（SaveCodec）への変換とファイルへの書き込みはそのスレッドで行い、
+ * ゲームスレッドはディスクも変換も待たない。
+ *
+ * 書き込みは一時ファイル → fsync → 名前の変更で行う（SaveManager.writeAtomically）ため、
+ * 書き込み中に落ちても既存のチェックポイントは壊れない。
+ * チェックポイントは userdata/save/autosave/ に新しいものから MAX_CHECKPOINTS 個だけ残す。
+ */
+public class AutosaveManager {
+
+    private static final String AUTOSAVE_DIR = SaveManager.SAVE_DIR + "/autosave";
+    private static final String FILE_PREFIX = "autosave_";
+    private static final String FILE_SUFFIX = ".tbrs";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    // 残すチェックポイントの数
+    private static final int MAX_CHECKPOINTS = 5;
+
+    // 書き込み用のスレッド（1本なので、チェックポイントと中断データは作った順に書かれる）
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "autosave-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private AutosaveManager() {
+    }
+
+    /**
+     * チェックポイントを作る（フロア進行時に呼ぶ）
+     * 写し取りだけをこのスレッドで行い、変換と書き込みは裏で行う。失敗してもゲームは止めない
+     *
+     * @param state 現在のゲーム状態
+     */
+    public static void checkpoint(GameState state) {
+        GameState snapshot;
+        try {
+            snapshot = state.snapshot();
+        } catch (Exception e) {
+            System.err.println("[AutosaveManager] 状態の写し取りに失敗: " + e.getMessage());
+            e.printStackTrace();
+            return;
+        }
+        String fileName = FILE_PREFIX + LocalDateTime.now().format(FILE_TIME)
+                + "_f" + state.getCurrentFloor() + FILE_SUFFIX;
+        writer.execute(() -> write(fileName, snapshot));
+    }
+
+    /** 書き込み用のスレッド（中断データの保存でも使う） */
+    static Executor writer() {
+        return writer;
+    }
+
+    /**
+     * 残っているチェックポイント（新しい順）
+     */
+    public static List<Path> listCheckpoints() {
+        List<Path> files = new ArrayList<>();
+        Path dir = Paths.get(AUTOSAVE_DIR);
+        if (!Files.isDirectory(dir)) {
+            return files;
+        }
+        try (Stream<Path> stream = Files.list(dir)) {
+            stream.filter(AutosaveManager::isCheckpoint).forEach(files::add);
+        } catch (IOException e) {
+            System.err.println("[AutosaveManager] チェックポイント一覧の取得に失敗: " + e.getMessage());
+        }
+        // ファイル名に日時が入っているので、名前の逆順が新しい順
+        files.sort(Collections.reverseOrder());
+        return files;
+    }
+
+    /**
+     * チェックポイントを読み込む
+     *
+     * @param file listCheckpoints で取得したファイル
+     */
+    public static GameState loadCheckpoint(Path file) throws IOException {
+        return SaveManager.decode(Files.readAllBytes(file));
+    }
+
+    // =============================================
+    // --- 書き込み（autosave-writer スレッド） ---
+    // =============================================
+
+    private static void write(String fileName, GameState snapshot) {
+        try {
+            Path dir = Paths.get(AUTOSAVE_DIR);
+            Files.createDirectories(dir);
+            SaveManager.writeAtomically(dir.resolve(fileName), SaveCodec.encode(SaveManager.toTree(snapshot), true));
+            prune();
+        } catch (Exception e) {
+            System.err.println("[AutosaveManager] オートセーブの書き込みに失敗: " + fileName + " (" + e.getMessage() + ")");
+            e.printStackTrace();
+        }
+    }
+
+    /** 古いチェックポイントを消す */
+    private static void prune() {
+        List<Path> files = listCheckpoints();
+        for (int i = MAX_CHECKPOINTS; i < files.size(); i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                System.err.println("[AutosaveManager] 古いチェックポイントの削除に失敗: " + files.get(i));
+            }
+        }
+    }
+
+    private static boolean isCheckpoint(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,301 @@
+package com.kh.tbrr.manager;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+/**
+ * BGM playback with crossfading and a small pool of prepared players
+ *
+ * A track's MediaPlayer can be prepared ahead of time (prepare), so that it is already READY
+ * when play is called. On play, the new track fades in while the current one fades out;
+ * the current track keeps playing until the new one is READY, so there is no silent gap.
+ * Players that were recently faded out are kept in a small LRU pool (paused, not disposed),
+ * so returning to a recent track starts immediately.
+ *
+ * All public methods may be called from any thread; the work is done on the JavaFX Application Thread
+ * and the caller never waits for media loading.
+ */
+final class BgmController {
+
+	// Players kept in the pool besides the current one
+	private static final int POOL_SIZE = 3;
+
+	// Default crossfade duration
+	private static final Duration DEFAULT_CROSSFADE = Duration.millis(1500);
+
+	// ---- State (JavaFX Application Thread only) ----
+	private final Map<String, MediaPlayer> pool = new LinkedHashMap<>(8, 0.75f, true);
+	private MediaPlayer current;
+	private String currentFile;
+	// Track requested by the latest play call (a stale READY callback is ignored)
+	private String requestedFile;
+	// Track whose player is loading for a play call
+	private String pendingFile;
+	private Timeline fade;
+	private MediaPlayer fadingOut;
+	private String fadingOutFile;
+
+	private volatile double volume;
+	private volatile Duration crossfade = DEFAULT_CROSSFADE;
+
+	BgmController(double volume) {
+		this.volume = volume;
+	}
+
+	/**
+	 * Prepare a track so that a later play starts without loading
+	 */
+	void prepare(String fileName) {
+		runOnFx(() -> {
+			if (fileName.equals(currentFile) || pool.containsKey(fileName)) {
+				return;
+			}
+			MediaPlayer player = createPlayer(fileName);
+			if (player != null) {
+				putInPool(fileName, player);
+			}
+		});
+	}
+
+	/**
+	 * Crossfade to a track (loops). If it is already playing, nothing happens
+	 */
+	void play(String fileName) {
+		runOnFx(() -> {
+			requestedFile = fileName;
+			if (fileName.equals(currentFile) && current != null) {
+				if (current.getStatus() != MediaPlayer.Status.PLAYING) {
+					current.play();
+				}
+				return;
+			}
+			if (fileName.equals(pendingFile)) {
+				return; // Will start when it becomes ready
+			}
+
+			// A fade still running is completed first, so the faded-out track is back in the pool
+			finishFade();
+			MediaPlayer next = pool.remove(fileName);
+			if (next != null && next.getStatus() == MediaPlayer.Status.HALTED) {
+				next.dispose();
+				next = null;
+			}
+			if (next == null) {
+				next = createPlayer(fileName);
+				if (next == null) {
+					return;
+				}
+			}
+
+			MediaPlayer.Status status = next.getStatus();
+			if (status == MediaPlayer.Status.UNKNOWN) {
+				// Keep the current track playing until the new one is ready
+				MediaPlayer player = next;
+				pendingFile = fileName;
+				next.setOnReady(() -> {
+					player.setOnReady(null);
+					// A later play call may already be loading another track; only clear our own entry
+					if (fileName.equals(pendingFile)) {
+						pendingFile = null;
+					}
+					if (fileName.equals(requestedFile)) {
+						crossfadeTo(fileName, player);
+					} else {
+						putInPool(fileName, player);
+					}
+				});
+			} else {
+				crossfadeTo(fileName, next);
+			}
+		});
+	}
+
+	void stop() {
+		runOnFx(() -> {
+			requestedFile = null;
+			finishFade();
+			if (current != null) {
+				current.stop();
+				putInPool(currentFile, current);
+				current = null;
+				currentFile = null;
+			}
+		});
+	}
+
+	void pause() {
+		runOnFx(() -> {
+			if (current != null) {
+				current.pause();
+			}
+		});
+	}
+
+	void resume() {
+		runOnFx(() -> {
+			if (current != null) {
+				current.play();
+			}
+		});
+	}
+
+	void setVolume(double volume) {
+		this.volume = volume;
+		runOnFx(() -> {
+			if (current != null && fade == null) {
+				current.setVolume(volume);
+			}
+		});
+	}
+
+	void setCrossfade(Duration duration) {
+		this.crossfade = (duration == null || duration.lessThan(Duration.ZERO)) ? Duration.ZERO : duration;
+	}
+
+	Duration getCrossfade() {
+		return crossfade;
+	}
+
+	/**
+	 * Dispose all players (current and pooled)
+	 */
+	void dispose() {
+		runOnFx(() -> {
+			requestedFile = null;
+			finishFade();
+			if (current != null) {
+				current.dispose();
+				current = null;
+				currentFile = null;
+			}
+			List<MediaPlayer> players = new ArrayList<>(pool.values());
+			pool.clear();
+			for (MediaPlayer player : players) {
+				player.dispose();
+			}
+		});
+	}
+
+	// =============================================
+	// --- Internal (JavaFX Application Thread) ---
+	// =============================================
+
+	private void crossfadeTo(String fileName, MediaPlayer next) {
+		finishFade();
+
+		MediaPlayer previous = current;
+		String previousFile = currentFile;
+		current = next;
+		currentFile = fileName;
+
+		next.seek(Duration.ZERO);
+		next.play();
+
+		Duration duration = crossfade;
+		if (previous == null || duration.lessThanOrEqualTo(Duration.ZERO)) {
+			next.setVolume(volume);
+			if (previous != null) {
+				previous.pause();
+				putInPool(previousFile, previous);
+			}
+			return;
+		}
+
+		next.setVolume(0);
+		fadingOut = previous;
+		fadingOutFile = previousFile;
+		fade = new Timeline(
+				new KeyFrame(Duration.ZERO,
+						new KeyValue(next.volumeProperty(), 0),
+						new KeyValue(previous.volumeProperty(), previous.getVolume())),
+				new KeyFrame(duration,
+						new KeyValue(next.volumeProperty(), volume),
+						new KeyValue(previous.volumeProperty(), 0)));
+		fade.setOnFinished(e -> {
+			fade = null;
+			fadingOut = null;
+			fadingOutFile = null;
+			previous.pause();
+			putInPool(previousFile, previous);
+			next.setVolume(volume);
+		});
+		fade.play();
+	}
+
+	/** Jump a running fade to its end state */
+	private void finishFade() {
+		if (fade == null) {
+			return;
+		}
+		fade.stop();
+		fade = null;
+		if (current != null) {
+			current.setVolume(volume);
+		}
+		if (fadingOut != null) {
+			fadingOut.pause();
+			putInPool(fadingOutFile, fadingOut);
+			fadingOut = null;
+			fadingOutFile = null;
+		}
+	}
+
+	private void putInPool(String fileName, MediaPlayer player) {
+		if (fileName == null || player == null) {
+			return;
+		}
+		MediaPlayer old = pool.put(fileName, player);
+		if (old != null && old != player) {
+			old.dispose();
+		}
+		while (pool.size() > POOL_SIZE) {
+			String eldest = pool.keySet().iterator().next();
+			pool.remove(eldest).dispose();
+		}
+	}
+
+	private MediaPlayer createPlayer(String fileName) {
+		String path = "/data/audio/music/" + fileName;
+		URL resource = getClass().getResource(path);
+		if (resource == null) {
+			System.err.println("[AudioManager] BGM file not found: " + path);
+			return null;
+		}
+		try {
+			MediaPlayer player = new MediaPlayer(new Media(resource.toExternalForm()));
+			player.setCycleCount(MediaPlayer.INDEFINITE);
+			player.setVolume(0);
+			player.setOnError(() -> {
+				System.err.println("[AudioManager] BGM error: " + fileName + " (" + player.getError() + ")");
+				pool.remove(fileName, player);
+				if (fileName.equals(pendingFile)) {
+					pendingFile = null;
+				}
+			});
+			return player;
+		} catch (Exception e) {
+			System.err.println("[AudioManager] Failed to load BGM: " + fileName);
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static void runOnFx(Runnable action) {
+		if (Platform.isFxApplicationThread()) {
+			action.run();
+		} else {
+			Platform.runLater(action);
+		}
+	}
+}
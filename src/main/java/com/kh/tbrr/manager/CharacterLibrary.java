@@ -0,0 +1,310 @@
+package com.kh.tbrr.manager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.kh.tbrr.data.models.Player;
+
+import javafx.scene.image.Image;
+
+/**
+ * キャラクターライブラリ（保存済みキャラクターの一覧）
+ *
+ * userdata/character/*.json を一覧表示するたびに Player 全体を読み込まないよう、
+ * 名前・種族・職・グレード・立ち絵・最終プレイ日時だけの軽い要約（Summary）を索引ファイルに持つ。
+ * 索引：userdata/cache/character_library.json
+ *
+ * <ul>
+ * <li>保存・上書き保存のたびに、そのキャラクターの要約だけを更新する（update）</li>
+ * <li>一覧（list）ではフォルダのファイル名・更新日時・サイズだけを調べ、
+ * 索引と違うファイル（手で置いた・書き換えたなど）だけを読み直す。読むのは要約に使う項目だけ</li>
+ * <li>立ち絵の小さなサムネイルは ImageCache のワーカーで縮小デコードしておく（prefetchThumbnails）</li>
+ * </ul>
+ */
+public class CharacterLibrary {
+
+    private static final Path CHARACTER_DIR = Paths.get("userdata/character");
+    private static final Path INDEX_FILE = Paths.get("userdata/cache/character_library.json");
+    private static final int INDEX_VERSION = 1;
+
+    /** サムネイルの大きさ（ゲーム画面の立ち絵 288×512 と同じ縦横比） */
+    public static final int THUMBNAIL_WIDTH = 54;
+    public static final int THUMBNAIL_HEIGHT = 96;
+
+    private static final Gson gson = new Gson();
+    private static final ImageManager imageManager = new ImageManager();
+
+    /**
+     * キャラクター1人分の要約
+     *
+     * @param fileName         ファイル名（例: Alice.json）
+     * @param name             キャラクター名
+     * @param englishName      英語名
+     * @param raceName         種族名
+     * @param job              職業名
+     * @param grade            グレード
+     * @param portraitFileName 立ち絵のファイル名（custom: プレフィックス可）
+     * @param lastModified     ファイルの更新日時（エポックミリ秒）
+     * @param size             ファイルのサイズ（バイト）
+     * @param lastPlayed       最後にこのキャラクターで始めた日時（エポックミリ秒。未プレイなら 0）
+     */
+    public record Summary(String fileName, String name, String englishName, String raceName, String job, int grade,
+            String portraitFileName, long lastModified, long size, long lastPlayed) {
+
+        private Summary withLastPlayed(long time) {
+            return new Summary(fileName, name, englishName, raceName, job, grade, portraitFileName,
+                    lastModified, size, time);
+        }
+
+        /** 一覧に表示する名前（名前がなければファイル名） */
+        public String displayName() {
+            if (name != null && !name.isEmpty()) {
+                return name;
+            }
+            return fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        }
+    }
+
+    // ファイル名 → 要約（synchronized で読み書きする。最初の呼び出しで索引ファイルから読む）
+    private static Map<String, Summary> summaries;
+
+    private CharacterLibrary() {
+    }
+
+    /**
+     * 保存済みキャラクターの要約一覧（最近プレイした順、未プレイは名前順で後ろ）
+     * フォルダと索引が食い違うファイルだけを読み直し、変わっていれば索引を書き直す。
+     */
+    public static synchronized List<Summary> list() {
+        ensureLoaded();
+        boolean changed = false;
+        Set<String> present = new HashSet<>();
+        if (Files.isDirectory(CHARACTER_DIR)) {
+            try (Stream<Path> stream = Files.list(CHARACTER_DIR)) {
+                for (Path file : (Iterable<Path>) stream::iterator) {
+                    String fileName = file.getFileName().toString();
+                    if (!fileName.toLowerCase().endsWith(".json")) {
+                        continue;
+                    }
+                    present.add(fileName);
+                    BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    Summary known = summaries.get(fileName);
+                    if (known != null && known.lastModified() == attrs.lastModifiedTime().toMillis()
+                            && known.size() == attrs.size()) {
+                        continue;
+                    }
+                    long lastPlayed = known == null ? 0 : known.lastPlayed();
+                    Summary read = readSummary(file, attrs, lastPlayed);
+                    if (read == null) {
+                        // 読めないファイルもファイル名だけで一覧に出す（選んだときに読み込みエラーになる）
+                        read = new Summary(fileName, null, null, null, null, 0, null,
+                                attrs.lastModifiedTime().toMillis(), attrs.size(), lastPlayed);
+                    }
+                    summaries.put(fileName, read);
+                    changed = true;
+                }
+            } catch (IOException e) {
+                System.err.println("[CharacterLibrary] キャラクターフォルダの確認に失敗: " + e.getMessage());
+            }
+        }
+        // 消えたファイル
+        if (summaries.keySet().retainAll(present)) {
+            changed = true;
+        }
+        if (changed) {
+            writeIndex();
+        }
+
+        List<Summary> result = new ArrayList<>(summaries.values());
+        result.sort(Comparator.comparingLong(Summary::lastPlayed).reversed()
+                .thenComparing(Summary::displayName));
+        return result;
+    }
+
+    /**
+     * 保存・上書き保存の直後に呼ぶ（そのキャラクターの要約だけを更新する）
+     *
+     * @param fileName 保存したファイル名
+     * @param player   保存した内容
+     */
+    public static synchronized void update(String fileName, Player player) {
+        ensureLoaded();
+        Path file = CHARACTER_DIR.resolve(fileName);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            Summary known = summaries.get(fileName);
+            summaries.put(fileName, new Summary(fileName, player.getName(), player.getEnglishName(),
+                    player.getRaceName(), player.getJob(), player.getGrade(), player.getPortraitFileName(),
+                    attrs.lastModifiedTime().toMillis(), attrs.size(), known == null ? 0 : known.lastPlayed()));
+            writeIndex();
+        } catch (IOException e) {
+            // 索引は次の list で直るので、保存自体は失敗扱いにしない
+            System.err.println("[CharacterLibrary] 索引の更新に失敗: " + fileName + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * このキャラクターでゲームを始めたことを記録する（一覧の並び順に使う）
+     *
+     * @param fileName ファイル名
+     */
+    public static synchronized void markPlayed(String fileName) {
+        ensureLoaded();
+        Summary known = summaries.get(fileName);
+        if (known != null) {
+            summaries.put(fileName, known.withLastPlayed(System.currentTimeMillis()));
+            writeIndex();
+        }
+    }
+
+    /**
+     * 立ち絵のサムネイル（ワーカースレッドで縮小デコードする）
+     *
+     * @return 画像の Future。立ち絵がない・読み込み失敗時は null で完了する
+     */
+    public static CompletableFuture<Image> thumbnail(Summary summary) {
+        String portrait = summary.portraitFileName();
+        if (portrait == null || portrait.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return imageManager.loadPortraitAsync(portrait, THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT);
+    }
+
+    /**
+     * 一覧のサムネイルを先読みする（結果は待たない）
+     */
+    public static void prefetchThumbnails(List<Summary> list) {
+        for (Summary summary : list) {
+            thumbnail(summary);
+        }
+    }
+
+    // =============================================
+    // --- 要約の読み込み ---
+    // =============================================
+
+    /**
+     * キャラクターJSONから要約に使う項目だけを読む（残りは読み飛ばす）
+     */
+    private static Summary readSummary(Path file, BasicFileAttributes attrs, long lastPlayed) {
+        String name = null, englishName = null, raceName = null, job = null, portrait = null;
+        int grade = 0;
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                switch (key) {
+                    case "name" -> name = reader.nextString();
+                    case "englishName" -> englishName = reader.nextString();
+                    case "raceName" -> raceName = reader.nextString();
+                    case "job" -> job = reader.nextString();
+                    case "grade" -> grade = reader.nextInt();
+                    case "portraitFileName" -> portrait = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[CharacterLibrary] キャラクターの読み込みに失敗: " + file.getFileName()
+                    + " (" + e.getMessage() + ")");
+            return null;
+        }
+        return new Summary(file.getFileName().toString(), name, englishName, raceName, job, grade, portrait,
+                attrs.lastModifiedTime().toMillis(), attrs.size(), lastPlayed);
+    }
+
+    // =============================================
+    // --- 索引ファイル ---
+    // =============================================
+
+    private static void ensureLoaded() {
+        if (summaries != null) {
+            return;
+        }
+        summaries = new HashMap<>();
+        if (!Files.exists(INDEX_FILE)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(INDEX_FILE, StandardCharsets.UTF_8)) {
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+            if (root.get("version").getAsInt() != INDEX_VERSION) {
+                return;
+            }
+            for (JsonElement e : root.getAsJsonArray("characters")) {
+                Summary summary = fromJson(e.getAsJsonObject());
+                summaries.put(summary.fileName(), summary);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 索引はフォルダから作り直せるので、読めなければ空から始める
+            System.err.println("[CharacterLibrary] 索引が読めないため作り直します: " + e.getMessage());
+            summaries.clear();
+        }
+    }
+
+    private static void writeIndex() {
+        JsonObject root = new JsonObject();
+        root.addProperty("version", INDEX_VERSION);
+        JsonArray characters = new JsonArray();
+        for (Summary summary : summaries.values()) {
+            characters.add(toJson(summary));
+        }
+        root.add("characters", characters);
+        try {
+            Files.createDirectories(INDEX_FILE.getParent());
+            SaveManager.writeAtomically(INDEX_FILE, gson.toJson(root));
+        } catch (IOException e) {
+            System.err.println("[CharacterLibrary] 索引の書き込みに失敗: " + e.getMessage());
+        }
+    }
+
+    private static JsonObject toJson(Summary s) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("fileName", s.fileName());
+        obj.addProperty("name", s.name());
+        obj.addProperty("englishName", s.englishName());
+        obj.addProperty("raceName", s.raceName());
+        obj.addProperty("job", s.job());
+        obj.addProperty("grade", s.grade());
+        obj.addProperty("portraitFileName", s.portraitFileName());
+        obj.addProperty("lastModified", s.lastModified());
+        obj.addProperty("size", s.size());
+        obj.addProperty("lastPlayed", s.lastPlayed());
+        return obj;
+    }
+
+    private static Summary fromJson(JsonObject obj) {
+        return new Summary(obj.get("fileName").getAsString(), optString(obj, "name"), optString(obj, "englishName"),
+                optString(obj, "raceName"), optString(obj, "job"), obj.get("grade").getAsInt(),
+                optString(obj, "portraitFileName"), obj.get("lastModified").getAsLong(),
+                obj.get("size").getAsLong(), obj.get("lastPlayed").getAsLong());
+    }
+
+    private static String optString(JsonObject obj, String key) {
+        JsonElement e = obj.get(key);
+        return (e == null || e.isJsonNull()) ? null : e.getAsString();
+    }
+}
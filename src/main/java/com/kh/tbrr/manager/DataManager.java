@@ -21,6 +21,7 @@ import com.kh.tbrr.data.models.GameMap;
 import com.kh.tbrr.data.models.Item;
 import com.kh.tbrr.data.models.Scenario;
 import com.kh.tbrr.system.DeveloperMode;
+import com.kh.tbrr.utils.TextReplacer;
 
 /**
  * データ管理クラス（リニューアル版）
@@ -61,6 +62,7 @@ public class DataManager {
 	private Map<String, GameEvent> eventCache;
 	private Map<String, Scenario> scenarioCache;
 	private Map<String, GameMap> mapCache;
+	private Map<String, com.kh.tbrr.battle.EnemyTemplate> enemyCache;
 	private Map<String, List<String>> deathEndings = new HashMap<>();
 
 	/**
@@ -74,6 +76,7 @@ public class DataManager {
 		this.eventCache = new HashMap<>();
 		this.scenarioCache = new HashMap<>();
 		this.mapCache = new HashMap<>();
+		this.enemyCache = new HashMap<>();
 		this.deathEndings = new HashMap<>();
 		loadDeathEndings();
 	}
@@ -284,6 +287,7 @@ public class DataManager {
 					GameEvent event = gson.fromJson(json, GameEvent.class);
 					if (event != null) {
 						eventCache.put(eventId, event);
+						precompileTexts(event);
 						return event;
 					} else {
 						System.err.println("[ERROR] Parsed event is null: " + eventId);
@@ -300,6 +304,43 @@ public class DataManager {
 		return null;
 	}
 
+	/**
+	 * イベントの表示テキストを TextReplacer で前もって解析しておく（表示のたびに解析しないため）
+	 */
+	private void precompileTexts(GameEvent event) {
+		List<String> texts = new ArrayList<>();
+		addAll(texts, event.getDescription());
+		texts.add(event.getHelperHint());
+		if (event.getInitialEffects() != null) {
+			texts.add(event.getInitialEffects().getMessage());
+		}
+		if (event.getChoices() != null) {
+			for (GameEvent.Choice choice : event.getChoices()) {
+				texts.add(choice.getText());
+				addResultTexts(texts, choice.getSuccess());
+				addResultTexts(texts, choice.getFailure());
+				if (choice.getResults() != null) {
+					for (GameEvent.Result result : choice.getResults()) {
+						addResultTexts(texts, result);
+					}
+				}
+			}
+		}
+		TextReplacer.precompile(texts);
+	}
+
+	private static void addResultTexts(List<String> texts, GameEvent.Result result) {
+		if (result != null) {
+			addAll(texts, result.getDescription());
+		}
+	}
+
+	private static void addAll(List<String> texts, List<String> lines) {
+		if (lines != null) {
+			texts.addAll(lines);
+		}
+	}
+
 	public List<GameEvent> getEventsByTag(String tag) {
 		List<GameEvent> result = new ArrayList<>();
 
@@ -693,14 +734,20 @@ public class DataManager {
 	}
 
 	/**
-	 * 敵JSONオブジェクトを読み込む
+	 * 敵テンプレートを読み込む（敵IDごとにキャッシュ）
+	 * 読み込み時に行動ルール（actionRules）を決定テーブルへコンパイルしておく
 	 */
-	public com.kh.tbrr.battle.EnemyData loadEnemyData(String enemyId) {
+	public com.kh.tbrr.battle.EnemyTemplate loadEnemyTemplate(String enemyId) {
+		com.kh.tbrr.battle.EnemyTemplate cached = enemyCache.get(enemyId);
+		if (cached != null) {
+			return cached;
+		}
+
 		for (String folder : ENEMY_FOLDERS) {
 			String path = DATA_ROOT + "enemies/" + folder + "/" + enemyId + ".json";
 			try {
 				String json = loadResourceContent(path);
-				return gson.fromJson(json, com.kh.tbrr.battle.EnemyData.class);
+				return cacheEnemyTemplate(enemyId, json);
 			} catch (IOException e) {
 				// continue
 			}
@@ -709,15 +756,33 @@ public class DataManager {
 		String oldPath = DATA_ROOT + "enemies/" + enemyId + ".json";
 		try {
 			String json = loadResourceContent(oldPath);
-			return gson.fromJson(json, com.kh.tbrr.battle.EnemyData.class);
+			return cacheEnemyTemplate(enemyId, json);
 		} catch (IOException e) {
 			// continue
 		}
 
-		System.err.println("[DataManager] loadEnemyData 読み込み失敗: " + enemyId);
+		System.err.println("[DataManager] loadEnemyTemplate 読み込み失敗: " + enemyId);
 		return null;
 	}
 
+	private com.kh.tbrr.battle.EnemyTemplate cacheEnemyTemplate(String enemyId, String json) {
+		com.kh.tbrr.battle.EnemyTemplate template = gson.fromJson(json, com.kh.tbrr.battle.EnemyTemplate.class);
+		if (template != null) {
+			template.prepare();
+			enemyCache.put(enemyId, template);
+		}
+		return template;
+	}
+
+	/**
+	 * 戦闘用の敵インスタンスを生成する
+	 * テンプレートがキャッシュ済みならファイル読み込み・JSON解析は行わない
+	 */
+	public com.kh.tbrr.battle.EnemyInstance createEnemyInstance(String enemyId) {
+		com.kh.tbrr.battle.EnemyTemplate template = loadEnemyTemplate(enemyId);
+		return (template != null) ? new com.kh.tbrr.battle.EnemyInstance(template) : null;
+	}
+
 	/**
 	 * sensitiveフラグを取得
 	 */
@@ -735,6 +800,7 @@ public class DataManager {
 		eventCache.clear();
 		scenarioCache.clear();
 		mapCache.clear();
+		enemyCache.clear();
 	}
 
 	public void clearItemCache() {
@@ -752,4 +818,8 @@ public class DataManager {
 	public void clearMapCache() {
 		mapCache.clear();
 	}
+
+	public void clearEnemyCache() {
+		enemyCache.clear();
+	}
 }
\ No newline at end of file
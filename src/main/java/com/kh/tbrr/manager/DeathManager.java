@@ -178,12 +178,14 @@ public class DeathManager {
 			ui.print("");
 			gameState.markCharacterAsLost(player); // キャラ削除処理（仮）
 
-			// 墓地にファイルとして永続保存する
+			// 墓地の記録ログに永続保存する
 			com.kh.tbrr.data.models.GraveRecord graveRecord = new com.kh.tbrr.data.models.GraveRecord(
 					player.getName(),
 					player.getJob(),
 					gameState.getCurrentFloor(),
-					deathCause != null ? deathCause : "generic");
+					deathCause != null ? deathCause : "generic",
+					gameState.getCurrentScenario(),
+					System.currentTimeMillis());
 			GraveyardManager.saveRecord(graveRecord);
 		}
 
@@ -23,6 +23,9 @@ public class EventManager {
 	private EventProcessor eventProcessor;
 	private Random random;
 
+	// フロア開始時に開始SEを先読みするイベント数の上限（SEキャッシュを先読みだけで埋めないため）
+	private static final int OPENING_SOUND_PRELOAD_LIMIT = 16;
+
 	public EventManager(DataManager dataManager, EventProcessor eventProcessor, ScenarioManager scenarioManager,
 			DeveloperMode developerMode) {
 		this.dataManager = dataManager;
@@ -142,6 +145,39 @@ public class EventManager {
 		}
 	}
 
+	/**
+	 * このフロアで起こりうるイベントの開始時SEを先読みする（フロア開始時にGameEngineから呼ぶ）
+	 * triggerRandomEvent と同じ順で候補を決める：強制イベント・固定イベントがあればそれだけ、
+	 * なければ山札の残り（山札が空か、プールが変わって作り直しになるときはプール全体）
+	 */
+	public void preloadFloorEventSounds(Scenario.StageConfig area, Player player, GameState gameState) {
+		List<String> candidates;
+		String forcedEventId = checkGlobalForcedEvents(player, gameState);
+		String floorKey = String.valueOf(gameState.getCurrentFloor());
+		if (forcedEventId != null) {
+			candidates = List.of(forcedEventId);
+		} else if (area.getFixedEvents() != null && area.getFixedEvents().containsKey(floorKey)) {
+			candidates = List.of(area.getFixedEvents().get(floorKey));
+		} else {
+			List<String> eventPool = buildEventPool(area, player, gameState);
+			String eventPoolId = generateEventPoolId(area, gameState.getCurrentMap(), eventPool);
+			List<String> deck = gameState.getRemainingEventDeck();
+			candidates = (eventPoolId.equals(gameState.getCurrentEventPoolId()) && !deck.isEmpty()) ? deck : eventPool;
+		}
+
+		List<GameEvent> events = new ArrayList<>();
+		for (String eventId : candidates) {
+			if (events.size() >= OPENING_SOUND_PRELOAD_LIMIT) {
+				break;
+			}
+			GameEvent event = dataManager.loadEvent(eventId);
+			if (event != null) {
+				events.add(event);
+			}
+		}
+		eventProcessor.preloadOpeningSounds(events);
+	}
+
 	public void triggerEvent(String eventId, Player player, GameState gameState) {
 		GameEvent event = dataManager.loadEvent(eventId);
 
@@ -1,53 +1,132 @@
 package com.kh.tbrr.manager;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.kh.tbrr.data.models.GraveRecord;
 
 /**
  * 墓地管理クラス（再整備版）
  *
- * 役割：死亡記録（GraveRecord）をJSONファイルとして永続保存し、一覧を読み込む。
+ * 役割：死亡記録（GraveRecord）を永続保存し、一覧・集計を返す。
  * 保存先：userdata/memory/graveyard/
  *
  * 設計方針：
  *  - GameState（ゲームセッション）に依存せず、staticメソッドでどこからでも呼べる。
- *  - 1キャラの死亡記録 = 1ファイル（UUID.json）で管理する。
+ *  - 記録は graveyard.log に1行1記録のJSONで追記していく（書き換えない）。
+ *  - graveyard.idx に各記録の位置（ログ内のバイト位置）と、死亡日時・シナリオ・死因・到達フロアだけを持つ。
+ *    一覧はこの索引で絞り込み・並べ替えをしてから、表示する分の記録だけをログから読む（queryRecords）。
+ *  - 死因ごとの件数や平均到達フロアは、索引を読んだときと追記のたびにメモリ上で数えておく（getStats）。
+ *  - 索引がログより古い（追記の直後に落ちたなど）ときは、足りない分だけログから読み直す。
+ *  - 以前の形式（1キャラ1ファイルの UUID.json）が残っていれば、最初の読み込みでログに移し、
+ *    元のファイルは legacy/ に移動する。
  *  - フォルダが存在しない場合は自動生成する。
  */
 public class GraveyardManager {
 
     /** 保存先ディレクトリ */
     private static final String GRAVEYARD_DIR = "userdata/memory/graveyard";
+    private static final String LOG_FILE = "graveyard.log";
+    private static final String INDEX_FILE = "graveyard.idx";
+    private static final String LEGACY_DIR = "legacy";
 
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    // 索引ファイルのヘッダー
+    private static final byte[] INDEX_MAGIC = { 'T', 'B', 'R', 'G' };
+    private static final int INDEX_VERSION = 1;
+
+    private static final Gson gson = new Gson();
+
+    /** 一覧の並び順 */
+    public enum Sort {
+        /** 新しい順 */
+        NEWEST,
+        /** 古い順 */
+        OLDEST,
+        /** 到達フロアの深い順（同じフロアなら新しい順） */
+        DEEPEST
+    }
 
     /**
-     * 死亡記録をJSONファイルとして保存する。
-     * ファイル名はUUIDで自動生成（重複しない）。
+     * 一覧の1ページ
+     *
+     * @param records このページの記録
+     * @param total   条件に合う記録の総数
+     * @param offset  このページの先頭が何件目か（0始まり）
+     */
+    public record Page(List<GraveRecord> records, int total, int offset) {
+    }
+
+    /**
+     * 墓地全体の集計
+     *
+     * @param total           記録の総数
+     * @param deathsByCause   死因ごとの件数（多い順）
+     * @param deathsByScenario シナリオごとの件数（多い順、シナリオ不明は含めない）
+     * @param averageFloor    平均到達フロア（記録がなければ 0）
+     * @param deepestFloor    最も深い到達フロア
+     */
+    public record Stats(int total, Map<String, Integer> deathsByCause, Map<String, Integer> deathsByScenario,
+            double averageFloor, int deepestFloor) {
+    }
+
+    /** 索引の1件（ログ内の位置と、絞り込み・並べ替えに使う項目） */
+    private record Entry(long offset, int length, long diedAt, int floor, String scenario, String cause) {
+    }
+
+    // ---- 索引（メモリ上。読み書きは synchronized で行う） ----
+    private static List<Entry> entries;
+    private static long indexedLogLength;
+    private static Map<String, List<Integer>> byCause;
+    private static Map<String, List<Integer>> byScenario;
+    // 到達フロアの深い順に並べた番号（必要になったときに作る）
+    private static int[] byFloor;
+    private static long floorSum;
+    private static int deepestFloor;
+
+    /**
+     * 死亡記録を保存する（ログの末尾に1行追記し、索引を更新する）。
+     * 記録IDと死亡日時が空なら、ここで付ける。
      *
      * @param record 保存するGraveRecord
      */
-    public static void saveRecord(GraveRecord record) {
+    public static synchronized void saveRecord(GraveRecord record) {
         try {
-            ensureGraveyardDirectory();
-            String filename = UUID.randomUUID().toString() + ".json";
-            File file = new File(GRAVEYARD_DIR, filename);
-            try (FileWriter writer = new FileWriter(file)) {
-                gson.toJson(record, writer);
+            ensureIndex();
+            if (record.getId() == null) {
+                record.setId(UUID.randomUUID().toString());
+            }
+            if (record.getDiedAt() == 0) {
+                record.setDiedAt(System.currentTimeMillis());
             }
-            System.out.println("[GraveyardManager] 墓地に記録しました: " + filename);
+            append(List.of(record));
+            writeIndex();
+            System.out.println("[GraveyardManager] 墓地に記録しました: " + record.getId());
         } catch (IOException e) {
             System.err.println("[GraveyardManager] 墓地への保存に失敗しました: " + e.getMessage());
             e.printStackTrace();
@@ -55,35 +134,419 @@ public class GraveyardManager {
     }
 
     /**
-     * 墓地フォルダ内の全記録を読み込んでリストで返す。
-     * フォルダが存在しない、またはファイルがない場合は空リストを返す。
+     * 条件に合う記録を1ページ分読み込む。
+     * 絞り込みと並べ替えは索引で行い、ログからはこのページの記録だけを読む。
+     *
+     * @param scenario   シナリオIDで絞り込む（null なら絞り込まない）
+     * @param deathCause 死因で絞り込む（null なら絞り込まない）
+     * @param sort       並び順
+     * @param offset     何件目から（0始まり）
+     * @param limit      最大件数
+     * @return ページ（読み込みに失敗した場合は空のページ）
+     */
+    public static synchronized Page queryRecords(String scenario, String deathCause, Sort sort, int offset,
+            int limit) {
+        try {
+            ensureIndex();
+            int[] matched = select(scenario, deathCause, sort);
+            int from = Math.max(0, Math.min(offset, matched.length));
+            int to = (int) Math.min(matched.length, (long) from + Math.max(0, limit));
+            return new Page(readRecords(Arrays.copyOfRange(matched, from, to)), matched.length, from);
+        } catch (IOException e) {
+            System.err.println("[GraveyardManager] 記録の読み込みに失敗しました: " + e.getMessage());
+            e.printStackTrace();
+            return new Page(List.of(), 0, 0);
+        }
+    }
+
+    /**
+     * 墓地全体の集計を返す（記録は読まず、索引で数えた値を返す）
+     */
+    public static synchronized Stats getStats() {
+        try {
+            ensureIndex();
+        } catch (IOException e) {
+            System.err.println("[GraveyardManager] 墓地の索引の読み込みに失敗しました: " + e.getMessage());
+            e.printStackTrace();
+            return new Stats(0, Map.of(), Map.of(), 0, 0);
+        }
+        int total = entries.size();
+        return new Stats(total, countsOf(byCause), countsOf(byScenario),
+                total == 0 ? 0 : (double) floorSum / total, deepestFloor);
+    }
+
+    /**
+     * 全記録を読み込んでリストで返す（新しい順）。
+     * 記録が多いと重いので、画面表示には queryRecords を使う。
      *
-     * @return GraveRecordのリスト（ファイルが多い順）
+     * @return GraveRecordのリスト
      */
     public static List<GraveRecord> loadAllRecords() {
-        List<GraveRecord> records = new ArrayList<>();
-        File dir = new File(GRAVEYARD_DIR);
-        if (!dir.exists() || !dir.isDirectory()) {
-            return records;
+        return queryRecords(null, null, Sort.NEWEST, 0, Integer.MAX_VALUE).records();
+    }
+
+    // =============================================
+    // --- 索引の絞り込み ---
+    // =============================================
+
+    private static int[] select(String scenario, String deathCause, Sort sort) {
+        int[] matched;
+        if (sort == Sort.DEEPEST) {
+            matched = filter(floorOrder(), scenario, deathCause);
+        } else {
+            // 条件のうち件数の少ない方の一覧から始める（一覧は古い順に並んでいる）
+            List<Integer> base = null;
+            if (deathCause != null) {
+                base = byCause.getOrDefault(deathCause, List.of());
+            }
+            if (scenario != null) {
+                List<Integer> s = byScenario.getOrDefault(scenario, List.of());
+                if (base == null || s.size() < base.size()) {
+                    base = s;
+                }
+            }
+            int[] candidates = (base == null) ? allPositions() : base.stream().mapToInt(Integer::intValue).toArray();
+            matched = filter(candidates, scenario, deathCause);
+            if (sort != Sort.OLDEST) {
+                reverse(matched);
+            }
         }
+        return matched;
+    }
 
-        File[] files = dir.listFiles((d, name) -> name.endsWith(".json"));
-        if (files == null) {
-            return records;
+    private static int[] filter(int[] candidates, String scenario, String deathCause) {
+        if (scenario == null && deathCause == null) {
+            return candidates;
         }
+        return Arrays.stream(candidates).filter(i -> {
+            Entry e = entries.get(i);
+            return (scenario == null || scenario.equals(e.scenario()))
+                    && (deathCause == null || deathCause.equals(e.cause()));
+        }).toArray();
+    }
 
-        for (File file : files) {
-            try (FileReader reader = new FileReader(file)) {
-                GraveRecord record = gson.fromJson(reader, GraveRecord.class);
+    private static int[] allPositions() {
+        int[] all = new int[entries.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    /** 到達フロアの深い順（同じフロアなら新しい順） */
+    private static int[] floorOrder() {
+        if (byFloor == null) {
+            byFloor = Arrays.stream(allPositions()).boxed()
+                    .sorted(Comparator.comparingInt((Integer i) -> entries.get(i).floor()).reversed()
+                            .thenComparing(Comparator.reverseOrder()))
+                    .mapToInt(Integer::intValue).toArray();
+        }
+        return byFloor.clone();
+    }
+
+    private static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static Map<String, Integer> countsOf(Map<String, List<Integer>> postings) {
+        List<Map.Entry<String, List<Integer>>> sorted = new ArrayList<>(postings.entrySet());
+        sorted.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Integer>> e : sorted) {
+            counts.put(e.getKey(), e.getValue().size());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    // =============================================
+    // --- ログの読み書き ---
+    // =============================================
+
+    private static Path dir() {
+        return Paths.get(GRAVEYARD_DIR);
+    }
+
+    /** 記録をログに追記し、索引に加える */
+    private static void append(List<GraveRecord> records) throws IOException {
+        ensureGraveyardDirectory();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<long[]> spans = new ArrayList<>();
+        for (GraveRecord record : records) {
+            byte[] line = gson.toJson(record).getBytes(StandardCharsets.UTF_8);
+            spans.add(new long[] { indexedLogLength + bytes.size(), line.length });
+            bytes.write(line);
+            bytes.write('\n');
+        }
+        try (FileChannel channel = FileChannel.open(dir().resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // 索引が覚えている末尾から書く（途中で切れた行があれば上書きする）
+            channel.truncate(indexedLogLength);
+            channel.position(indexedLogLength);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        for (int i = 0; i < records.size(); i++) {
+            GraveRecord record = records.get(i);
+            addEntry(new Entry(spans.get(i)[0], (int) spans.get(i)[1], record.getDiedAt(), record.getFloor(),
+                    record.getScenario(), record.getDeathEvent()));
+        }
+        indexedLogLength += bytes.size();
+    }
+
+    /** 索引の番号の記録をログから読む（番号の順に返す） */
+    private static List<GraveRecord> readRecords(int[] positions) throws IOException {
+        List<GraveRecord> records = new ArrayList<>(positions.length);
+        if (positions.length == 0) {
+            return records;
+        }
+        try (FileChannel channel = FileChannel.open(dir().resolve(LOG_FILE), StandardOpenOption.READ)) {
+            for (int i : positions) {
+                Entry e = entries.get(i);
+                ByteBuffer buffer = ByteBuffer.allocate(e.length());
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, e.offset() + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                GraveRecord record = parse(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
                 if (record != null) {
                     records.add(record);
                 }
-            } catch (IOException e) {
+            }
+        }
+        return records;
+    }
+
+    private static GraveRecord parse(String line) {
+        try {
+            return gson.fromJson(line, GraveRecord.class);
+        } catch (RuntimeException e) {
+            System.err.println("[GraveyardManager] 壊れた記録を読み飛ばしました: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // =============================================
+    // --- 索引の用意 ---
+    // =============================================
+
+    /** 索引を用意する（初回だけ：索引ファイルの読み込み → ログの追いつき → 以前の形式の移行） */
+    private static void ensureIndex() throws IOException {
+        if (entries != null) {
+            return;
+        }
+        try {
+            resetIndex();
+            Path log = dir().resolve(LOG_FILE);
+            long logSize = Files.exists(log) ? Files.size(log) : 0;
+
+            if (!readIndex(logSize)) {
+                resetIndex();
+            }
+            if (indexedLogLength < logSize) {
+                boolean hadIndex = indexedLogLength > 0;
+                catchUp(log);
+                System.out.println("[GraveyardManager] 墓地の索引を" + (hadIndex ? "更新" : "作成") + "しました: "
+                        + entries.size() + " 件");
+                writeIndex();
+            }
+            migrateLegacyFiles();
+        } catch (IOException | RuntimeException e) {
+            // 追いついていない索引のまま追記するとログを切り詰めてしまうので、次の呼び出しで最初からやり直す
+            entries = null;
+            throw e;
+        }
+    }
+
+    private static void resetIndex() {
+        entries = new ArrayList<>();
+        indexedLogLength = 0;
+        byCause = new HashMap<>();
+        byScenario = new HashMap<>();
+        byFloor = null;
+        floorSum = 0;
+        deepestFloor = 0;
+    }
+
+    private static void addEntry(Entry e) {
+        int position = entries.size();
+        entries.add(e);
+        byCause.computeIfAbsent(e.cause(), k -> new ArrayList<>()).add(position);
+        if (e.scenario() != null && !e.scenario().isEmpty()) {
+            byScenario.computeIfAbsent(e.scenario(), k -> new ArrayList<>()).add(position);
+        }
+        floorSum += e.floor();
+        deepestFloor = Math.max(deepestFloor, e.floor());
+        byFloor = null;
+    }
+
+    /** 索引に入っていないログの末尾を読んで索引に加える（途中で切れた最後の行は捨てる） */
+    private static void catchUp(Path log) throws IOException {
+        byte[] tail;
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            channel.position(indexedLogLength);
+            tail = Channels.newInputStream(channel).readAllBytes();
+        }
+        int lineStart = 0;
+        for (int i = 0; i < tail.length; i++) {
+            if (tail[i] != '\n') {
+                continue;
+            }
+            long offset = indexedLogLength + lineStart;
+            int length = i - lineStart;
+            GraveRecord record = parse(new String(tail, lineStart, length, StandardCharsets.UTF_8));
+            if (record != null) {
+                addEntry(new Entry(offset, length, record.getDiedAt(), record.getFloor(), record.getScenario(),
+                        record.getDeathEvent()));
+            }
+            lineStart = i + 1;
+        }
+        // 途中で切れた行は次の追記で上書きされる
+        indexedLogLength += lineStart;
+    }
+
+    /**
+     * 索引ファイルを読む
+     * 形式が違う、またはログより先まで索引している（ログが差し替えられた）ときは false
+     */
+    private static boolean readIndex(long logSize) {
+        Path file = dir().resolve(INDEX_FILE);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            byte[] magic = new byte[INDEX_MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, INDEX_MAGIC) || in.readInt() != INDEX_VERSION) {
+                return false;
+            }
+            long covered = in.readLong();
+            if (covered > logSize) {
+                return false;
+            }
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long offset = in.readLong();
+                int length = in.readInt();
+                long diedAt = in.readLong();
+                int floor = in.readInt();
+                int scenario = in.readInt();
+                int cause = in.readInt();
+                addEntry(new Entry(offset, length, diedAt, floor,
+                        scenario < 0 ? null : strings[scenario], cause < 0 ? null : strings[cause]));
+            }
+            indexedLogLength = covered;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[GraveyardManager] 墓地の索引が読めないため作り直します: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** 索引ファイルを書く（シナリオ・死因は文字列表の番号で持つ） */
+    private static void writeIndex() throws IOException {
+        Map<String, Integer> table = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Entry e : entries) {
+            for (String s : new String[] { e.scenario(), e.cause() }) {
+                if (s != null && !table.containsKey(s)) {
+                    table.put(s, strings.size());
+                    strings.add(s);
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(INDEX_MAGIC);
+        out.writeInt(INDEX_VERSION);
+        out.writeLong(indexedLogLength);
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            out.writeUTF(s);
+        }
+        out.writeInt(entries.size());
+        for (Entry e : entries) {
+            out.writeLong(e.offset());
+            out.writeInt(e.length());
+            out.writeLong(e.diedAt());
+            out.writeInt(e.floor());
+            out.writeInt(e.scenario() == null ? -1 : table.get(e.scenario()));
+            out.writeInt(e.cause() == null ? -1 : table.get(e.cause()));
+        }
+        out.flush();
+        ensureGraveyardDirectory();
+        SaveManager.writeAtomically(dir().resolve(INDEX_FILE), bytes.toByteArray());
+    }
+
+    // =============================================
+    // --- 以前の形式（UUID.json）の移行 ---
+    // =============================================
+
+    /**
+     * 墓地フォルダに残っている UUID.json をログに移し、元のファイルは legacy/ に移動する。
+     * ファイル名（UUID）を記録IDにするので、移動の前に落ちても次回に同じ記録が二重に入ることはない。
+     */
+    private static void migrateLegacyFiles() throws IOException {
+        File[] files = new File(GRAVEYARD_DIR).listFiles((d, name) -> name.endsWith(".json"));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        // 古い順に移す
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+        Set<String> knownIds = loadIds();
+        List<GraveRecord> migrated = new ArrayList<>();
+        List<File> done = new ArrayList<>();
+        for (File file : files) {
+            String id = file.getName().substring(0, file.getName().length() - ".json".length());
+            GraveRecord record;
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                record = gson.fromJson(reader, GraveRecord.class);
+            } catch (IOException | RuntimeException e) {
                 System.err.println("[GraveyardManager] 記録の読み込みに失敗しました: " + file.getName());
+                continue;
             }
+            if (record != null && !knownIds.contains(id)) {
+                record.setId(id);
+                record.setDiedAt(file.lastModified());
+                migrated.add(record);
+            }
+            done.add(file);
         }
 
-        return records;
+        if (!migrated.isEmpty()) {
+            append(migrated);
+            writeIndex();
+        }
+        Path legacy = dir().resolve(LEGACY_DIR);
+        Files.createDirectories(legacy);
+        for (File file : done) {
+            Files.move(file.toPath(), legacy.resolve(file.getName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+        System.out.println("[GraveyardManager] 以前の形式の記録をログに移しました: " + migrated.size() + " 件");
+    }
+
+    /** ログにある記録IDの一覧（移行のときだけ使う） */
+    private static Set<String> loadIds() throws IOException {
+        Set<String> ids = new HashSet<>();
+        for (GraveRecord record : readRecords(allPositions())) {
+            if (record.getId() != null) {
+                ids.add(record.getId());
+            }
+        }
+        return ids;
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.kh.tbrr.manager;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+
+/**
+ * アイコン（32×32）の共有キャッシュとテクスチャアトラス。
+ *
+ * 各アイコンはプロセス中に1回だけデコードし、512×512 のアトラス（WritableImage）の1マスへ詰める。
+ * 表示側にはアトラスを共有し viewport で切り出した ImageView を渡すため、
+ * ステータス欄を何度作り直してもデコードもテクスチャの追加も起きない。
+ *
+ * デコードはどのスレッドでもよい（warm() はバックグラウンドで行う）。
+ * アトラスへの書き込みと ImageView の生成は JavaFX Application Thread で行う。
+ */
+public final class IconAtlas {
+
+    private static final String ICON_BASE_PATH = "/data/images/icons/";
+    private static final int ICON_SIZE = 32;
+    private static final int PAGE_SIZE = 512;
+    private static final int SLOTS_PER_ROW = PAGE_SIZE / ICON_SIZE;
+    private static final int SLOTS_PER_PAGE = SLOTS_PER_ROW * SLOTS_PER_ROW;
+
+    /** アトラス内の位置 */
+    private record Slot(WritableImage page, Rectangle2D viewport) {
+    }
+
+    /** デコード済みの画像（ファイル名 → Image） */
+    private static final Map<String, Image> decoded = new ConcurrentHashMap<>();
+    /** 見つからなかったファイル（警告を繰り返さないため） */
+    private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    // ---- アトラス（FXスレッド専用）----
+    private static final Map<String, Slot> slots = new java.util.HashMap<>();
+    private static final List<WritableImage> pages = new ArrayList<>();
+    private static int nextSlot = 0;
+
+    private static final ExecutorService warmer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "icon-warmer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private IconAtlas() {
+    }
+
+    /**
+     * アイコンをデコード済みキャッシュから取得する（なければ読み込む）。
+     *
+     * @param fileName ファイル名（例: "strength.png"）
+     * @return 読み込んだImage。見つからない場合はnull
+     */
+    public static Image getImage(String fileName) {
+        if (fileName == null || fileName.isEmpty() || missing.contains(fileName)) {
+            return null;
+        }
+        Image image = decoded.get(fileName);
+        if (image != null) {
+            return image;
+        }
+        image = decode(fileName);
+        if (image == null) {
+            missing.add(fileName);
+            return null;
+        }
+        Image prev = decoded.putIfAbsent(fileName, image);
+        return prev != null ? prev : image;
+    }
+
+    /**
+     * アトラスから切り出した ImageView を作る（FXスレッドから呼ぶこと）。
+     *
+     * @return ImageView。アイコンが見つからない場合はnull
+     */
+    public static ImageView createView(String fileName) {
+        Slot slot = slots.get(fileName);
+        if (slot == null) {
+            Image image = getImage(fileName);
+            if (image == null) {
+                return null;
+            }
+            slot = pack(image);
+            slots.put(fileName, slot);
+        }
+        ImageView view = new ImageView(slot.page());
+        view.setViewport(slot.viewport());
+        return view;
+    }
+
+    /**
+     * 指定したアイコンをバックグラウンドでデコードしておき、終わったらアトラスへ詰める。
+     * 既に読み込み済み・存在しないと分かっているものは何もしない。
+     */
+    public static void warm(Collection<String> fileNames) {
+        List<String> targets = new ArrayList<>();
+        for (String name : fileNames) {
+            if (name != null && !name.isEmpty() && !decoded.containsKey(name) && !missing.contains(name)) {
+                targets.add(name);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        warmer.execute(() -> {
+            List<String> loaded = new ArrayList<>();
+            for (String name : targets) {
+                if (getImage(name) != null) {
+                    loaded.add(name);
+                }
+            }
+            if (!loaded.isEmpty()) {
+                Platform.runLater(() -> {
+                    for (String name : loaded) {
+                        if (!slots.containsKey(name)) {
+                            slots.put(name, pack(decoded.get(name)));
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private static Image decode(String fileName) {
+        String path = ICON_BASE_PATH + fileName;
+        try (InputStream is = IconAtlas.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("[IconHelper] アイコンが見つかりません: " + path);
+                return null;
+            }
+            Image image = new Image(is, ICON_SIZE, ICON_SIZE, true, true);
+            if (image.isError()) {
+                System.err.println("[IconHelper] アイコン読み込みエラー: " + fileName);
+                return null;
+            }
+            return image;
+        } catch (Exception e) {
+            System.err.println("[IconHelper] アイコン読み込みエラー: " + fileName);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /** 次の空きマスへ画像をコピーする（FXスレッド）。縦横比を保った画像はマスの左上に置く */
+    private static Slot pack(Image image) {
+        int pageIndex = nextSlot / SLOTS_PER_PAGE;
+        int index = nextSlot % SLOTS_PER_PAGE;
+        nextSlot++;
+        if (pageIndex == pages.size()) {
+            pages.add(new WritableImage(PAGE_SIZE, PAGE_SIZE));
+        }
+        WritableImage page = pages.get(pageIndex);
+        int x = (index % SLOTS_PER_ROW) * ICON_SIZE;
+        int y = (index / SLOTS_PER_ROW) * ICON_SIZE;
+        int w = Math.min(ICON_SIZE, (int) image.getWidth());
+        int h = Math.min(ICON_SIZE, (int) image.getHeight());
+        page.getPixelWriter().setPixels(x, y, w, h, image.getPixelReader(), 0, 0);
+        return new Slot(page, new Rectangle2D(x, y, w, h));
+    }
+}
@@ -1,47 +1,96 @@
 package com.kh.tbrr.manager;
 
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kh.tbrr.data.models.Player;
 
 import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 
 /**
  * アイコン画像（32×32）の読み込みを管理するヘルパークラス
  * 
- * 技能、アイテム、状態異常のアイコン画像を統一的に扱う
+ * 技能、アイテム、状態異常のアイコン画像を統一的に扱う。
+ * 画像は {@link IconAtlas} で1回だけデコードしてキャッシュする。
  */
 public class IconHelper {
 
-    private static final String ICON_BASE_PATH = "/data/images/icons/";
     private static final int ICON_SIZE = 32;
 
     /**
-     * アイコン画像を読み込む
+     * アイコン画像を読み込む（デコード済みならキャッシュを返す）
      * 
      * @param fileName ファイル名（例: "strength.png", "torch.png"）
      * @return 読み込んだImage。失敗した場合はnull
      */
     public static Image loadIcon(String fileName) {
-        if (fileName == null || fileName.isEmpty()) {
+        return IconAtlas.getImage(fileName);
+    }
+
+    /**
+     * 技能アイコンの ImageView をアトラスから作る（FXスレッドから呼ぶこと）
+     * 
+     * @param skillName 技能名（日本語）
+     * @return ImageView。マッピングまたは画像が見つからない場合はnull
+     */
+    public static ImageView createSkillIconView(String skillName) {
+        String fileName = com.kh.tbrr.data.SkillIconMapper.getIconFileName(skillName);
+        if (fileName == null) {
+            System.err.println("[IconHelper] 技能のマッピングが見つかりません: " + skillName);
             return null;
         }
+        return IconAtlas.createView(fileName);
+    }
 
-        try {
-            String path = ICON_BASE_PATH + fileName;
-            InputStream is = IconHelper.class.getResourceAsStream(path);
-
-            if (is != null) {
-                Image image = new Image(is, ICON_SIZE, ICON_SIZE, true, true);
-                is.close();
-                return image;
-            } else {
-                System.err.println("[IconHelper] アイコンが見つかりません: " + path);
-                return null;
-            }
-        } catch (Exception e) {
-            System.err.println("[IconHelper] アイコン読み込みエラー: " + fileName);
-            e.printStackTrace();
+    /**
+     * アイテムアイコンの ImageView をアトラスから作る（FXスレッドから呼ぶこと）
+     */
+    public static ImageView createItemIconView(String itemId) {
+        if (itemId == null || itemId.isEmpty()) {
             return null;
         }
+        return IconAtlas.createView(itemId + ".png");
+    }
+
+    /**
+     * 状態異常アイコンの ImageView をアトラスから作る（FXスレッドから呼ぶこと）
+     */
+    public static ImageView createStatusEffectIconView(String effectId) {
+        if (effectId == null || effectId.isEmpty()) {
+            return null;
+        }
+        return IconAtlas.createView(effectId + ".png");
+    }
+
+    /**
+     * プレイヤーの技能・所持品・状態異常のアイコンをバックグラウンドで読み込んでおく。
+     * 読み込み済みのものは何もしないので、ステータス更新のたびに呼んでよい。
+     */
+    public static void warmPlayerIcons(Player player) {
+        if (player == null) {
+            return;
+        }
+        List<String> fileNames = new ArrayList<>();
+        if (player.getEffectiveSkills() != null) {
+            for (String skillName : player.getEffectiveSkills()) {
+                String fileName = com.kh.tbrr.data.SkillIconMapper.getIconFileName(skillName);
+                if (fileName != null) {
+                    fileNames.add(fileName);
+                }
+            }
+        }
+        if (player.getInventory() != null) {
+            for (String itemId : player.getInventory()) {
+                fileNames.add(itemId + ".png");
+            }
+        }
+        if (player.getStatusEffects() != null) {
+            for (String effectId : player.getStatusEffects().keySet()) {
+                fileNames.add(effectId + ".png");
+            }
+        }
+        IconAtlas.warm(fileNames);
     }
 
     /**
@@ -0,0 +1,299 @@
+package com.kh.tbrr.manager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.scene.image.Image;
+
+/**
+ * プロセス全体で共有する画像キャッシュ
+ *
+ * 画面ごとに ImageManager を作っても、デコード済みの画像はここに1つだけ持つ。
+ * 画素メモリ（幅×高さ×4バイト）の合計に上限を設け、超えたら最近使われていない画像から捨てる（LRU）。
+ *
+ * 画像は（パス, 表示サイズ, 縦横比の扱い）ごとに別の要素として持つ。表示サイズを指定した場合は
+ * その大きさ（HiDPI画面では出力倍率を掛けた大きさ）に縮小してデコードするため、
+ * 固定サイズの ImageView に大きな原画を読み込んでも原寸分のメモリは使わない。
+ * 縦横比を保たずに引き伸ばして表示する ImageView（setPreserveRatio(false)）向けには stretch を指定する。
+ * 縦横比を保ってデコードすると、表示時に片方向だけ拡大されてぼやけるため。
+ *
+ * 固定（pin）した画像は上限を超えても捨てない。プレイ中のキャラクターの立ち絵のように、
+ * いつ表示されるか分からないが表示時に引っかかってほしくない画像に使う。
+ *
+ * パスが "/" で始まる場合はクラスパスのリソース、それ以外はファイルシステム上のファイルとして読む。
+ * どのスレッドから呼んでもよい。
+ */
+public final class ImageCache {
+
+	// 画素メモリの上限の初期値（256MB）
+	private static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+	/**
+	 * キャッシュのキー
+	 * width / height が 0 の場合は原寸。stretch なら縦横比を保たずに表示サイズちょうどにデコードする
+	 */
+	private record Key(String path, int width, int height, boolean stretch) {
+	}
+
+	// 最近使った順に並ぶ（アクセス順の LinkedHashMap。lock で保護する）
+	private static final LinkedHashMap<Key, Image> entries = new LinkedHashMap<>(64, 0.75f, true);
+	private static final Object lock = new Object();
+	private static long usedBytes = 0;
+	private static long budgetBytes = DEFAULT_BUDGET_BYTES;
+	// 捨てない画像（lock で保護する）
+	private static final Set<Key> pinned = new java.util.HashSet<>();
+
+	// デコード中の画像（同じ画像を二重にデコードしないため）
+	private static final Map<Key, CompletableFuture<Image>> pending = new ConcurrentHashMap<>();
+
+	// 見つからなかった画像のパス（先読みのたびに警告を繰り返さないため）
+	private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+	// デコード用のワーカー
+	private static final ExecutorService decoder = Executors.newFixedThreadPool(2, r -> {
+		Thread t = new Thread(r, "image-decoder");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// 表示サイズに掛ける倍率（HiDPI 対応。FXスレッドで setOutputScale から設定する）
+	private static volatile double outputScale = 1.0;
+
+	private ImageCache() {
+	}
+
+	/**
+	 * 画像を取得する（なければこのスレッドでデコードする）
+	 *
+	 * @param path   リソースパス（"/" 始まり）またはファイルパス
+	 * @param width  表示幅（0 なら原寸）
+	 * @param height 表示高さ（0 なら原寸）
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public static Image get(String path, int width, int height) {
+		return get(path, width, height, false);
+	}
+
+	/**
+	 * 画像を取得する（なければこのスレッドでデコードする）
+	 *
+	 * @param stretch 縦横比を保たずに表示サイズちょうどにデコードする（setPreserveRatio(false) の表示用）
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public static Image get(String path, int width, int height, boolean stretch) {
+		Key key = new Key(path, width, height, stretch);
+		Image image = lookup(key);
+		if (image != null || missing.contains(path)) {
+			return image;
+		}
+		return decodeAndStore(key);
+	}
+
+	/**
+	 * 画像をワーカースレッドで取得する
+	 * キャッシュ済みなら完了済みの Future を返す。デコード中なら同じ Future を返す
+	 *
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public static CompletableFuture<Image> getAsync(String path, int width, int height) {
+		return getAsync(path, width, height, false);
+	}
+
+	/**
+	 * 画像をワーカースレッドで取得する
+	 *
+	 * @param stretch 縦横比を保たずに表示サイズちょうどにデコードする（setPreserveRatio(false) の表示用）
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public static CompletableFuture<Image> getAsync(String path, int width, int height, boolean stretch) {
+		Key key = new Key(path, width, height, stretch);
+		Image image = lookup(key);
+		if (image != null || missing.contains(path)) {
+			return CompletableFuture.completedFuture(image);
+		}
+		return pending.computeIfAbsent(key, k -> {
+			CompletableFuture<Image> future = CompletableFuture.supplyAsync(() -> decodeAndStore(k), decoder);
+			future.whenComplete((result, error) -> pending.remove(k));
+			return future;
+		});
+	}
+
+	/**
+	 * 画像を固定し、上限を超えても捨てないようにする（まだ読み込んでいなくてもよい）
+	 */
+	public static void pin(String path, int width, int height) {
+		synchronized (lock) {
+			pinned.add(new Key(path, width, height, false));
+		}
+	}
+
+	/**
+	 * すべての固定を外す（画像はキャッシュに残り、通常どおり古いものから捨てられる）
+	 */
+	public static void unpinAll() {
+		synchronized (lock) {
+			pinned.clear();
+			evict(null);
+		}
+	}
+
+	/**
+	 * 指定したパスの画像を（すべての表示サイズについて）キャッシュから削除する
+	 */
+	public static void remove(String path) {
+		synchronized (lock) {
+			Iterator<Map.Entry<Key, Image>> it = entries.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<Key, Image> e = it.next();
+				if (e.getKey().path().equals(path)) {
+					usedBytes -= bytesOf(e.getValue());
+					it.remove();
+				}
+			}
+		}
+		missing.remove(path);
+	}
+
+	/**
+	 * キャッシュをすべて捨てる
+	 */
+	public static void clear() {
+		synchronized (lock) {
+			entries.clear();
+			usedBytes = 0;
+		}
+		missing.clear();
+	}
+
+	/**
+	 * 画素メモリの上限を変更する（超えている分はすぐに捨てる）
+	 *
+	 * @param bytes 上限（バイト）
+	 */
+	public static void setBudgetBytes(long bytes) {
+		synchronized (lock) {
+			budgetBytes = bytes;
+			evict(null);
+		}
+	}
+
+	public static long getBudgetBytes() {
+		synchronized (lock) {
+			return budgetBytes;
+		}
+	}
+
+	/**
+	 * 表示サイズに掛ける倍率を設定する（HiDPI 対応）
+	 * 画面の情報はFXスレッドでしか読めないため、起動時にFXスレッドから呼ぶ。それまでは 1.0
+	 *
+	 * @param scale 画面の出力倍率（Screen#getOutputScaleX）
+	 */
+	public static void setOutputScale(double scale) {
+		outputScale = Math.max(1.0, scale);
+	}
+
+	/** キャッシュ中の画像の画素メモリの合計（バイト） */
+	public static long getUsedBytes() {
+		synchronized (lock) {
+			return usedBytes;
+		}
+	}
+
+	// =============================================
+	// --- 内部処理 ---
+	// =============================================
+
+	private static Image lookup(Key key) {
+		synchronized (lock) {
+			return entries.get(key);
+		}
+	}
+
+	private static Image decodeAndStore(Key key) {
+		Image image = lookup(key);
+		if (image != null) {
+			return image;
+		}
+		image = decode(key);
+		if (image == null) {
+			missing.add(key.path());
+			return null;
+		}
+		synchronized (lock) {
+			// 別スレッドが先に入れていればそちらを使う
+			Image prev = entries.get(key);
+			if (prev != null) {
+				return prev;
+			}
+			entries.put(key, image);
+			usedBytes += bytesOf(image);
+			evict(key);
+		}
+		return image;
+	}
+
+	/** 上限を超えている間、最近使われていない画像から捨てる（keep と固定した画像は捨てない）。lock を保持して呼ぶこと */
+	private static void evict(Key keep) {
+		Iterator<Map.Entry<Key, Image>> it = entries.entrySet().iterator();
+		while (usedBytes > budgetBytes && it.hasNext()) {
+			Map.Entry<Key, Image> e = it.next();
+			if (e.getKey().equals(keep) || pinned.contains(e.getKey())) {
+				continue;
+			}
+			usedBytes -= bytesOf(e.getValue());
+			it.remove();
+		}
+	}
+
+	private static Image decode(Key key) {
+		String path = key.path();
+		boolean resource = path.startsWith("/");
+		try (InputStream is = resource
+				? ImageCache.class.getResourceAsStream(path)
+				: openFile(path)) {
+			if (is == null) {
+				System.err.println("[ImageManager] 画像が見つかりません: " + path);
+				return null;
+			}
+
+			Image image;
+			if (key.width() > 0 && key.height() > 0) {
+				double scale = outputScale;
+				image = new Image(is, Math.ceil(key.width() * scale), Math.ceil(key.height() * scale),
+						!key.stretch(), true);
+			} else {
+				image = new Image(is);
+			}
+
+			if (image.isError()) {
+				System.err.println("[ImageManager] 画像の読み込みに失敗しました: " + path);
+				return null;
+			}
+			return image;
+
+		} catch (Exception e) {
+			System.err.println("[ImageManager] 画像読み込みエラー: " + path);
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static InputStream openFile(String path) throws java.io.IOException {
+		File file = new File(path);
+		return file.exists() ? new FileInputStream(file) : null;
+	}
+
+	private static long bytesOf(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * 4L;
+	}
+}
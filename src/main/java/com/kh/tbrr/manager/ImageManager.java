@@ -2,7 +2,6 @@ package com.kh.tbrr.manager;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
@@ -10,10 +9,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.scene.image.Image;
 
@@ -21,11 +20,18 @@ import javafx.scene.image.Image;
  * 画像リソースを管理するクラス
  * 立ち絵、背景、イベント挿絵などの画像を読み込む
  * JAR化にも対応
+ *
+ * 大きな背景画像のデコードはFXスレッドで行うと描画が止まるため、
+ * load*Async() / prefetch() でワーカースレッドに任せられる。同期版の load*() はこれまでどおり使える。
+ *
+ * デコード済みの画像は {@link ImageCache} に置くため、画面ごとにインスタンスを作っても共有される。
+ * width / height を受け取るメソッドは、その表示サイズに縮小した画像を返す（0 なら原寸）。
+ * 背景とイベント挿絵は縦横比を保たない ImageView に表示するため、表示サイズちょうどに引き伸ばしてデコードする。
  */
 public class ImageManager {
 
-	// 画像キャッシュ
-	private Map<String, Image> imageCache = new HashMap<>();
+	// 立ち絵の先読みの世代（解放するたびに進め、古い先読みが後から固定しないようにする）
+	private static final AtomicInteger portraitGeneration = new AtomicInteger();
 
 	// Randomインスタンス
 	private Random random = new Random();
@@ -125,38 +131,19 @@ public class ImageManager {
 	 * @return 画像オブジェクト。読み込み失敗時はnull
 	 */
 	public Image loadCustomPortrait(String fileName) {
-		String path = USER_PORTRAITS_DIR + "/" + fileName;
-
-		// キャッシュにあれば返す
-		if (imageCache.containsKey(path)) {
-			return imageCache.get(path);
-		}
-
-		try {
-			File file = new File(path);
-			if (!file.exists()) {
-				System.err.println("[ImageManager] カスタム立ち絵が見つかりません: " + path);
-				return null;
-			}
-
-			FileInputStream fis = new FileInputStream(file);
-			Image image = new Image(fis);
-			fis.close();
-
-			if (image.isError()) {
-				System.err.println("[ImageManager] カスタム立ち絵の読み込みに失敗: " + path);
-				return null;
-			}
-
-			// キャッシュに保存
-			imageCache.put(path, image);
-			return image;
+		return loadCustomPortrait(fileName, 0, 0);
+	}
 
-		} catch (Exception e) {
-			System.err.println("[ImageManager] カスタム立ち絵読み込みエラー: " + path);
-			e.printStackTrace();
-			return null;
-		}
+	/**
+	 * カスタム立ち絵を外部ファイルから表示サイズで読み込む
+	 * 
+	 * @param fileName ファイル名（プレフィックスなし）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public Image loadCustomPortrait(String fileName, int width, int height) {
+		return ImageCache.get(USER_PORTRAITS_DIR + "/" + fileName, width, height);
 	}
 
 	/**
@@ -167,9 +154,22 @@ public class ImageManager {
 	 * @return 画像オブジェクト。読み込み失敗時はnull
 	 */
 	public Image loadCustomPortraitExpression(String baseFileName, String expression) {
+		return loadCustomPortraitExpression(baseFileName, expression, 0, 0);
+	}
+
+	/**
+	 * カスタム立ち絵の表情差分を表示サイズで読み込む
+	 * 
+	 * @param baseFileName 基本ファイル名（*.base.*）
+	 * @param expression   表情名（smile, angry, sad など）
+	 * @param width        表示幅
+	 * @param height       表示高さ
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public Image loadCustomPortraitExpression(String baseFileName, String expression, int width, int height) {
 		// *.base.* を *.expression.* に置換
 		String expressionFileName = baseFileName.replace(".base.", "." + expression + ".");
-		return loadCustomPortrait(expressionFileName);
+		return loadCustomPortrait(expressionFileName, width, height);
 	}
 
 	/**
@@ -182,6 +182,18 @@ public class ImageManager {
 		return loadImage(PORTRAITS_BASE_PATH + fileName);
 	}
 
+	/**
+	 * 立ち絵を表示サイズで読み込む
+	 * 
+	 * @param fileName ファイル名（拡張子含む）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public Image loadPortrait(String fileName, int width, int height) {
+		return ImageCache.get(PORTRAITS_BASE_PATH + fileName, width, height);
+	}
+
 	/**
 	 * 背景画像を読み込む
 	 * 
@@ -192,6 +204,18 @@ public class ImageManager {
 		return loadImage(BG_BASE_PATH + fileName);
 	}
 
+	/**
+	 * 背景画像を表示サイズで読み込む
+	 * 
+	 * @param fileName ファイル名（拡張子含む）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public Image loadBackground(String fileName, int width, int height) {
+		return ImageCache.get(BG_BASE_PATH + fileName, width, height, true);
+	}
+
 	/**
 	 * イベント挿絵を読み込む
 	 * 
@@ -253,6 +277,21 @@ public class ImageManager {
 	 */
 	private List<String> getAvailableBasePortraitsFromClasspath() {
 		List<String> portraits = new ArrayList<>();
+		for (String name : listClasspathPortraitImages()) {
+			if (name.contains(".base.")) {
+				portraits.add(name);
+			}
+		}
+		return portraits;
+	}
+
+	/**
+	 * Classpathの立ち絵フォルダにある画像ファイル名をすべて取得
+	 * 
+	 * @return 画像ファイル名リスト（*.png, *.jpg, *.jpeg）
+	 */
+	private List<String> listClasspathPortraitImages() {
+		List<String> portraits = new ArrayList<>();
 
 		try {
 			// Classpathから直接ディレクトリを探索
@@ -266,8 +305,7 @@ public class ImageManager {
 						if (files != null) {
 							for (java.io.File file : files) {
 								String name = file.getName();
-								if (name.contains(".base.")
-										&& (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg"))) {
+								if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
 									portraits.add(name);
 								}
 							}
@@ -284,7 +322,7 @@ public class ImageManager {
 					String basePath = PORTRAITS_BASE_PATH.substring(1); // 先頭の"/"を除去
 					while (entries.hasMoreElements()) {
 						String name = entries.nextElement().getName();
-						if (name.startsWith(basePath) && name.contains(".base.") &&
+						if (name.startsWith(basePath) &&
 								(name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg"))) {
 							// パスからファイル名だけを抽出
 							String fileName = name.substring(basePath.length());
@@ -313,35 +351,80 @@ public class ImageManager {
 	 * @return 画像オブジェクト。読み込み失敗時はnull
 	 */
 	private Image loadImage(String path) {
-		// キャッシュにあれば返す
-		if (imageCache.containsKey(path)) {
-			return imageCache.get(path);
-		}
+		return ImageCache.get(path, 0, 0);
+	}
 
-		try {
-			// リソースから読み込み（JAR内でも動作）
-			InputStream is = getClass().getResourceAsStream(path);
-			if (is == null) {
-				System.err.println("[ImageManager] 画像が見つかりません: " + path);
-				return null;
-			}
+	/**
+	 * 背景画像をワーカースレッドで表示サイズに読み込む
+	 * 
+	 * @param fileName ファイル名（拡張子含む）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public CompletableFuture<Image> loadBackgroundAsync(String fileName, int width, int height) {
+		return ImageCache.getAsync(BG_BASE_PATH + fileName, width, height, true);
+	}
 
-			Image image = new Image(is);
-			is.close();
+	/**
+	 * イベント挿絵（サブウィンドウ画像）をワーカースレッドで表示サイズに読み込む
+	 * 
+	 * @param fileName ファイル名（拡張子含む）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public CompletableFuture<Image> loadEventImageAsync(String fileName, int width, int height) {
+		return ImageCache.getAsync(EVENT_IMAGES_BASE_PATH + fileName, width, height, true);
+	}
 
-			if (image.isError()) {
-				System.err.println("[ImageManager] 画像の読み込みに失敗しました: " + path);
-				return null;
-			}
+	/**
+	 * 敵画像をワーカースレッドで表示サイズに読み込む
+	 * 
+	 * @param fileName ファイル名（拡張子含む）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public CompletableFuture<Image> loadEnemyImageAsync(String fileName, int width, int height) {
+		return ImageCache.getAsync(ENEMIES_BASE_PATH + fileName, width, height);
+	}
 
-			// キャッシュに保存
-			imageCache.put(path, image);
-			return image;
+	/**
+	 * 立ち絵（custom: プレフィックスならカスタム立ち絵）をワーカースレッドで表示サイズに読み込む
+	 * 
+	 * @param fileName ファイル名（custom: プレフィックス可）
+	 * @param width    表示幅
+	 * @param height   表示高さ
+	 * @return 画像オブジェクトの Future。読み込み失敗時は null で完了する
+	 */
+	public CompletableFuture<Image> loadPortraitAsync(String fileName, int width, int height) {
+		if (isCustomPortrait(fileName)) {
+			return ImageCache.getAsync(USER_PORTRAITS_DIR + "/" + stripCustomPrefix(fileName), width, height);
+		}
+		return ImageCache.getAsync(PORTRAITS_BASE_PATH + fileName, width, height);
+	}
 
-		} catch (Exception e) {
-			System.err.println("[ImageManager] 画像読み込みエラー: " + path);
-			e.printStackTrace();
-			return null;
+	/**
+	 * 画像を先読みする（結果は待たない）
+	 * 次に表示されそうな画像のデコードを、プレイヤーが文章を読んでいる間に済ませておくために使う
+	 * 表示時と同じサイズを指定しないとキャッシュに当たらない
+	 * 
+	 * @param imageType 画像の種類 ("background", "sub", "enemy")
+	 * @param fileName  ファイル名（拡張子含む）
+	 * @param width     表示幅
+	 * @param height    表示高さ
+	 */
+	public void prefetch(String imageType, String fileName, int width, int height) {
+		if (fileName == null || fileName.isEmpty()) {
+			return;
+		}
+		if ("background".equals(imageType)) {
+			loadBackgroundAsync(fileName, width, height);
+		} else if ("sub".equals(imageType)) {
+			loadEventImageAsync(fileName, width, height);
+		} else if ("enemy".equals(imageType)) {
+			loadEnemyImageAsync(fileName, width, height);
 		}
 	}
 
@@ -354,25 +437,127 @@ public class ImageManager {
 	 * @return 画像オブジェクト。読み込み失敗時はnull
 	 */
 	public Image loadPortraitExpression(String baseFileName, String expression) {
+		return loadPortraitExpression(baseFileName, expression, 0, 0);
+	}
+
+	/**
+	 * 立ち絵の表情差分を表示サイズで読み込む
+	 * 
+	 * @param baseFileName 基本ファイル名（*.base.*）
+	 * @param expression   表情名（smile, angry, sad など）
+	 * @param width        表示幅
+	 * @param height       表示高さ
+	 * @return 画像オブジェクト。読み込み失敗時はnull
+	 */
+	public Image loadPortraitExpression(String baseFileName, String expression, int width, int height) {
 		// *.base.* を *.expression.* に置換
 		String expressionFileName = baseFileName.replace(".base.", "." + expression + ".");
-		return loadPortrait(expressionFileName);
+		return loadPortrait(expressionFileName, width, height);
+	}
+
+	/**
+	 * 立ち絵の表情差分のファイル名を列挙する
+	 * 例: warrior.base.png → warrior.smile.png, warrior.angry.png など（同じ拡張子のもの）
+	 * カスタム立ち絵は userdata/user_portraits/ から、内蔵立ち絵はClasspathの立ち絵フォルダから探す
+	 * 
+	 * @param portraitFileName 立ち絵のファイル名（カスタム立ち絵は custom: 付き）
+	 * @return 表情差分のファイル名リスト（基本表情は含まない。プレフィックスなし）
+	 */
+	public List<String> findPortraitExpressionFiles(String portraitFileName) {
+		List<String> expressions = new ArrayList<>();
+		String baseFileName = stripCustomPrefix(portraitFileName);
+		int baseIndex = baseFileName.indexOf(".base.");
+		if (baseIndex < 0) {
+			return expressions;
+		}
+		String prefix = baseFileName.substring(0, baseIndex + 1); // "warrior."
+		String suffix = baseFileName.substring(baseIndex + ".base".length()); // ".png"
+
+		List<String> candidates = isCustomPortrait(portraitFileName)
+				? listCustomPortraitImages()
+				: listClasspathPortraitImages();
+		for (String name : candidates) {
+			if (name.length() > prefix.length() + suffix.length()
+					&& name.startsWith(prefix) && name.endsWith(suffix)) {
+				String expression = name.substring(prefix.length(), name.length() - suffix.length());
+				if (!expression.contains(".") && !expression.equals("base")) {
+					expressions.add(name);
+				}
+			}
+		}
+		return expressions;
+	}
+
+	/**
+	 * userdata/user_portraits/ にある画像ファイル名をすべて取得
+	 */
+	private List<String> listCustomPortraitImages() {
+		List<String> images = new ArrayList<>();
+		File[] files = new File(USER_PORTRAITS_DIR).listFiles();
+		if (files != null) {
+			for (File file : files) {
+				String name = file.getName();
+				if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+					images.add(name);
+				}
+			}
+		}
+		return images;
+	}
+
+	/**
+	 * 立ち絵と表情差分をすべてバックグラウンドで読み込み、キャッシュに固定する
+	 * 最初の表情変更で読み込み待ちが起きないよう、キャラクターの表示開始時に呼ぶ
+	 * 前回固定した立ち絵は固定を外す（同時に固定するのは1キャラクター分だけ）
+	 * 
+	 * @param portraitFileName 立ち絵のファイル名（カスタム立ち絵は custom: 付き）
+	 * @param width            表示幅
+	 * @param height           表示高さ
+	 */
+	public void preloadPortraitExpressions(String portraitFileName, int width, int height) {
+		int generation = releasePortraitExpressions();
+		CompletableFuture.runAsync(() -> {
+			String dir = isCustomPortrait(portraitFileName) ? USER_PORTRAITS_DIR + "/" : PORTRAITS_BASE_PATH;
+			List<String> files = new ArrayList<>();
+			files.add(stripCustomPrefix(portraitFileName));
+			files.addAll(findPortraitExpressionFiles(portraitFileName));
+			for (String file : files) {
+				// 読み込み中に解放されていたら（メインメニューに戻った等）固定しない
+				if (portraitGeneration.get() != generation) {
+					return;
+				}
+				ImageCache.pin(dir + file, width, height);
+				ImageCache.getAsync(dir + file, width, height);
+			}
+		});
+	}
+
+	/**
+	 * preloadPortraitExpressions() で固定した立ち絵の固定を外す（メインメニューに戻るとき）
+	 * 
+	 * @return 解放後の世代番号
+	 */
+	public int releasePortraitExpressions() {
+		int generation = portraitGeneration.incrementAndGet();
+		ImageCache.unpinAll();
+		return generation;
 	}
 
 	/**
 	 * キャッシュをクリア（メモリ解放用）
+	 * キャッシュはプロセス全体で共有しているため、他の画面の画像も捨てる
 	 */
 	public void clearCache() {
-		imageCache.clear();
+		ImageCache.clear();
 	}
 
 	/**
-	 * 特定の画像をキャッシュから削除
+	 * 特定の画像をキャッシュから削除（すべての表示サイズのもの）
 	 * 
 	 * @param path リソースパス
 	 */
 	public void removeFromCache(String path) {
-		imageCache.remove(path);
+		ImageCache.remove(path);
 	}
 
 	/**
@@ -5,42 +5,90 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.reflect.TypeToken;
 
 /**
  * ランダム単語辞書を管理するクラス
  * data/word_lists/*.json から単語リストを読み込み、カテゴリ別にランダムな単語を提供
- * 
+ *
  * 【新しいJSONファイルの追加方法】
  * 1. テンプレートに従ってJSONファイルを作成(例: weapons.json)
  * 2. src/main/resources/data/word_lists/ に配置
- * 3. このファイルの WORD_LIST_FILES 配列に追加(例: "weapons")
- * 
+ * 3. data/word_lists/index.json の "word_lists" に追加(例: "weapons")
+ *
  * これだけで自動的に読み込まれます!
+ *
+ * 【重み付きの単語】
+ * 単語は文字列のほか、{ "word": "金貨", "weight": 3 } の形でも書けます。
+ * weight を省略した単語は 1 として扱います。
+ * 重みがすべて同じカテゴリは等確率で選びます(以前と同じ)。重みが違うカテゴリはエイリアス法で選びます。
+ *
+ * 【入れ子の参照】
+ * 単語の中に {カテゴリ} や {random:カテゴリ} を書くと、選ばれたときにそのカテゴリの単語に展開されます。
+ * 例: "{色}{小動物}" → "赤い兎"
+ * 参照が循環している場合(A → B → A など)は警告を出し、循環する参照は展開せずそのまま残します。
+ *
+ * 読み込んだカテゴリは変更しない配列にまとめて持ちます(addCategory で追加したときはまとめ直します)。
  */
 public class RandomWordsManager {
-	private Map<String, List<String>> categories;
+	// 単語の中の参照({random:カテゴリ} と {カテゴリ})。TextReplacer と同じ書式
+	private static final Pattern REFERENCE_PATTERN = Pattern.compile("\\{(?:random:)?([^}]+)\\}");
+
+	private static final String MANIFEST_PATH = "data/word_lists/index.json";
+
+	/** 読み込み時の単語(重み付き) */
+	private record Entry(String word, double weight) {
+	}
+
+	/** 単語の中の参照(展開できない循環参照は expand = false) */
+	private record Reference(String category, String raw, boolean expand) {
+	}
+
+	/**
+	 * 参照を含む単語
+	 * pieces は参照の前後の文字列(references.length + 1 個)
+	 */
+	private record Template(String[] pieces, Reference[] references) {
+	}
+
+	/**
+	 * まとめ終わったカテゴリ
+	 * nested[i] は words[i] が参照を含む場合だけ null 以外。prob / alias は重みが均一なら null
+	 */
+	private record Category(String[] words, Template[] nested, double[] prob, int[] alias) {
+	}
+
+	// 読み込んだままの単語(読み込み順)
+	private final Map<String, List<Entry>> sources;
+	// まとめ終わったカテゴリ(差し替えるだけで中身は変更しない)
+	private volatile Map<String, Category> categories;
 	private Random random;
 	private Gson gson;
 
 	/**
-	 * 読み込むJSONファイルのリスト(拡張子.jsonは不要)
-	 * 
+	 * 索引(data/word_lists/index.json)が見つからない場合に読み込むファイル(拡張子.jsonは不要)
+	 *
 	 * 【新しいファイルを追加する場合】
-	 * この配列に名前を追加してください。
-	 * 例: "weapons" を追加 → data/word_lists/weapons.json が読み込まれます
-	 * 
+	 * こちらではなく index.json に追加してください。
+	 *
 	 * ファイルが存在しない場合は自動的にスキップされます(エラーにはなりません)
 	 */
-	private static final String[] WORD_LIST_FILES = {
+	private static final String[] DEFAULT_WORD_LIST_FILES = {
 			// === 汎用 ===
 			"nature", // 自然関連(小動物、植物など)
 			"colors", // 色関連
@@ -69,9 +117,11 @@ public class RandomWordsManager {
 
 	public RandomWordsManager() {
 		this.gson = new Gson();
-		this.categories = new HashMap<>();
+		this.sources = new LinkedHashMap<>();
+		this.categories = Map.of();
 		this.random = new Random();
 		loadRandomWords();
+		compile();
 	}
 
 	/**
@@ -83,20 +133,11 @@ public class RandomWordsManager {
 	private void loadRandomWords() {
 		// 1. word_lists/ フォルダから複数ファイルを読み込み
 		if (loadFromWordListsFolder()) {
-			// System.out.println("✅ ランダム単語辞書読み込み完了 (word_lists): " + categories.size() +
-			// "カテゴリ");
-			// System.out.println("[DEBUG] 読み込まれたカテゴリ一覧:");
-			// for (String cat : categories.keySet()) {
-			// int count = categories.get(cat) != null ? categories.get(cat).size() : 0;
-			// System.out.println(" - " + cat + ": " + count + "個");
-			// }
 			return;
 		}
 
 		// 2. random_words.json (単一ファイル) から読み込み (後方互換性)
 		if (loadFromSingleFile()) {
-			// System.out.println("✅ ランダム単語辞書読み込み完了 (random_words.json): " +
-			// categories.size() + "カテゴリ");
 			return;
 		}
 
@@ -107,43 +148,26 @@ public class RandomWordsManager {
 
 	/**
 	 * data/word_lists/ フォルダから複数のJSONファイルを読み込み
-	 * 
+	 *
 	 * @return 読み込みに成功した場合true
 	 */
 	private boolean loadFromWordListsFolder() {
 		int loadedFiles = 0;
 
-		for (String fileName : WORD_LIST_FILES) {
+		for (String fileName : listWordListFiles()) {
 			String resourcePath = "data/word_lists/" + fileName + ".json";
 
-			// 方法1: クラスローダーで読み込み(JARファイル対応)
-			InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
-
-			// 方法2: 失敗した場合、Fileで直接読み込み(開発環境用)
+			InputStream is;
+			try {
+				is = openResource(resourcePath);
+			} catch (Exception e) {
+				// エラーが発生した場合はスキップ
+				System.out.println("[ERROR] " + fileName + ".json の読み込みでエラー: " + e.getMessage());
+				continue;
+			}
 			if (is == null) {
-				try {
-					// target/classes/ を試す
-					File file = new File("target/classes/" + resourcePath);
-					if (!file.exists()) {
-						// src/main/resources/ を試す
-						file = new File("src/main/resources/" + resourcePath);
-					}
-
-					if (file.exists()) {
-						is = new FileInputStream(file);
-						// System.out.println("[DEBUG] File APIで読み込み: " + fileName + ".json");
-					} else {
-						// ファイルが見つからない場合はスキップ
-						// System.out.println("[DEBUG] ファイルが見つからない: " + fileName + ".json (スキップ)");
-						continue;
-					}
-				} catch (Exception e) {
-					// エラーが発生した場合はスキップ
-					System.out.println("[ERROR] " + fileName + ".json の読み込みでエラー: " + e.getMessage());
-					continue;
-				}
-			} else {
-				// System.out.println("[DEBUG] クラスローダーで読み込み: " + fileName + ".json");
+				// ファイルが見つからない場合はスキップ
+				continue;
 			}
 
 			// JSONファイルを読み込み
@@ -151,31 +175,10 @@ public class RandomWordsManager {
 				InputStreamReader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
 				JsonObject root = gson.fromJson(reader, JsonObject.class);
 
-				// "categories" フィールドからマップを取得
-				TypeToken<Map<String, List<String>>> typeToken = new TypeToken<Map<String, List<String>>>() {
-				};
-				Map<String, List<String>> loadedCategories = gson.fromJson(root.get("categories"), typeToken.getType());
-
-				if (loadedCategories != null) {
-					// 既存のカテゴリにマージ(上書きせずに追加)
-					for (Map.Entry<String, List<String>> entry : loadedCategories.entrySet()) {
-						String category = entry.getKey();
-						List<String> words = entry.getValue();
-
-						// デバッグ: カテゴリの内容を表示
-
-
-						if (categories.containsKey(category)) {
-							// 既存のカテゴリに追加
-							categories.get(category).addAll(entry.getValue());
-						} else {
-							// 新規カテゴリとして追加
-							categories.put(category, new ArrayList<>(entry.getValue()));
-						}
-					}
+				// "categories" フィールドから読み込み(既存のカテゴリには上書きせずに追加)
+				if (root != null && root.has("categories")) {
+					mergeCategories(root.getAsJsonObject("categories"));
 					loadedFiles++;
-					// System.out.println(" ✓ " + fileName + ".json 読み込み完了 (" +
-					// loadedCategories.size() + "カテゴリ)");
 				}
 
 			} catch (Exception e) {
@@ -188,9 +191,50 @@ public class RandomWordsManager {
 		return loadedFiles > 0;
 	}
 
+	/**
+	 * 読み込む単語リストのファイル名を索引(data/word_lists/index.json)から取得
+	 * 索引がない場合は DEFAULT_WORD_LIST_FILES を使う
+	 */
+	private List<String> listWordListFiles() {
+		try (InputStream is = openResource(MANIFEST_PATH)) {
+			if (is != null) {
+				JsonObject root = gson.fromJson(new InputStreamReader(is, StandardCharsets.UTF_8), JsonObject.class);
+				if (root != null && root.has("word_lists")) {
+					List<String> files = new ArrayList<>();
+					for (JsonElement e : root.getAsJsonArray("word_lists")) {
+						files.add(e.getAsString());
+					}
+					return files;
+				}
+			}
+		} catch (Exception e) {
+			System.out.println("[ERROR] " + MANIFEST_PATH + " の解析でエラー: " + e.getMessage());
+		}
+		return List.of(DEFAULT_WORD_LIST_FILES);
+	}
+
+	/**
+	 * リソースを開く
+	 * 1. クラスローダーで読み込み(JARファイル対応)
+	 * 2. 失敗した場合、Fileで直接読み込み(開発環境用: target/classes/ → src/main/resources/)
+	 *
+	 * @return 見つからない場合は null
+	 */
+	private InputStream openResource(String resourcePath) throws java.io.IOException {
+		InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
+		if (is != null) {
+			return is;
+		}
+		File file = new File("target/classes/" + resourcePath);
+		if (!file.exists()) {
+			file = new File("src/main/resources/" + resourcePath);
+		}
+		return file.exists() ? new FileInputStream(file) : null;
+	}
+
 	/**
 	 * data/random_words.json から読み込み(後方互換性のため)
-	 * 
+	 *
 	 * @return 読み込みに成功した場合true
 	 */
 	private boolean loadFromSingleFile() {
@@ -203,66 +247,342 @@ public class RandomWordsManager {
 
 			InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
 			JsonObject root = gson.fromJson(reader, JsonObject.class);
+			if (root == null || !root.has("categories")) {
+				return false;
+			}
+			mergeCategories(root.getAsJsonObject("categories"));
 
-			// "categories" フィールドからマップを取得
-			TypeToken<Map<String, List<String>>> typeToken = new TypeToken<Map<String, List<String>>>() {
-			};
-			categories = gson.fromJson(root.get("categories"), typeToken.getType());
-
-			return categories != null && !categories.isEmpty();
+			return !sources.isEmpty();
 
 		} catch (Exception e) {
 			return false;
 		}
 	}
 
+	/**
+	 * "categories" の中身を読み込み済みの単語に追加する
+	 * 単語は文字列か { "word": ..., "weight": ... }
+	 */
+	private void mergeCategories(JsonObject categoriesObj) {
+		for (Map.Entry<String, JsonElement> category : categoriesObj.entrySet()) {
+			List<Entry> entries = sources.computeIfAbsent(category.getKey(), k -> new ArrayList<>());
+			JsonElement value = category.getValue();
+			if (value == null || !value.isJsonArray()) {
+				continue;
+			}
+			for (JsonElement element : value.getAsJsonArray()) {
+				Entry entry = toEntry(element);
+				if (entry != null) {
+					entries.add(entry);
+				} else {
+					System.out.println("[WARNING] 単語の形式が正しくありません(" + category.getKey() + "): " + element);
+				}
+			}
+		}
+	}
+
+	private static Entry toEntry(JsonElement element) {
+		if (element == null || element.isJsonNull()) {
+			return null;
+		}
+		if (element.isJsonPrimitive()) {
+			return new Entry(element.getAsString(), 1.0);
+		}
+		if (element.isJsonObject()) {
+			JsonObject obj = element.getAsJsonObject();
+			if (!obj.has("word")) {
+				return null;
+			}
+			double weight = obj.has("weight") ? obj.get("weight").getAsDouble() : 1.0;
+			if (!(weight > 0) || Double.isInfinite(weight)) {
+				return null;
+			}
+			return new Entry(obj.get("word").getAsString(), weight);
+		}
+		return null;
+	}
+
 	/**
 	 * デフォルトの単語リストを読み込む(JSONが見つからない場合のフォールバック)
 	 */
 	private void loadDefaultWords() {
-		categories.put("小動物", List.of(
+		putWords("小動物", List.of(
 				"兎", "鼠", "リス", "イタチ", "モグラ", "ハリネズミ",
 				"フェレット", "モモンガ", "ハムスター", "トカゲ", "カエル",
 				"蛇", "亀", "小鳥", "カラス", "フクロウ", "コウモリ"));
 
-		categories.put("植物", List.of(
+		putWords("植物", List.of(
 				"苔", "キノコ", "シダ", "雑草", "蔦", "低木",
 				"花", "根っこ", "木の実"));
 
-		categories.put("色", List.of(
+		putWords("色", List.of(
 				"赤い", "青い", "緑の", "黄色い", "紫の",
 				"黒い", "白い", "灰色の", "茶色い", "銀色の"));
 	}
 
+	private void putWords(String category, List<String> words) {
+		List<Entry> entries = new ArrayList<>();
+		for (String word : words) {
+			entries.add(new Entry(word, 1.0));
+		}
+		sources.put(category, entries);
+	}
+
+	// =============================================
+	// --- まとめ(コンパイル) ---
+	// =============================================
+
+	/**
+	 * 読み込んだ単語をカテゴリごとの配列・エイリアス表・参照のグラフにまとめる
+	 */
+	private synchronized void compile() {
+		// 1. 各単語の参照を取り出す
+		Map<String, Template[]> templates = new HashMap<>();
+		Map<String, List<String>> edges = new HashMap<>();
+		for (Map.Entry<String, List<Entry>> e : sources.entrySet()) {
+			List<Entry> entries = e.getValue();
+			Template[] nested = new Template[entries.size()];
+			List<String> targets = new ArrayList<>();
+			for (int i = 0; i < nested.length; i++) {
+				nested[i] = parseTemplate(entries.get(i).word());
+				if (nested[i] != null) {
+					for (Reference ref : nested[i].references()) {
+						targets.add(ref.category());
+					}
+				}
+			}
+			templates.put(e.getKey(), nested);
+			edges.put(e.getKey(), targets);
+		}
+
+		// 2. 循環している参照を探し、展開しないようにする
+		Map<String, Integer> component = stronglyConnectedComponents(edges);
+		Map<String, Category> compiled = new HashMap<>();
+		for (Map.Entry<String, List<Entry>> e : sources.entrySet()) {
+			String name = e.getKey();
+			Template[] nested = templates.get(name);
+			boolean hasNested = false;
+			for (int i = 0; i < nested.length; i++) {
+				if (nested[i] == null) {
+					continue;
+				}
+				hasNested = true;
+				Reference[] refs = nested[i].references();
+				for (int r = 0; r < refs.length; r++) {
+					Integer target = component.get(refs[r].category());
+					if (target != null && target.equals(component.get(name))) {
+						System.out.println("[WARNING] ランダム単語の参照が循環しています(展開しません): "
+								+ name + " → " + refs[r].category());
+						refs[r] = new Reference(refs[r].category(), refs[r].raw(), false);
+					}
+				}
+			}
+
+			// 3. 単語の配列と、重みが均一でなければエイリアス表を作る
+			List<Entry> entries = e.getValue();
+			String[] words = new String[entries.size()];
+			double[] weights = new double[entries.size()];
+			boolean uniform = true;
+			for (int i = 0; i < words.length; i++) {
+				words[i] = entries.get(i).word();
+				weights[i] = entries.get(i).weight();
+				uniform &= (weights[i] == weights[0]);
+			}
+			double[] prob = null;
+			int[] alias = null;
+			if (!uniform) {
+				prob = new double[words.length];
+				alias = new int[words.length];
+				buildAliasTable(weights, prob, alias);
+			}
+			compiled.put(name, new Category(words, hasNested ? nested : null, prob, alias));
+		}
+		this.categories = Map.copyOf(compiled);
+	}
+
+	/**
+	 * 単語の中の参照を取り出す(参照がなければ null)
+	 */
+	private static Template parseTemplate(String word) {
+		if (word.indexOf('{') < 0) {
+			return null;
+		}
+		Matcher matcher = REFERENCE_PATTERN.matcher(word);
+		List<String> pieces = new ArrayList<>();
+		List<Reference> refs = new ArrayList<>();
+		int last = 0;
+		while (matcher.find()) {
+			pieces.add(word.substring(last, matcher.start()));
+			refs.add(new Reference(matcher.group(1), matcher.group(), true));
+			last = matcher.end();
+		}
+		if (refs.isEmpty()) {
+			return null;
+		}
+		pieces.add(word.substring(last));
+		return new Template(pieces.toArray(new String[0]), refs.toArray(new Reference[0]));
+	}
+
+	/**
+	 * 参照のグラフを強連結成分に分ける(Tarjan 法)
+	 * 自分自身を参照するカテゴリと、2つ以上のカテゴリが互いに参照し合う成分だけに番号を付ける
+	 *
+	 * @return カテゴリ → 成分番号(循環していないカテゴリは含まない)
+	 */
+	private static Map<String, Integer> stronglyConnectedComponents(Map<String, List<String>> edges) {
+		Map<String, Integer> index = new HashMap<>();
+		Map<String, Integer> low = new HashMap<>();
+		Deque<String> stack = new ArrayDeque<>();
+		Set<String> onStack = new HashSet<>();
+		Map<String, Integer> result = new HashMap<>();
+		int[] counter = { 0, 0 }; // [次の index, 次の成分番号]
+
+		for (String start : edges.keySet()) {
+			if (!index.containsKey(start)) {
+				strongConnect(start, edges, index, low, stack, onStack, result, counter);
+			}
+		}
+		return result;
+	}
+
+	private static void strongConnect(String v, Map<String, List<String>> edges, Map<String, Integer> index,
+			Map<String, Integer> low, Deque<String> stack, Set<String> onStack,
+			Map<String, Integer> result, int[] counter) {
+		index.put(v, counter[0]);
+		low.put(v, counter[0]);
+		counter[0]++;
+		stack.push(v);
+		onStack.add(v);
+
+		boolean selfLoop = false;
+		for (String w : edges.getOrDefault(v, List.of())) {
+			if (!edges.containsKey(w)) {
+				continue; // 存在しないカテゴリ("???" になる)
+			}
+			if (w.equals(v)) {
+				selfLoop = true;
+			} else if (!index.containsKey(w)) {
+				strongConnect(w, edges, index, low, stack, onStack, result, counter);
+				low.put(v, Math.min(low.get(v), low.get(w)));
+			} else if (onStack.contains(w)) {
+				low.put(v, Math.min(low.get(v), index.get(w)));
+			}
+		}
+
+		if (low.get(v).equals(index.get(v))) {
+			List<String> members = new ArrayList<>();
+			String w;
+			do {
+				w = stack.pop();
+				onStack.remove(w);
+				members.add(w);
+			} while (!w.equals(v));
+
+			if (members.size() > 1 || selfLoop) {
+				int id = counter[1]++;
+				for (String m : members) {
+					result.put(m, id);
+				}
+			}
+		}
+	}
+
+	/**
+	 * エイリアス表を作る(Vose の方法)
+	 *
+	 * @param weights 重み(すべて正)
+	 * @param prob    出力: 各列で自分自身を選ぶ確率
+	 * @param alias   出力: 各列で自分自身を選ばなかったときの単語
+	 */
+	private static void buildAliasTable(double[] weights, double[] prob, int[] alias) {
+		int n = weights.length;
+		double total = 0;
+		for (double w : weights) {
+			total += w;
+		}
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallCount = 0;
+		int largeCount = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = weights[i] * n / total;
+			if (scaled[i] < 1.0) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+		while (smallCount > 0 && largeCount > 0) {
+			int s = small[--smallCount];
+			int l = large[--largeCount];
+			prob[s] = scaled[s];
+			alias[s] = l;
+			scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+			if (scaled[l] < 1.0) {
+				small[smallCount++] = l;
+			} else {
+				large[largeCount++] = l;
+			}
+		}
+		// 残りは誤差を除けばちょうど 1
+		while (largeCount > 0) {
+			int l = large[--largeCount];
+			prob[l] = 1.0;
+			alias[l] = l;
+		}
+		while (smallCount > 0) {
+			int s = small[--smallCount];
+			prob[s] = 1.0;
+			alias[s] = s;
+		}
+	}
+
+	// =============================================
+	// --- 取得 ---
+	// =============================================
+
 	/**
 	 * 指定カテゴリからランダムな単語を取得
-	 * 
+	 * 単語が他のカテゴリを参照している場合は、展開してから返す
+	 *
 	 * @param category カテゴリ名(例: "小動物", "植物", "色")
 	 * @return ランダムに選ばれた単語、カテゴリが存在しない場合は "???"
 	 */
 	public String getRandomWord(String category) {
-		// System.out.println("[DEBUG] getRandomWord呼び出し: カテゴリ=\"" + category + "\"");
-
-		List<String> words = categories.get(category);
-
-		if (words == null) {
-			// System.out.println("[DEBUG] → カテゴリが存在しません → \"???\"");
+		Category c = categories.get(category);
+		if (c == null || c.words().length == 0) {
 			return "???";
 		}
 
-		if (words.isEmpty()) {
-			// System.out.println("[DEBUG] → カテゴリは空です → \"???\"");
-			return "???";
+		int i = sample(c);
+		if (c.nested() == null || c.nested()[i] == null) {
+			return c.words()[i];
 		}
+		return expand(c.nested()[i]);
+	}
 
-		String result = words.get(random.nextInt(words.size()));
-		// System.out.println("[DEBUG] → 結果: \"" + result + "\"");
-		return result;
+	private int sample(Category c) {
+		int i = random.nextInt(c.words().length);
+		if (c.prob() == null) {
+			return i;
+		}
+		return random.nextDouble() < c.prob()[i] ? i : c.alias()[i];
+	}
+
+	private String expand(Template template) {
+		StringBuilder sb = new StringBuilder(template.pieces()[0]);
+		Reference[] refs = template.references();
+		for (int r = 0; r < refs.length; r++) {
+			sb.append(refs[r].expand() ? getRandomWord(refs[r].category()) : refs[r].raw());
+			sb.append(template.pieces()[r + 1]);
+		}
+		return sb.toString();
 	}
 
 	/**
 	 * カテゴリが存在するかチェック
-	 * 
+	 *
 	 * @param category カテゴリ名
 	 * @return 存在する場合true
 	 */
@@ -272,7 +592,7 @@ public class RandomWordsManager {
 
 	/**
 	 * すべてのカテゴリ名を取得
-	 * 
+	 *
 	 * @return カテゴリ名のリスト
 	 */
 	public List<String> getAllCategories() {
@@ -280,23 +600,25 @@ public class RandomWordsManager {
 	}
 
 	/**
-	 * 指定カテゴリの単語リストを取得
-	 * 
+	 * 指定カテゴリの単語リストを取得(参照は展開しない)
+	 *
 	 * @param category カテゴリ名
 	 * @return 単語のリスト、存在しない場合は空リスト
 	 */
 	public List<String> getWords(String category) {
-		return categories.getOrDefault(category, new ArrayList<>());
+		Category c = categories.get(category);
+		return (c != null) ? new ArrayList<>(List.of(c.words())) : new ArrayList<>();
 	}
 
 	/**
 	 * カテゴリと単語リストを追加(動的追加用)
-	 * 
+	 * 同じ名前のカテゴリがあれば置き換える
+	 *
 	 * @param category カテゴリ名
 	 * @param words    単語のリスト
 	 */
-	public void addCategory(String category, List<String> words) {
-		categories.put(category, new ArrayList<>(words));
-		// System.out.println("✅ カテゴリ「" + category + "」を追加: " + words.size() + "個の単語");
+	public synchronized void addCategory(String category, List<String> words) {
+		putWords(category, words);
+		compile();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,325 @@
+package com.kh.tbrr.manager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * セーブデータのバイナリ形式
+ *
+ * SaveManager の Gson（イベント・マップ・性格を ID だけで持つアダプター付き）で作った JSON ツリーを、
+ * そのままの構造でコンパクトなバイナリにする。
+ * <ul>
+ * <li>キー名と文字列は先頭の文字列表に1回だけ書き、本体では番号で参照する</li>
+ * <li>整数は可変長（ZigZag + 7ビットずつ）で書く</li>
+ * <li>本体は deflate で圧縮できる（ヘッダーの flags で判別）</li>
+ * </ul>
+ *
+ * <pre>
+ * ヘッダー: "TBRS"(4バイト) / 版(可変長整数) / flags(1バイト)
+ * 本体    : 文字列表(件数, [バイト数, UTF-8]...) / 値
+ * 値      : タグ(1バイト) + 内容
+ * </pre>
+ *
+ * 版が上がって形が変わったときは、MIGRATIONS に「その版 → 次の版」の変換を登録する。
+ * 読み込み時は保存されていた版から現在の版まで順に変換してから GameState に戻す。
+ * 以前の JSON の中断データは版 1 として扱う。
+ */
+public final class SaveCodec {
+
+    /** 現在の版 */
+    public static final int CURRENT_VERSION = 1;
+
+    private static final byte[] MAGIC = { 'T', 'B', 'R', 'S' };
+    private static final int FLAG_DEFLATE = 1;
+
+    // 値のタグ
+    private static final int TAG_NULL = 0;
+    private static final int TAG_FALSE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_NUMBER = 4; // 整数以外の数値（文字列表に10進表記で持つ）
+    private static final int TAG_STRING = 5;
+    private static final int TAG_ARRAY = 6;
+    private static final int TAG_OBJECT = 7;
+
+    /**
+     * 版ごとの変換（キーの版 → 次の版）
+     * 例: MIGRATIONS.put(1, root -> { root.add("newField", ...); return root; });
+     */
+    private static final Map<Integer, UnaryOperator<JsonObject>> MIGRATIONS = new HashMap<>();
+
+    private SaveCodec() {
+    }
+
+    // =============================================
+    // --- 書き込み ---
+    // =============================================
+
+    /**
+     * JSON ツリーをバイナリにする
+     *
+     * @param root     SaveManager の Gson で作ったツリー
+     * @param compress deflate で圧縮するか
+     */
+    public static byte[] encode(JsonElement root, boolean compress) throws IOException {
+        // 文字列表を作る（出てきた順に番号を振る）
+        Map<String, Integer> table = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        collectStrings(root, table, strings);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.write(MAGIC);
+        writeVarint(header, CURRENT_VERSION);
+        header.writeByte(compress ? FLAG_DEFLATE : 0);
+        header.flush();
+
+        OutputStream bodyOut = compress ? new DeflaterOutputStream(bytes) : bytes;
+        DataOutputStream body = new DataOutputStream(bodyOut);
+        writeVarint(body, strings.size());
+        for (String s : strings) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(body, utf8.length);
+            body.write(utf8);
+        }
+        writeValue(body, root, table);
+        body.close();
+        return bytes.toByteArray();
+    }
+
+    private static void collectStrings(JsonElement e, Map<String, Integer> table, List<String> strings) {
+        if (e == null || e.isJsonNull()) {
+            return;
+        }
+        if (e.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : e.getAsJsonObject().entrySet()) {
+                intern(entry.getKey(), table, strings);
+                collectStrings(entry.getValue(), table, strings);
+            }
+        } else if (e.isJsonArray()) {
+            for (JsonElement child : e.getAsJsonArray()) {
+                collectStrings(child, table, strings);
+            }
+        } else {
+            JsonPrimitive p = e.getAsJsonPrimitive();
+            if (p.isString()) {
+                intern(p.getAsString(), table, strings);
+            } else if (p.isNumber() && toLong(p.getAsNumber()) == null) {
+                intern(p.getAsNumber().toString(), table, strings);
+            }
+        }
+    }
+
+    private static void intern(String s, Map<String, Integer> table, List<String> strings) {
+        if (!table.containsKey(s)) {
+            table.put(s, strings.size());
+            strings.add(s);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, JsonElement e, Map<String, Integer> table)
+            throws IOException {
+        if (e == null || e.isJsonNull()) {
+            out.writeByte(TAG_NULL);
+        } else if (e.isJsonObject()) {
+            JsonObject obj = e.getAsJsonObject();
+            out.writeByte(TAG_OBJECT);
+            writeVarint(out, obj.size());
+            for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
+                writeVarint(out, table.get(entry.getKey()));
+                writeValue(out, entry.getValue(), table);
+            }
+        } else if (e.isJsonArray()) {
+            JsonArray array = e.getAsJsonArray();
+            out.writeByte(TAG_ARRAY);
+            writeVarint(out, array.size());
+            for (JsonElement child : array) {
+                writeValue(out, child, table);
+            }
+        } else {
+            JsonPrimitive p = e.getAsJsonPrimitive();
+            if (p.isBoolean()) {
+                out.writeByte(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (p.isString()) {
+                out.writeByte(TAG_STRING);
+                writeVarint(out, table.get(p.getAsString()));
+            } else {
+                Long value = toLong(p.getAsNumber());
+                if (value != null) {
+                    out.writeByte(TAG_INT);
+                    writeVarlong(out, (value << 1) ^ (value >> 63)); // ZigZag
+                } else {
+                    out.writeByte(TAG_NUMBER);
+                    writeVarint(out, table.get(p.getAsNumber().toString()));
+                }
+            }
+        }
+    }
+
+    /** 整数として正確に書ける数値なら long にする（それ以外は null） */
+    private static Long toLong(Number n) {
+        if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+            return n.longValue();
+        }
+        if (n instanceof Double || n instanceof Float) {
+            return null;
+        }
+        try {
+            return Long.parseLong(n.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // =============================================
+    // --- 読み込み ---
+    // =============================================
+
+    /**
+     * バイナリのセーブデータかどうか（先頭4バイトで判別する）
+     */
+    public static boolean isBinary(byte[] data) {
+        return data.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC);
+    }
+
+    /**
+     * バイナリを JSON ツリーに戻し、現在の版まで変換する
+     */
+    public static JsonElement decode(byte[] data) throws IOException {
+        if (!isBinary(data)) {
+            throw new IOException("セーブデータの形式が正しくありません");
+        }
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data, MAGIC.length, data.length - MAGIC.length);
+        DataInputStream header = new DataInputStream(bytes);
+        int version = readVarint(header);
+        int flags = header.readUnsignedByte();
+
+        InputStream bodyIn = ((flags & FLAG_DEFLATE) != 0) ? new InflaterInputStream(bytes) : bytes;
+        try (DataInputStream body = new DataInputStream(bodyIn)) {
+            int count = readVarint(body);
+            String[] strings = new String[count];
+            for (int i = 0; i < count; i++) {
+                byte[] utf8 = new byte[readVarint(body)];
+                body.readFully(utf8);
+                strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return migrate(readValue(body, strings), version);
+        }
+    }
+
+    /**
+     * 保存時の版から現在の版まで順に変換する（以前の JSON の中断データは版 1）
+     */
+    public static JsonElement migrate(JsonElement root, int version) throws IOException {
+        if (version > CURRENT_VERSION) {
+            throw new IOException("新しい版のセーブデータです（版 " + version + "、対応は版 " + CURRENT_VERSION + " まで）");
+        }
+        for (int v = version; v < CURRENT_VERSION; v++) {
+            UnaryOperator<JsonObject> migration = MIGRATIONS.get(v);
+            if (migration != null && root.isJsonObject()) {
+                root = migration.apply(root.getAsJsonObject());
+            }
+        }
+        return root;
+    }
+
+    private static JsonElement readValue(DataInputStream in, String[] strings) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_FALSE:
+                return new JsonPrimitive(false);
+            case TAG_TRUE:
+                return new JsonPrimitive(true);
+            case TAG_INT: {
+                long zigzag = readVarlong(in);
+                return new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+            case TAG_NUMBER:
+                return new JsonPrimitive(new BigDecimal(strings[readVarint(in)]));
+            case TAG_STRING:
+                return new JsonPrimitive(strings[readVarint(in)]);
+            case TAG_ARRAY: {
+                int n = readVarint(in);
+                JsonArray array = new JsonArray(n);
+                for (int i = 0; i < n; i++) {
+                    array.add(readValue(in, strings));
+                }
+                return array;
+            }
+            case TAG_OBJECT: {
+                int n = readVarint(in);
+                JsonObject obj = new JsonObject();
+                for (int i = 0; i < n; i++) {
+                    String key = strings[readVarint(in)];
+                    obj.add(key, readValue(in, strings));
+                }
+                return obj;
+            }
+            default:
+                throw new IOException("セーブデータが壊れています（不明なタグ " + tag + "）");
+        }
+    }
+
+    // =============================================
+    // --- 可変長整数 ---
+    // =============================================
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        writeVarlong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarlong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        long value = readVarlong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("セーブデータが壊れています（値が範囲外）");
+        }
+        return (int) value;
+    }
+
+    private static long readVarlong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("セーブデータが途中で終わっています");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("セーブデータが壊れています（可変長整数が長すぎます）");
+    }
+}
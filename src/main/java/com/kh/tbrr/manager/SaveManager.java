@@ -2,12 +2,18 @@ package com.kh.tbrr.manager;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -15,6 +21,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
@@ -29,8 +36,13 @@ import com.kh.tbrr.data.models.Personality;
  */
 public class SaveManager {
 
-    private static final String SAVE_DIR = "userdata/save";
-    private static final String SUSPEND_FILE = "suspend.json";
+    static final String SAVE_DIR = "userdata/save";
+    // 中断データ（バイナリ形式。SaveCodec を参照）
+    private static final String SUSPEND_FILE = "suspend.tbrs";
+    // 以前の JSON 形式の中断データ（読み込みのみ対応）
+    private static final String LEGACY_SUSPEND_FILE = "suspend.json";
+    // デバッグ用に JSON で書き出すファイル
+    private static final String EXPORT_FILE = "suspend_export.json";
 
     private static Gson gson;
 
@@ -49,12 +61,88 @@ public class SaveManager {
 
     /**
      * 中断データを保存する
+     * 一時ファイルに書いてから置き換えるため、途中で落ちても前の中断データは壊れない
      */
     public static void saveSuspendData(GameState state) throws IOException {
         ensureSaveDirectory();
-        File file = new File(SAVE_DIR, SUSPEND_FILE);
-        try (FileWriter writer = new FileWriter(file)) {
-            gson.toJson(state, writer);
+        writeAtomically(Paths.get(SAVE_DIR, SUSPEND_FILE), SaveCodec.encode(toTree(state), true));
+        // 以前の形式のファイルが残っていると、そちらを読まないよう消しておく
+        Files.deleteIfExists(Paths.get(SAVE_DIR, LEGACY_SUSPEND_FILE));
+    }
+
+    /**
+     * 中断データを裏で保存する
+     * 呼んだスレッドでは状態を写し取る（GameState.snapshot）だけで、変換と書き込みはオートセーブの書き込みスレッドで行う。
+     * 写し取りのあとに状態が変わっても、保存される内容は変わらない
+     *
+     * @return 書き込みが終わったら完了する Future（失敗時は例外で完了する）
+     */
+    public static CompletableFuture<Void> saveSuspendDataAsync(GameState state) {
+        GameState snapshot = state.snapshot();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AutosaveManager.writer().execute(() -> {
+            try {
+                saveSuspendData(snapshot);
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * 中断データを JSON（整形あり）で書き出す（デバッグ用）
+     *
+     * @return 書き出したファイル。中断データがない場合は null
+     */
+    public static Path exportSuspendDataAsJson() throws IOException {
+        JsonElement root = readSuspendTree();
+        if (root == null) {
+            return null;
+        }
+        Path target = Paths.get(SAVE_DIR, EXPORT_FILE);
+        writeAtomically(target, gson.toJson(root));
+        return target;
+    }
+
+    /**
+     * GameState を JSON ツリーにする
+     * GameState.snapshot() の写しなら、ゲームスレッド以外から呼んでよい
+     */
+    static JsonElement toTree(GameState state) {
+        return gson.toJsonTree(state);
+    }
+
+    /**
+     * ファイルを安全に書き込む
+     * 同じフォルダの一時ファイルに書いてディスクへ確実に書き出し（fsync）、最後に名前を変えて置き換える
+     *
+     * @param target 書き込み先
+     * @param text   内容（UTF-8 で書く）
+     */
+    static void writeAtomically(Path target, String text) throws IOException {
+        writeAtomically(target, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void writeAtomically(Path target, byte[] data) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
@@ -63,24 +151,46 @@ public class SaveManager {
      * 読み込み成功後、ファイルは削除される（中断セーブの仕様）
      */
     public static GameState loadSuspendData() throws IOException {
-        File file = new File(SAVE_DIR, SUSPEND_FILE);
-        if (!file.exists()) {
+        JsonElement root = readSuspendTree();
+        if (root == null) {
             return null;
         }
+        return gson.fromJson(root, GameState.class);
+    }
 
-        try (FileReader reader = new FileReader(file)) {
-            GameState state = gson.fromJson(reader, GameState.class);
-            return state;
+    /**
+     * 中断データを現在の版の JSON ツリーとして読み込む（バイナリ → 以前の JSON の順に探す）
+     */
+    private static JsonElement readSuspendTree() throws IOException {
+        Path binary = Paths.get(SAVE_DIR, SUSPEND_FILE);
+        if (Files.exists(binary)) {
+            return SaveCodec.decode(Files.readAllBytes(binary));
+        }
+        Path legacy = Paths.get(SAVE_DIR, LEGACY_SUSPEND_FILE);
+        if (Files.exists(legacy)) {
+            try (FileReader reader = new FileReader(legacy.toFile(), StandardCharsets.UTF_8)) {
+                return SaveCodec.migrate(JsonParser.parseReader(reader), 1);
+            }
         }
+        return null;
+    }
+
+    /**
+     * 保存済みのバイナリデータ（オートセーブなど）を GameState に戻す
+     */
+    static GameState decode(byte[] data) throws IOException {
+        return gson.fromJson(SaveCodec.decode(data), GameState.class);
     }
 
     /**
      * 中断データを削除する
      */
     public static void deleteSuspendData() {
-        File file = new File(SAVE_DIR, SUSPEND_FILE);
-        if (file.exists()) {
-            file.delete();
+        for (String name : new String[] { SUSPEND_FILE, LEGACY_SUSPEND_FILE }) {
+            File file = new File(SAVE_DIR, name);
+            if (file.exists()) {
+                file.delete();
+            }
         }
     }
 
@@ -88,8 +198,7 @@ public class SaveManager {
      * 中断データが存在するか確認
      */
     public static boolean hasSuspendData() {
-        File file = new File(SAVE_DIR, SUSPEND_FILE);
-        return file.exists();
+        return new File(SAVE_DIR, SUSPEND_FILE).exists() || new File(SAVE_DIR, LEGACY_SUSPEND_FILE).exists();
     }
 
     private static void ensureSaveDirectory() throws IOException {
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.kh.tbrr.data.models.Player;
+import com.kh.tbrr.manager.CharacterLibrary;
 
 public class CharacterLoader {
 	private static final Path SAVE_DIR = Paths.get("userdata/character"); // 実行カレント下の userdata/character/
@@ -39,11 +40,12 @@ public class CharacterLoader {
 		Path out = SAVE_DIR.resolve(filename);
 		try (FileWriter writer = new FileWriter(out.toFile())) {
 			gson.toJson(player, writer);
-			return true;
 		} catch (IOException e) {
 			System.err.println("保存失敗: " + e.getMessage());
 			return false;
 		}
+		CharacterLibrary.update(filename, player);
+		return true;
 	}
 
 	/**
@@ -65,11 +67,12 @@ public class CharacterLoader {
 		try (FileWriter writer = new FileWriter(out.toFile())) {
 			gson.toJson(player, writer);
 			System.out.println("キャラシを上書き保存しました: " + out);
-			return true;
 		} catch (IOException e) {
 			System.err.println("上書き保存失敗: " + e.getMessage());
 			return false;
 		}
+		CharacterLibrary.update(filename, player);
+		return true;
 	}
 
 	public Player loadCharacter(String filename) {
@@ -17,6 +17,22 @@ public class DeveloperMode {
 	private boolean enabled;
 	private Player currentPlayer;
 	private GameState gameState;
+	// 巻き戻し用：直近のイベント開始時点の状態（開発者モードが有効なときだけ記録する）
+	// rollbackOwner は記録したイベント処理の呼び出し。その呼び出しが終わると記録を消す
+	private GameState rollbackPoint;
+	private String rollbackEventId;
+	private Object rollbackOwner;
+
+	/**
+	 * rollback コマンドで投げる例外
+	 * 入力待ちから進行中のイベント処理を打ち切り、巻き戻し時点を記録した EventProcessor.processEvent まで戻る。
+	 * そこで状態を戻し、同じイベントを最初からやり直す
+	 */
+	public static class RollbackRequest extends RuntimeException {
+		public RollbackRequest(String eventId) {
+			super("イベント「" + eventId + "」の開始時点に巻き戻します", null, false, false);
+		}
+	}
 
 	public DeveloperMode() {
 		this.enabled = false;
@@ -41,6 +57,48 @@ public class DeveloperMode {
 
 	public void setGameState(GameState gameState) {
 		this.gameState = gameState;
+		this.rollbackPoint = null;
+		this.rollbackOwner = null;
+	}
+
+	/**
+	 * イベント開始時点の状態を巻き戻し用に記録する（EventProcessor がイベントごとに呼ぶ）
+	 * 状態の写し取り（GameState.snapshot）は軽いので、イベントごとに取り直す
+	 *
+	 * @param owner 記録したイベント処理の呼び出し（RollbackRequest を受け止める側の目印）
+	 */
+	public void recordRollbackPoint(GameState state, String eventId, Object owner) {
+		if (enabled && state != null) {
+			rollbackPoint = state.snapshot();
+			rollbackEventId = eventId;
+			rollbackOwner = owner;
+		}
+	}
+
+	/** owner が記録した巻き戻し時点か */
+	public boolean isRollbackOwner(Object owner) {
+		return rollbackPoint != null && rollbackOwner == owner;
+	}
+
+	/**
+	 * owner が記録した巻き戻し時点を消す（イベント処理の呼び出しが終わるとき）
+	 * 終わったイベントには戻れないので、rollback は進行中のイベントに対してだけ受け付ける
+	 */
+	public void clearRollbackPoint(Object owner) {
+		if (rollbackOwner == owner) {
+			rollbackPoint = null;
+			rollbackEventId = null;
+			rollbackOwner = null;
+		}
+	}
+
+	/**
+	 * 巻き戻し時点の状態に戻す（RollbackRequest を受け止めたゲームスレッドで呼ぶ）
+	 */
+	public void restoreRollbackPoint() {
+		if (rollbackPoint != null && gameState != null) {
+			gameState.restore(rollbackPoint);
+		}
 	}
 
 	public boolean isEnabled() {
@@ -133,6 +191,67 @@ public class DeveloperMode {
 					}
 				}
 				return;
+			case "battlelog on":
+				if (enabled) {
+					com.kh.tbrr.battle.BattleEventJsonlExporter.setEnabled(true);
+					if (ui != null)
+						ui.print("[DEV] 戦闘ログのJSONL出力を ON にしました（userdata/logs/battle/）");
+				}
+				return;
+			case "battlelog off":
+				if (enabled) {
+					com.kh.tbrr.battle.BattleEventJsonlExporter.setEnabled(false);
+					if (ui != null)
+						ui.print("[DEV] 戦闘ログのJSONL出力を OFF にしました");
+				}
+				return;
+			case "perf on":
+				if (enabled && ui != null) {
+					ui.setPerformanceOverlayVisible(true);
+					ui.print("[DEV] 性能計測オーバーレイを ON にしました（perf export でCSV出力）");
+				}
+				return;
+			case "perf off":
+				if (enabled && ui != null) {
+					ui.setPerformanceOverlayVisible(false);
+					ui.print("[DEV] 性能計測オーバーレイを OFF にしました");
+				}
+				return;
+			case "perf export":
+				if (enabled && ui != null) {
+					String file = ui.exportPerformanceLog();
+					if (file != null) {
+						ui.print("[DEV] 性能計測の記録を書き出しました: " + file);
+					} else {
+						ui.printError("[DEV] 書き出す記録がありません（perf on で計測を開始してください）");
+					}
+				}
+				return;
+			case "rollback":
+				if (enabled && ui != null) {
+					if (rollbackPoint == null || gameState == null) {
+						ui.printError("[DEV] 巻き戻せる時点がありません（開発者モード中に始まった、進行中のイベントの開始時点に戻せます）");
+					} else {
+						// 状態はここでは戻さない。入力待ちから進行中のイベントを打ち切り、
+						// ゲームスレッドの EventProcessor が状態を戻してイベントをやり直す
+						throw new RollbackRequest(rollbackEventId);
+					}
+				}
+				return;
+			case "save export":
+				if (enabled && ui != null) {
+					try {
+						java.nio.file.Path file = com.kh.tbrr.manager.SaveManager.exportSuspendDataAsJson();
+						if (file != null) {
+							ui.print("[DEV] 中断データをJSONで書き出しました: " + file);
+						} else {
+							ui.printError("[DEV] 中断データがありません");
+						}
+					} catch (Exception e) {
+						ui.printError("[DEV] 中断データの書き出しに失敗: " + e.getMessage());
+					}
+				}
+				return;
 		}
 
 		// ここから先は開発者モードが有効かつPlayerが必要なコマンド
@@ -24,6 +24,11 @@ public class AdventureRecordsScreen {
     private Stage stage;
     private ImageManager imageManager;
 
+    // 一度組み立てたシーン（再表示のときはそのまま使う）
+    private Scene scene;
+    // 「戻る」の処理（表示のたびに呼び出し元から渡される）
+    private Runnable onBack;
+
     public AdventureRecordsScreen(Stage stage) {
         this.stage = stage;
         this.imageManager = new ImageManager();
@@ -35,8 +40,21 @@ public class AdventureRecordsScreen {
      * @param onBack 「戻る」ボタンを押したときの処理（RecordsScreenへ戻るコールバック）
      */
     public void show(Runnable onBack) {
+        this.onBack = onBack;
+        if (scene == null) {
+            scene = buildScene();
+        }
+        stage.setScene(scene);
+        stage.setTitle("TBRR - 冒険の記録");
+        stage.show();
+    }
+
+    /**
+     * 画面のシーンを組み立てる（最初の表示で1回だけ）
+     */
+    private Scene buildScene() {
         // 背景画像
-        Image backgroundImage = imageManager.loadBackground("mainmenu.png");
+        Image backgroundImage = imageManager.loadBackground("mainmenu.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -62,7 +80,8 @@ public class AdventureRecordsScreen {
 
         // 墓地：GraveyardScreenへ
         graveyardButton.setOnAction(e -> {
-            GraveyardScreen graveyardScreen = new GraveyardScreen(stage);
+            GraveyardScreen graveyardScreen = ScreenRegistry.of(stage)
+                    .get(GraveyardScreen.class, () -> new GraveyardScreen(stage));
             graveyardScreen.show(() -> show(onBack));
         });
 
@@ -76,10 +95,7 @@ public class AdventureRecordsScreen {
         StackPane root = new StackPane();
         root.getChildren().addAll(backgroundView, buttonBox);
 
-        Scene scene = new Scene(root, 1600, 900);
-        stage.setScene(scene);
-        stage.setTitle("TBRR - 冒険の記録");
-        stage.show();
+        return new Scene(root, 1600, 900);
     }
 
     /**
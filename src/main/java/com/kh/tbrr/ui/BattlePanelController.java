@@ -1,11 +1,8 @@
 package com.kh.tbrr.ui;
 
-import com.kh.tbrr.battle.BattleState;
-import com.kh.tbrr.battle.EnemyData;
+import com.kh.tbrr.battle.BattleEventLog;
 import com.kh.tbrr.data.CombatConditionRegistry;
 import com.kh.tbrr.data.models.CombatConditionData;
-import com.kh.tbrr.data.models.Player;
-import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -18,11 +15,15 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * 戦闘中にサブウィンドウへ表示する情報UIパネルのコントローラー。
  * JavaFXUI から生成・更新される。
+ * 表示の更新は {@link BattleViewModel} を publish し、次のパルスで差分だけを描画する。
  *
  * レイアウト（450×450px）:
  *   ┌─────────────────────────┐
@@ -89,9 +90,32 @@ public class BattlePanelController {
     private static final String COLOR_SP           = "#66ddaa";
     private static final String COLOR_COND         = "#ffcc44";
 
+    // ---- イベントログ要約用 ----
+    /** BATTLE_START で受け取った敵の表示名（敵の攻撃ログに使う） */
+    private String enemyDisplayName = "敵";
+
+    // ---- パルス単位の反映 ----
+    /** 次のパルスで描画するスナップショット（未描画のものは最新で上書き） */
+    private final AtomicReference<BattleViewModel> pendingModel = new AtomicReference<>();
+    /** 次のパルスで追記するログ（pendingLog 自身で同期） */
+    private final StringBuilder pendingLog = new StringBuilder();
+    private final AtomicBoolean pulseScheduled = new AtomicBoolean(false);
+    /** 最後に描画したスナップショット（FXスレッド専用） */
+    private BattleViewModel rendered;
+    private Consumer<Boolean> fleeAvailabilityHandler;
+    /** FXスレッドでの反映に使う（JavaFXUI の出力キュー。本文やパネルの切り替えと順序を揃える） */
+    private final Executor uiExecutor;
+
     // ---- フォント ----
     private static final String FONT_FAMILY = "MS Gothic";
 
+    /**
+     * @param uiExecutor FXスレッドで反映処理を実行する Executor
+     */
+    public BattlePanelController(Executor uiExecutor) {
+        this.uiExecutor = uiExecutor;
+    }
+
     /**
      * 生成済みのパネルを返す（装備画面から戻るときなど、再表示に使う）。
      * createPanel() を呼んでいない場合は null を返す。
@@ -297,8 +321,8 @@ public class BattlePanelController {
         enemySymbol.setStrokeWidth(1.5);
 
         // 初期位置（距離1 = プレイヤー, 距離1 = 敵 ← 初期距離）
-        // ※ updateDistanceMap() で正しく配置される
-        // symbolRowの各スロットへの配置はupdateDistanceMap()に任せる
+        // ※ renderDistanceMap() で正しく配置される
+        // symbolRowの各スロットへの配置はrenderDistanceMap()に任せる
 
         // StackPane でシンボル行をラップ（位置更新で子要素を入れ替えるため）
         distanceMapBox = (HBox) symbolRow;
@@ -312,23 +336,101 @@ public class BattlePanelController {
     // =============================================
 
     /**
-     * ヘッダー行（ターン数・距離）を更新する。
-     * UIスレッド外から呼んでよい（内部でPlatform.runLater）。
+     * 戦闘パネルの表示内容を差し替える（ゲームスレッドから呼んでよい）。
+     * 実際の描画は次のパルスでまとめて行い、それまでに届いたスナップショットは最新の1つだけを使う。
+     */
+    public void publish(BattleViewModel model) {
+        if (model == null) return;
+        pendingModel.set(model);
+        schedulePulse();
+    }
+
+    /**
+     * 逃走可否が変わったときに呼ぶ処理を登録する（FXスレッドで呼ばれる）。
      */
-    public void updateHeader(int turn, int distance) {
-        String distLabel = distanceLabel(distance);
-        Platform.runLater(() -> {
-            if (headerLabel != null) {
-                headerLabel.setText("ターン " + turn + "  |  距離: " + distance + "（" + distLabel + "）");
+    public void setFleeAvailabilityHandler(Consumer<Boolean> handler) {
+        this.fleeAvailabilityHandler = handler;
+    }
+
+    /** まだ予約されていなければ、次のパルスでの反映を1回だけ予約する */
+    private void schedulePulse() {
+        if (pulseScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * 溜まっているスナップショットとログをまとめて反映する（FXスレッド）。
+     * 予約フラグは先に下ろしておき、反映中に届いた更新は次のパルスに回す。
+     */
+    private void flush() {
+        pulseScheduled.set(false);
+
+        String log = null;
+        synchronized (pendingLog) {
+            if (pendingLog.length() > 0) {
+                log = pendingLog.toString();
+                pendingLog.setLength(0);
             }
-        });
+        }
+        if (log != null && logArea != null) {
+            logArea.appendText(log);
+            logArea.setScrollTop(Double.MAX_VALUE);
+        }
+
+        BattleViewModel model = pendingModel.getAndSet(null);
+        if (model != null) {
+            render(model);
+        }
+    }
+
+    /**
+     * 前回描画したスナップショットとの差分だけをラベル・距離マップへ反映する（FXスレッド）。
+     */
+    private void render(BattleViewModel next) {
+        if (rootPane == null) return;
+        BattleViewModel prev = rendered;
+
+        if (BattleViewModel.headerChanged(prev, next)) {
+            headerLabel.setText("ターン " + next.turn + "  |  距離: " + next.distance
+                    + "（" + distanceLabel(next.distance) + "）");
+        }
+        if (prev == null || prev.distance != next.distance) {
+            renderDistanceMap(next.distance);
+        }
+
+        if (BattleViewModel.changed(prev != null ? prev.playerName : null, next.playerName))
+            playerNameLabel.setText(next.playerName);
+        if (BattleViewModel.changed(prev != null ? prev.playerHp : null, next.playerHp))
+            playerHpLabel.setText(next.playerHp);
+        if (BattleViewModel.changed(prev != null ? prev.playerAp : null, next.playerAp))
+            playerApLabel.setText(next.playerAp);
+        if (BattleViewModel.changed(prev != null ? prev.playerSp : null, next.playerSp))
+            playerSpLabel.setText(next.playerSp);
+        if (BattleViewModel.changed(prev != null ? prev.playerConditions : null, next.playerConditions))
+            playerCondLabel.setText(next.playerConditions);
+
+        if (BattleViewModel.changed(prev != null ? prev.enemyName : null, next.enemyName))
+            enemyNameLabel.setText(next.enemyName);
+        if (BattleViewModel.changed(prev != null ? prev.enemyHp : null, next.enemyHp))
+            enemyHpLabel.setText(next.enemyHp);
+        if (BattleViewModel.changed(prev != null ? prev.enemySp : null, next.enemySp))
+            enemySpLabel.setText(next.enemySp);
+        if (BattleViewModel.changed(prev != null ? prev.enemyConditions : null, next.enemyConditions))
+            enemyCondLabel.setText(next.enemyConditions);
+
+        if ((prev == null || prev.fleeAvailable != next.fleeAvailable) && fleeAvailabilityHandler != null) {
+            fleeAvailabilityHandler.accept(next.fleeAvailable);
+        }
+
+        rendered = next;
     }
 
     /**
      * ログエリアに1行追記する。
      */
     public void appendLog(String message) {
-        Platform.runLater(() -> {
+        uiExecutor.execute(() -> {
             if (logArea != null) {
                 logArea.appendText(message + "\n");
                 logArea.setScrollTop(Double.MAX_VALUE);
@@ -337,119 +439,128 @@ public class BattlePanelController {
     }
 
     /**
-     * ログエリアをクリアする（戦闘開始時）。
+     * 戦闘イベントログの範囲を要約してログエリアへ追記する。
+     * BattleEventLog のリスナーとしてゲームスレッドから呼ばれる。
+     * エントリはリングバッファ内で再利用されるため、文字列化はこの場で済ませ、
+     * FXスレッドへの反映はステータス更新と同じパルスにまとめる。
      */
-    public void clearLog() {
-        Platform.runLater(() -> {
-            if (logArea != null) {
-                logArea.clear();
+    public void appendEvents(BattleEventLog log, long fromSeq, long toSeq) {
+        StringBuilder sb = new StringBuilder();
+        for (long seq = fromSeq; seq < toSeq; seq++) {
+            BattleEventLog.Entry e = log.get(seq);
+            if (e == null)
+                continue;
+            String line = summarize(e);
+            if (line != null) {
+                sb.append(line).append('\n');
             }
-        });
+        }
+        if (sb.length() == 0)
+            return;
+
+        synchronized (pendingLog) {
+            pendingLog.append(sb);
+        }
+        schedulePulse();
     }
 
     /**
-     * プレイヤーのステータス欄を更新する。
-     * @param player     プレイヤーデータ
-     * @param conditions 現在の戦闘状態リスト（BattleState.ActiveCombatCondition）
+     * イベント1件をログ用の要約テキストに変換する（表示しないイベントは null）。
      */
-    public void updatePlayerStatus(Player player,
-            List<BattleState.ActiveCombatCondition> conditions) {
-        if (player == null) return;
-
-        String name = player.getName() != null ? player.getName() : "冒険者";
-        String hp   = player.getCurrentHP() + " / " + player.getMaxHP();
-        String ap   = player.getCurrentAP() + " / " + player.getMaxAP();
-        String sp   = String.valueOf(player.getCurrentSp());
-        String cond = buildConditionText(conditions);
-
-        Platform.runLater(() -> {
-            if (playerNameLabel != null) {
-                playerNameLabel.setText("〔" + name + "〕");
-                playerHpLabel.setText("HP: " + hp);
-                playerApLabel.setText("AP: " + ap);
-                playerSpLabel.setText("SP: " + sp);
-                playerCondLabel.setText("状態: " + cond);
+    private String summarize(BattleEventLog.Entry e) {
+        boolean byPlayer = e.getActor() == BattleEventLog.Actor.PLAYER;
+        switch (e.getType()) {
+            case BATTLE_START:
+                if (e.getSubject() != null) {
+                    enemyDisplayName = e.getSubject();
+                }
+                return null;
+            case TURN_START:
+                return "\u2500── ターン " + e.getTurn() + " ───";
+            case DAMAGE: {
+                String crit = e.getFlag() ? "　[クリティカル]" : "";
+                String sp = e.getC() > 0 ? "　SP" + e.getC() + "吸収" : "";
+                if (byPlayer) {
+                    return "命中！" + e.getSubject() + "に" + e.getA() + "ダメージ" + crit + sp;
+                }
+                return enemyDisplayName + "の攻撃！" + e.getA() + "ダメージ" + crit + sp;
             }
-        });
+            case MISS:
+                return byPlayer ? "攻撃がかわされた！" : enemyDisplayName + "の攻撃を回避！";
+            case FORCED_MOVE:
+                return (byPlayer ? "プレイヤー" : enemyDisplayName) + "が吹き飛ばされた（距離 "
+                        + e.getA() + "→" + e.getB() + "）";
+            case CONDITION_APPLIED: {
+                CombatConditionData data = CombatConditionRegistry.getConditionById(e.getRef());
+                String name = (data != null) ? data.getName() : e.getRef();
+                return (byPlayer ? "プレイヤー" : enemyDisplayName) + "が[" + name + "]になった";
+            }
+            default:
+                return null;
+        }
     }
 
     /**
-     * 敵のステータス欄を更新する。
-     * @param enemy      敵データ
-     * @param conditions 敵の現在の戦闘状態リスト
+     * ログエリアをクリアする（戦闘開始時）。
      */
-    public void updateEnemyStatus(EnemyData enemy,
-            List<BattleState.ActiveCombatCondition> conditions) {
-        if (enemy == null) return;
-
-        String name = enemy.getName() != null ? enemy.getName() : "???";
-        String hp   = enemy.getHp() + " / " + enemy.getMaxHp();
-        String sp   = String.valueOf(enemy.getCurrentSp());
-        String cond = buildConditionText(conditions);
-
-        Platform.runLater(() -> {
-            if (enemyNameLabel != null) {
-                enemyNameLabel.setText("〔" + name + "〕");
-                enemyHpLabel.setText("HP: " + hp);
-                enemySpLabel.setText("SP: " + sp);
-                enemyCondLabel.setText("状態: " + cond);
+    public void clearLog() {
+        uiExecutor.execute(() -> {
+            if (logArea != null) {
+                logArea.clear();
             }
         });
     }
 
     /**
-     * 距離マップを更新する（▽と○の位置を動かす）。
+     * 距離マップを更新する（▽と○の位置を動かす）。FXスレッドから呼ぶこと。
      * @param distance 現在の距離（0〜4）
      */
-    public void updateDistanceMap(int distance) {
+    private void renderDistanceMap(int distance) {
         int safeDistance = Math.max(0, Math.min(4, distance));
+        if (distanceCells == null || distanceMapBox == null) return;
 
-        Platform.runLater(() -> {
-            if (distanceCells == null || distanceMapBox == null) return;
+        // マスの色をリセット
+        for (int i = 0; i < MAP_CELL_COUNT; i++) {
+            distanceCells[i].setFill(Color.web(COLOR_CELL_NORMAL));
+        }
 
-            // マスの色をリセット
-            for (int i = 0; i < MAP_CELL_COUNT; i++) {
-                distanceCells[i].setFill(Color.web(COLOR_CELL_NORMAL));
-            }
+        // 距離に対応するセル位置（ルックアップテーブル方式）
+        // 距離 0: 中央重なり 距離 1: 隣接、距離2以降は1距離各1マスの隙間が増える
+        //  距離 | プレイヤー | 敵 | 隙間
+        //    0   |   2      |  2  |  重なり
+        //    1   |   2      |  3  |  0（隣接）
+        //    2   |   1      |  3  |  1
+        //    3   |   1      |  4  |  2
+        //    4   |   0      |  4  |  3（最大）
+        int[] playerPositions = {2, 2, 1, 1, 0};
+        int[] enemyPositions  = {2, 3, 3, 4, 4};
+        int playerCell = playerPositions[safeDistance];
+        int enemyCell  = enemyPositions[safeDistance];
+
+        distanceCells[playerCell].setFill(Color.web(COLOR_CELL_ACTIVE));
+        if (enemyCell != playerCell) {
+            distanceCells[enemyCell].setFill(Color.web(COLOR_CELL_ACTIVE));
+        }
 
-            // 距離に対応するセル位置（ルックアップテーブル方式）
-            // 距離 0: 中央重なり 距離 1: 隣接、距離2以降は1距離各1マスの隙間が増える
-            //  距離 | プレイヤー | 敵 | 隙間
-            //    0   |   2      |  2  |  重なり
-            //    1   |   2      |  3  |  0（隣接）
-            //    2   |   1      |  3  |  1
-            //    3   |   1      |  4  |  2
-            //    4   |   0      |  4  |  3（最大）
-            int[] playerPositions = {2, 2, 1, 1, 0};
-            int[] enemyPositions  = {2, 3, 3, 4, 4};
-            int playerCell = playerPositions[safeDistance];
-            int enemyCell  = enemyPositions[safeDistance];
-
-            distanceCells[playerCell].setFill(Color.web(COLOR_CELL_ACTIVE));
-            if (enemyCell != playerCell) {
-                distanceCells[enemyCell].setFill(Color.web(COLOR_CELL_ACTIVE));
-            }
+        // シンボルをそれぞれのスロットに配置
+        for (int i = 0; i < MAP_CELL_COUNT; i++) {
+            StackPane slot = (StackPane) distanceMapBox.getChildren().get(i);
+            slot.getChildren().clear();
+        }
+        StackPane playerSlot = (StackPane) distanceMapBox.getChildren().get(playerCell);
+        StackPane enemySlot  = (StackPane) distanceMapBox.getChildren().get(enemyCell);
 
-            // シンボルをそれぞれのスロットに配置
-            for (int i = 0; i < MAP_CELL_COUNT; i++) {
-                StackPane slot = (StackPane) distanceMapBox.getChildren().get(i);
-                slot.getChildren().clear();
-            }
-            StackPane playerSlot = (StackPane) distanceMapBox.getChildren().get(playerCell);
-            StackPane enemySlot  = (StackPane) distanceMapBox.getChildren().get(enemyCell);
-
-            playerSlot.getChildren().add(playerSymbol);
-            if (enemyCell != playerCell) {
-                enemySlot.getChildren().add(enemySymbol);
-            } else {
-                // 同じマスに居る場合は重ねて表示（HBox横並び）
-                HBox sameCell = new HBox(4);
-                sameCell.setAlignment(Pos.CENTER);
-                sameCell.getChildren().addAll(playerSymbol, enemySymbol);
-                playerSlot.getChildren().clear();
-                playerSlot.getChildren().add(sameCell);
-            }
-        });
+        playerSlot.getChildren().add(playerSymbol);
+        if (enemyCell != playerCell) {
+            enemySlot.getChildren().add(enemySymbol);
+        } else {
+            // 同じマスに居る場合は重ねて表示（HBox横並び）
+            HBox sameCell = new HBox(4);
+            sameCell.setAlignment(Pos.CENTER);
+            sameCell.getChildren().addAll(playerSymbol, enemySymbol);
+            playerSlot.getChildren().clear();
+            playerSlot.getChildren().add(sameCell);
+        }
     }
 
     // =============================================
@@ -468,28 +579,6 @@ public class BattlePanelController {
         };
     }
 
-    /**
-     * ActiveCombatCondition のリストを表示用テキストに変換する。
-     * 例: "転倒(2T)  飛行(1T)"
-     */
-    private String buildConditionText(List<BattleState.ActiveCombatCondition> conditions) {
-        if (conditions == null || conditions.isEmpty()) return "なし";
-
-        StringBuilder sb = new StringBuilder();
-        for (BattleState.ActiveCombatCondition cond : conditions) {
-            if (cond.getDuration() <= 0) continue; // 残ターン0は表示しない
-            CombatConditionData data = CombatConditionRegistry.getConditionById(cond.getConditionId());
-            String displayName = (data != null) ? data.getName() : cond.getConditionId();
-            if (sb.length() > 0) sb.append("  ");
-            if (cond.getDuration() == -1) {
-                sb.append(displayName).append("(永)");
-            } else {
-                sb.append(displayName).append("(").append(cond.getDuration()).append("T)");
-            }
-        }
-        return sb.length() > 0 ? sb.toString() : "なし";
-    }
-
     /** ラベルを生成するユーティリティ */
     private Label makeLabel(String text, String fontFamily, int size, String color) {
         Label lbl = new Label(text);
@@ -0,0 +1,111 @@
+package com.kh.tbrr.ui;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.kh.tbrr.battle.BattleState;
+import com.kh.tbrr.battle.EnemyInstance;
+import com.kh.tbrr.data.CombatConditionRegistry;
+import com.kh.tbrr.data.models.CombatConditionData;
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * 戦闘パネルに表示する内容の不変スナップショット。
+ * ゲームスレッドでターンごとに1つ作り、BattlePanelController へまとめて渡す。
+ * 表示用の文字列はここで組み立て済みにしておくので、FXスレッドは前回との差分を比べて
+ * 変わったラベルだけを書き換えればよい（可変の Player/EnemyInstance をFXスレッドから読まない）。
+ */
+public final class BattleViewModel {
+
+    final int turn;
+    final int distance;
+
+    final String playerName;
+    final String playerHp;
+    final String playerAp;
+    final String playerSp;
+    final String playerConditions;
+
+    final String enemyName;
+    final String enemyHp;
+    final String enemySp;
+    final String enemyConditions;
+
+    final boolean fleeAvailable;
+
+    private BattleViewModel(int turn, int distance,
+            String playerName, String playerHp, String playerAp, String playerSp, String playerConditions,
+            String enemyName, String enemyHp, String enemySp, String enemyConditions,
+            boolean fleeAvailable) {
+        this.turn = turn;
+        this.distance = distance;
+        this.playerName = playerName;
+        this.playerHp = playerHp;
+        this.playerAp = playerAp;
+        this.playerSp = playerSp;
+        this.playerConditions = playerConditions;
+        this.enemyName = enemyName;
+        this.enemyHp = enemyHp;
+        this.enemySp = enemySp;
+        this.enemyConditions = enemyConditions;
+        this.fleeAvailable = fleeAvailable;
+    }
+
+    /**
+     * 現在の戦闘状態からスナップショットを作る（ゲームスレッドから呼ぶ）。
+     */
+    public static BattleViewModel capture(int turn, int distance,
+            Player player, EnemyInstance enemy,
+            List<BattleState.ActiveCombatCondition> playerConds,
+            List<BattleState.ActiveCombatCondition> enemyConds,
+            boolean fleeAvailable) {
+        String pName = null, pHp = null, pAp = null, pSp = null;
+        if (player != null) {
+            pName = "〔" + (player.getName() != null ? player.getName() : "冒険者") + "〕";
+            pHp = "HP: " + player.getCurrentHP() + " / " + player.getMaxHP();
+            pAp = "AP: " + player.getCurrentAP() + " / " + player.getMaxAP();
+            pSp = "SP: " + player.getCurrentSp();
+        }
+        String eName = null, eHp = null, eSp = null;
+        if (enemy != null) {
+            eName = "〔" + (enemy.getName() != null ? enemy.getName() : "???") + "〕";
+            eHp = "HP: " + enemy.getHp() + " / " + enemy.getMaxHp();
+            eSp = "SP: " + enemy.getCurrentSp();
+        }
+        return new BattleViewModel(turn, distance,
+                pName, pHp, pAp, pSp, "状態: " + buildConditionText(playerConds),
+                eName, eHp, eSp, "状態: " + buildConditionText(enemyConds),
+                fleeAvailable);
+    }
+
+    /** 2つのスナップショットでヘッダー（ターン・距離）が異なるか */
+    static boolean headerChanged(BattleViewModel prev, BattleViewModel next) {
+        return prev == null || prev.turn != next.turn || prev.distance != next.distance;
+    }
+
+    static boolean changed(String prev, String next) {
+        return next != null && !Objects.equals(prev, next);
+    }
+
+    /**
+     * ActiveCombatCondition のリストを表示用テキストに変換する。
+     * 例: "転倒(2T)  飛行(1T)"
+     */
+    private static String buildConditionText(List<BattleState.ActiveCombatCondition> conditions) {
+        if (conditions == null || conditions.isEmpty()) return "なし";
+
+        StringBuilder sb = new StringBuilder();
+        for (BattleState.ActiveCombatCondition cond : conditions) {
+            if (cond.getDuration() <= 0) continue; // 残ターン0は表示しない
+            CombatConditionData data = CombatConditionRegistry.getConditionById(cond.getConditionId());
+            String displayName = (data != null) ? data.getName() : cond.getConditionId();
+            if (sb.length() > 0) sb.append("  ");
+            if (cond.getDuration() == -1) {
+                sb.append(displayName).append("(永)");
+            } else {
+                sb.append(displayName).append("(").append(cond.getDuration()).append("T)");
+            }
+        }
+        return sb.length() > 0 ? sb.toString() : "なし";
+    }
+}
@@ -5,7 +5,8 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -43,8 +44,8 @@ import javafx.stage.Stage;
  * FatedOneキャラクターが死亡したとき、この周回で得たアビリティ・特徴の中から
  * 1つを選択して次周回に引き継ぐための画面。
  *
- * ゲームスレッドから requestCarryover() を呼び、CountDownLatch で
- * 選択完了まで待機する設計。
+ * ゲームスレッドから requestCarryover() を呼び、選択完了まで待機する設計。
+ * 待機を呼び出し側で扱う場合は requestCarryoverAsync() の Future を使う。
  */
 public class CarryoverScreen {
 
@@ -83,23 +84,12 @@ public class CarryoverScreen {
      * @param onComplete 完了後に呼ぶコールバック（ゲームスレッドに戻る）
      */
     public void requestCarryover(Player player, Runnable onComplete) {
-        CountDownLatch latch = new CountDownLatch(1);
-
-        Platform.runLater(() -> show(player, latch::countDown));
-
         try {
-            latch.await(); // ゲームスレッドはここで待機（UIが選択を確定するまでブロック）
+            requestCarryoverAsync(player).get(); // ゲームスレッドはここで待機（UIが選択を確定するまで）
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-        }
-
-        // 待機解除後: 選択結果をPlayerに反映
-        try {
-            applyCarryoverResult(player);
-        } catch (Exception e) {
-            System.err.println("[CarryoverScreen] applyCarryoverResult でエラーが発生しました: " + e.getMessage());
+        } catch (ExecutionException e) {
             e.printStackTrace();
-            // エラーが発生してもゲームは続行できるよう、コールバックは必ず呼ぶ
         }
 
         // コールバックを呼ぶ
@@ -108,15 +98,39 @@ public class CarryoverScreen {
         }
     }
 
+    /**
+     * 引継ぎ選択画面を開き、選択の確定と結果の反映が終わると完了する Future を返す。
+     * 選択結果の反映（JSON上書き保存を含む）はFXスレッドの外で行う。
+     *
+     * @param player 対象のPlayerデータ（更新される）
+     * @return 反映まで終わると完了する Future
+     */
+    public CompletableFuture<Void> requestCarryoverAsync(Player player) {
+        CompletableFuture<Void> selected = new CompletableFuture<>();
+
+        Platform.runLater(() -> show(player, () -> selected.complete(null)));
+
+        return selected.thenRunAsync(() -> {
+            // 選択結果をPlayerに反映
+            try {
+                applyCarryoverResult(player);
+            } catch (Exception e) {
+                System.err.println("[CarryoverScreen] applyCarryoverResult でエラーが発生しました: " + e.getMessage());
+                e.printStackTrace();
+                // エラーが発生してもゲームは続行できるよう、Future は正常に完了させる
+            }
+        });
+    }
+
     /**
      * 引継ぎ画面をJavaFXスレッドで表示する。
      *
      * @param player    対象プレイヤー
-     * @param onConfirm 決定確定時のコールバック（ラッチ解放用）
+     * @param onConfirm 決定確定時のコールバック（待機の解除用）
      */
     private void show(Player player, Runnable onConfirm) {
         // 背景画像
-        Image backgroundImage = imageManager.loadBackground("carryover_scene.png");
+        Image backgroundImage = imageManager.loadBackground("carryover_scene.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -235,7 +249,7 @@ public class CarryoverScreen {
      * 締めくくりメッセージを表示し、ボタン押下後にラッチを解放する。
      */
     private void showClosingMessage(Runnable onConfirm) {
-        Image backgroundImage = imageManager.loadBackground("carryover_scene.png");
+        Image backgroundImage = imageManager.loadBackground("carryover_scene.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -48,6 +48,11 @@ public class CharacterCreationScreen {
     private PersonalityManager personalityManager;
     private ImageManager imageManager;
 
+    // 一度組み立てたシーン（再表示のときはフォームと立ち絵一覧だけを作り直す）
+    private Scene scene;
+    private VBox leftPanel;
+    private Runnable onComplete;
+
     // 入力フィールド
     private TextField nameField;
     private TextField englishNameField;
@@ -224,15 +229,32 @@ public class CharacterCreationScreen {
      * キャラクター制作画面を表示
      */
     public void show(Runnable onComplete) {
+        this.onComplete = onComplete;
+
         // カスタム立ち絵フォルダを確保（なければ作成）
         imageManager.ensureUserPortraitsDirectory();
 
-        // 利用可能な立ち絵をロード
+        // 利用可能な立ち絵をロード（前回から追加・削除されていることがあるため毎回読む）
         availablePortraits = imageManager.getAvailableBasePortraits();
         availableCustomPortraits = imageManager.getAvailableCustomPortraits();
 
+        if (scene == null) {
+            scene = buildScene();
+        } else {
+            resetForm();
+        }
+
+        stage.setScene(scene);
+        stage.setTitle("T.B.R.R. - キャラクター制作");
+        stage.show();
+    }
+
+    /**
+     * 画面のシーンを組み立てる（最初の表示で1回だけ）
+     */
+    private Scene buildScene() {
         // 背景画像を読み込み
-        Image backgroundImage = imageManager.loadBackground("character_creation.png");
+        Image backgroundImage = imageManager.loadBackground("character_creation.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -250,7 +272,7 @@ public class CharacterCreationScreen {
         HBox topSection = new HBox(20);
 
         // 左パネル：フォームのみ
-        VBox leftPanel = new VBox(10);
+        leftPanel = new VBox(10);
         GridPane formGrid = createFormGrid();
         leftPanel.getChildren().add(formGrid);
         HBox.setHgrow(leftPanel, Priority.ALWAYS);
@@ -276,7 +298,7 @@ public class CharacterCreationScreen {
 
         // === 右パネル：立ち絵（下寄せ） ===
         // 右パネルはメインレイアウトの直下に追加し、縦幅いっぱいを使う
-        VBox rightPanel = createRightPanel(onComplete);
+        VBox rightPanel = createRightPanel();
 
         mainLayout.getChildren().addAll(leftContainer, rightPanel);
 
@@ -284,16 +306,32 @@ public class CharacterCreationScreen {
         StackPane root = new StackPane();
         root.getChildren().addAll(backgroundView, mainLayout);
 
-        Scene scene = new Scene(root, 1600, 900);
-        stage.setScene(scene);
-        stage.setTitle("T.B.R.R. - キャラクター制作");
-        stage.show();
+        return new Scene(root, 1600, 900);
+    }
+
+    /**
+     * 2回目以降の表示で、入力内容を初期状態に戻す
+     * フォームは作り直し（初期値・項目間の連動をそのまま使うため）、立ち絵の選択は読み直した一覧で空にする
+     */
+    private void resetForm() {
+        GridPane formGrid = createFormGrid();
+        VBox.setVgrow(formGrid, Priority.ALWAYS);
+        leftPanel.getChildren().setAll(formGrid);
+
+        descriptionArea.setText(DEFAULT_DESCRIPTION);
+
+        usingCustomPortrait = false;
+        useCustomPortraitCheck.setSelected(false);
+        portraitChoice.getItems().setAll("立ち絵を選択");
+        portraitChoice.getItems().addAll(availablePortraits);
+        portraitChoice.setValue("立ち絵を選択");
+        portraitView.setImage(null);
     }
 
     /**
      * 右側パネル（立ち絵 + ボタン）を作成
      */
-    private VBox createRightPanel(Runnable onComplete) {
+    private VBox createRightPanel() {
         VBox rightPanel = new VBox(15);
         rightPanel.setAlignment(Pos.BOTTOM_RIGHT); // 下寄せ
         rightPanel.setPrefWidth(292);
@@ -369,10 +407,10 @@ public class CharacterCreationScreen {
                 Image image;
                 if (usingCustomPortrait) {
                     // カスタム立ち絵を読み込み
-                    image = imageManager.loadCustomPortrait(selected);
+                    image = imageManager.loadCustomPortrait(selected, 288, 512);
                 } else {
                     // 内蔵立ち絵を読み込み
-                    image = imageManager.loadPortrait(selected);
+                    image = imageManager.loadPortrait(selected, 288, 512);
                 }
                 if (image != null) {
                     portraitView.setImage(image);
@@ -1363,6 +1401,7 @@ public class CharacterCreationScreen {
             try (FileWriter writer = new FileWriter(saveFile)) {
                 writer.write(json);
             }
+            com.kh.tbrr.manager.CharacterLibrary.update(fileName, player);
 
             // System.out.println("[CharacterCreationScreen] キャラクターを保存しました: " +
             // saveFile.getPath());
@@ -1,7 +1,5 @@
 package com.kh.tbrr.ui;
 
-import java.util.List;
-
 import com.kh.tbrr.data.models.GraveRecord;
 import com.kh.tbrr.manager.GraveyardManager;
 
@@ -11,6 +9,9 @@ import com.kh.tbrr.manager.GraveyardManager;
  * ※GameStateへの依存も削除済み（GraveyardManagerがstaticになったため不要）
  */
 public class ExtraMenuUI {
+    // 表示する記録の数（新しい順）
+    private static final int RECENT_RECORDS = 20;
+
     private ConsoleUI ui;
 
     public ExtraMenuUI(ConsoleUI ui) {
@@ -18,16 +19,23 @@ public class ExtraMenuUI {
     }
 
     public void showGraveyardMenu() {
-        List<GraveRecord> records = GraveyardManager.loadAllRecords();
+        GraveyardManager.Page page = GraveyardManager.queryRecords(
+            null, null, GraveyardManager.Sort.NEWEST, 0, RECENT_RECORDS);
 
         ui.print("━━━━━━━━━━━━━━━━━━━━━━━━");
         ui.print("       墓地");
         ui.print("━━━━━━━━━━━━━━━━━━━━━━━━");
 
-        if (records.isEmpty()) {
+        if (page.total() == 0) {
             ui.print("まだ誰も倒れていない。");
         } else {
-            for (GraveRecord record : records) {
+            GraveyardManager.Stats stats = GraveyardManager.getStats();
+            ui.print(String.format("%d 件の記録 / 平均到達フロア：%.1f / 最深：%d",
+                stats.total(), stats.averageFloor(), stats.deepestFloor()));
+            if (page.total() > page.records().size()) {
+                ui.print("（新しい " + page.records().size() + " 件を表示）");
+            }
+            for (GraveRecord record : page.records()) {
                 String line = "- " + record.getCharacterName()
                     + "（" + record.getCharacterJob() + "）"
                     + " / フロア：" + record.getFloor()
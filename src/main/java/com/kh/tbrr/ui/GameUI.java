@@ -1,12 +1,17 @@
 package com.kh.tbrr.ui;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.kh.tbrr.data.models.Player;
 
 /**
  * ゲームUIの共通インターフェース
  * ConsoleUI と JavaFXUI の両方で実装される
+ *
+ * 入力系のメソッドには CompletableFuture を返す *Async 版がある。
+ * 同期版は入力が確定するまで呼び出したスレッドを止めるため、ゲームループは仮想スレッドで動かす
+ * （{@link com.kh.tbrr.core.GameEngine#newGameThread}）。
  */
 public interface GameUI {
 
@@ -82,6 +87,36 @@ public interface GameUI {
 	 */
 	void waitForEnter();
 
+	// ========== 入力の非同期版 ==========
+
+	/**
+	 * ユーザー入力を非同期に取得 (プロンプト付き)
+	 * デフォルト実装は同期版をその場で呼ぶ（コンソールUI向け）
+	 * 
+	 * @return 入力文字列の Future。セッションが打ち切られた場合は CancellationException で完了する
+	 */
+	default CompletableFuture<String> getInputAsync(String prompt) {
+		return CompletableFuture.completedFuture(getInput(prompt));
+	}
+
+	/**
+	 * 数値選択を非同期に取得（プレイヤー情報付き）
+	 * 
+	 * @param max           最大値
+	 * @param currentPlayer 現在のプレイヤー
+	 * @return 選択された数値 (1~max) の Future
+	 */
+	default CompletableFuture<Integer> getPlayerChoiceAsync(int max, Player currentPlayer) {
+		return CompletableFuture.completedFuture(getPlayerChoice(max, currentPlayer));
+	}
+
+	/**
+	 * Yes/Noの選択を非同期に取得
+	 */
+	default CompletableFuture<Boolean> getYesNoAsync() {
+		return CompletableFuture.completedFuture(getYesNo());
+	}
+
 	/**
 	 * プレイヤーの状態を表示（HP/AP/スキル/アイテム）
 	 */
@@ -118,6 +153,36 @@ public interface GameUI {
 	 */
 	void showImage(String imageType, String imagePath);
 
+	/**
+	 * 画像を先読みする（表示はしない）
+	 * 次に表示されそうな画像を、プレイヤーが文章を読んでいる間に読み込んでおくために使う
+	 * 
+	 * @param imageType 画像の種類 ("background", "sub", "enemy")
+	 * @param imagePath 画像のパス
+	 */
+	default void prefetchImage(String imageType, String imagePath) {
+		// デフォルト実装は何もしない（コンソールUI向け）
+	}
+
+	/**
+	 * 性能計測オーバーレイ（フレーム時間・runLater の滞留・ヒープ/GC・出力の遅延）の表示を切り替える
+	 * 開発者モードの「perf on / perf off」から呼ばれる
+	 *
+	 * @param visible 表示するならtrue
+	 */
+	default void setPerformanceOverlayVisible(boolean visible) {
+		// デフォルト実装は何もしない（コンソールUI向け）
+	}
+
+	/**
+	 * 性能計測の記録を CSV に書き出す
+	 *
+	 * @return 書き出したファイルのパス。記録がない・非対応の場合はnull
+	 */
+	default String exportPerformanceLog() {
+		return null;
+	}
+
 	/**
 	 * 立ち絵の表情を変更
 	 * 
@@ -154,6 +219,27 @@ public interface GameUI {
 		return null;
 	}
 
+	/**
+	 * インタラクション（ミニゲーム）の結果を待つ（ゲームスレッド用）
+	 * デフォルト実装は timeout まで待つだけ（コンソールUI向け）
+	 *
+	 * @return インタラクションの結果
+	 * @throws java.util.concurrent.TimeoutException       timeout までに終わらなかった場合
+	 * @throws java.util.concurrent.CancellationException セッションが打ち切られた場合（future も取り消される）
+	 */
+	default <T> T awaitInteraction(CompletableFuture<T> future, long timeout, java.util.concurrent.TimeUnit unit)
+			throws java.util.concurrent.TimeoutException {
+		try {
+			return future.get(timeout, unit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(false);
+			throw new java.util.concurrent.CancellationException("インタラクションの待機が中断されました");
+		} catch (java.util.concurrent.ExecutionException e) {
+			throw new java.util.concurrent.CompletionException(e.getCause());
+		}
+	}
+
 	/**
 	 * インタラクション用の入力ハンドラーを設定
 	 * 設定中は通常の入力処理が無効化される
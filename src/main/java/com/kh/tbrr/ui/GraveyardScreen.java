@@ -1,6 +1,11 @@
 package com.kh.tbrr.ui;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.kh.tbrr.data.models.GraveRecord;
 import com.kh.tbrr.manager.GraveyardManager;
@@ -11,6 +16,7 @@ import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -18,6 +24,7 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
@@ -26,13 +33,35 @@ import javafx.stage.Stage;
 /**
  * 墓地 閲覧画面
  * 過去に死亡したキャラクターの記録一覧を表示する。
- * GraveyardManager.loadAllRecords() でuserdata/memory/graveyard/ からデータを読み込む。
+ * 記録は GraveyardManager.queryRecords() で1ページ（PAGE_SIZE 件）ずつ読み込み、
+ * 件数・平均到達フロア・多い死因は GraveyardManager.getStats() の集計を表示する。
  */
 public class GraveyardScreen {
 
+    // 1ページに表示する記録の数
+    private static final int PAGE_SIZE = 100;
+    // 集計に表示する死因の数
+    private static final int TOP_CAUSES = 3;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm")
+            .withZone(ZoneId.systemDefault());
+
     private Stage stage;
     private ImageManager imageManager;
 
+    // 一度組み立てたシーン（再表示のときは記録一覧だけを更新する）
+    private Scene scene;
+    private Runnable onBack;
+    private Label countLabel;
+    private Label emptyLabel;
+    private Label causeLabel;
+    private TableView<GraveRecord> table;
+    private HBox pager;
+    private Label pageLabel;
+    private Button prevBtn;
+    private Button nextBtn;
+    // 表示中のページの先頭が何件目か
+    private int pageOffset;
+
     public GraveyardScreen(Stage stage) {
         this.stage = stage;
         this.imageManager = new ImageManager();
@@ -44,8 +73,26 @@ public class GraveyardScreen {
      * @param onBack 「戻る」ボタンを押したときの処理
      */
     public void show(Runnable onBack) {
+        this.onBack = onBack;
+        if (scene == null) {
+            scene = buildScene();
+        }
+
+        // 記録の読み込み（表示のたびに最新の1ページ目を読む）
+        pageOffset = 0;
+        refresh();
+
+        stage.setScene(scene);
+        stage.setTitle("TBRR - 墓地");
+        stage.show();
+    }
+
+    /**
+     * 画面のシーンを組み立てる（最初の表示で1回だけ）
+     */
+    private Scene buildScene() {
         // 背景画像
-        Image backgroundImage = imageManager.loadBackground("mainmenu.png");
+        Image backgroundImage = imageManager.loadBackground("mainmenu.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -61,33 +108,47 @@ public class GraveyardScreen {
         titleLabel.setFont(Font.font("Arial", 32));
         titleLabel.setStyle("-fx-text-fill: #cccccc;");
 
-        // 記録の読み込み
-        List<GraveRecord> records = GraveyardManager.loadAllRecords();
+        // 記録がない場合のメッセージ
+        emptyLabel = new Label("まだ誰も倒れていない。");
+        emptyLabel.setFont(Font.font("Arial", 20));
+        emptyLabel.setStyle("-fx-text-fill: #aaaaaa;");
 
-        if (records.isEmpty()) {
-            // 記録がない場合のメッセージ
-            Label emptyLabel = new Label("まだ誰も倒れていない。");
-            emptyLabel.setFont(Font.font("Arial", 20));
-            emptyLabel.setStyle("-fx-text-fill: #aaaaaa;");
+        // 件数ラベル
+        countLabel = new Label();
+        countLabel.setFont(Font.font("Arial", 14));
+        countLabel.setStyle("-fx-text-fill: #888888;");
 
-            Button backBtn = createButton("戻る");
-            backBtn.setOnAction(e -> { if (onBack != null) onBack.run(); });
+        // 多い死因のラベル
+        causeLabel = new Label();
+        causeLabel.setFont(Font.font("Arial", 14));
+        causeLabel.setStyle("-fx-text-fill: #888888;");
 
-            contentBox.getChildren().addAll(titleLabel, emptyLabel, backBtn);
-        } else {
-            // 記録一覧のTableView
-            TableView<GraveRecord> table = buildTable(records);
+        // 記録一覧のTableView
+        table = buildTable();
 
-            // 件数ラベル
-            Label countLabel = new Label(records.size() + " 件の記録");
-            countLabel.setFont(Font.font("Arial", 14));
-            countLabel.setStyle("-fx-text-fill: #888888;");
+        // ページ送り
+        prevBtn = createButton("前へ");
+        prevBtn.setPrefWidth(160);
+        prevBtn.setOnAction(e -> {
+            pageOffset = Math.max(0, pageOffset - PAGE_SIZE);
+            refresh();
+        });
+        nextBtn = createButton("次へ");
+        nextBtn.setPrefWidth(160);
+        nextBtn.setOnAction(e -> {
+            pageOffset += PAGE_SIZE;
+            refresh();
+        });
+        pageLabel = new Label();
+        pageLabel.setFont(Font.font("Arial", 14));
+        pageLabel.setStyle("-fx-text-fill: #888888;");
+        pager = new HBox(20, prevBtn, pageLabel, nextBtn);
+        pager.setAlignment(Pos.CENTER);
 
-            Button backBtn = createButton("戻る");
-            backBtn.setOnAction(e -> { if (onBack != null) onBack.run(); });
+        Button backBtn = createButton("戻る");
+        backBtn.setOnAction(e -> { if (onBack != null) onBack.run(); });
 
-            contentBox.getChildren().addAll(titleLabel, countLabel, table, backBtn);
-        }
+        contentBox.getChildren().addAll(titleLabel, emptyLabel, countLabel, causeLabel, table, pager, backBtn);
 
         StackPane root = new StackPane();
         root.getChildren().addAll(backgroundView, contentBox);
@@ -96,17 +157,57 @@ public class GraveyardScreen {
         overlay.setFill(javafx.scene.paint.Color.color(0, 0, 0, 0.6));
         root.getChildren().add(1, overlay); // 背景画像の上、コンテンツの下に挿入
 
-        Scene scene = new Scene(root, 1600, 900);
-        stage.setScene(scene);
-        stage.setTitle("TBRR - 墓地");
-        stage.show();
+        return new Scene(root, 1600, 900);
+    }
+
+    /**
+     * 集計と表示中のページを読み直す（記録がなければメッセージだけを表示する）
+     */
+    private void refresh() {
+        GraveyardManager.Stats stats = GraveyardManager.getStats();
+        GraveyardManager.Page page = GraveyardManager.queryRecords(
+                null, null, GraveyardManager.Sort.NEWEST, pageOffset, PAGE_SIZE);
+        pageOffset = page.offset();
+
+        boolean empty = stats.total() == 0;
+        setShown(emptyLabel, empty);
+        setShown(countLabel, !empty);
+        setShown(causeLabel, !empty);
+        setShown(table, !empty);
+        setShown(pager, page.total() > PAGE_SIZE);
+
+        countLabel.setText(String.format("%d 件の記録　／　平均到達フロア %.1f　／　最深 %d フロア",
+                stats.total(), stats.averageFloor(), stats.deepestFloor()));
+        causeLabel.setText("多い死因：" + topCauses(stats.deathsByCause()));
+        table.setItems(FXCollections.observableArrayList(page.records()));
+
+        int last = pageOffset + page.records().size();
+        pageLabel.setText((pageOffset + 1) + " - " + last + " 件目 ／ " + page.total() + " 件");
+        prevBtn.setDisable(pageOffset == 0);
+        nextBtn.setDisable(last >= page.total());
+    }
+
+    private static String topCauses(Map<String, Integer> deathsByCause) {
+        List<String> parts = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : deathsByCause.entrySet()) {
+            if (parts.size() >= TOP_CAUSES) {
+                break;
+            }
+            parts.add(e.getKey() + "（" + e.getValue() + "）");
+        }
+        return String.join("　", parts);
+    }
+
+    private static void setShown(Node node, boolean shown) {
+        node.setVisible(shown);
+        node.setManaged(shown);
     }
 
     /**
      * 墓地記録のTableViewを構築する
      */
     @SuppressWarnings("unchecked")
-    private TableView<GraveRecord> buildTable(List<GraveRecord> records) {
+    private TableView<GraveRecord> buildTable() {
         TableView<GraveRecord> table = new TableView<>();
         table.setMaxWidth(1200);
         table.setPrefHeight(600);
@@ -137,8 +238,15 @@ public class GraveyardScreen {
         deathCol.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getDeathEvent()));
         deathCol.setPrefWidth(400);
 
-        table.getColumns().addAll(nameCol, jobCol, floorCol, deathCol);
-        table.setItems(FXCollections.observableArrayList(records));
+        // 列：死亡日時（日時のない記録は空欄）
+        TableColumn<GraveRecord, String> dateCol = new TableColumn<>("日時");
+        dateCol.setCellValueFactory(data -> {
+            long diedAt = data.getValue().getDiedAt();
+            return new SimpleStringProperty(diedAt == 0 ? "" : DATE_FORMAT.format(Instant.ofEpochMilli(diedAt)));
+        });
+        dateCol.setPrefWidth(200);
+
+        table.getColumns().addAll(nameCol, jobCol, floorCol, deathCol, dateCol);
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
 
         // テーブルのスタイル調整
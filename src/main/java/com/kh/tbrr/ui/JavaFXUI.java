@@ -3,19 +3,22 @@ package com.kh.tbrr.ui;
 import java.util.List;
 import java.util.Set;
 import java.util.HashSet;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.kh.tbrr.battle.data.AbilityData;
 import com.kh.tbrr.battle.data.CombatDataLoader;
 import com.kh.tbrr.battle.BattleManager;
 import com.kh.tbrr.battle.BattleState;
-import com.kh.tbrr.battle.EnemyData;
+import com.kh.tbrr.battle.EnemyInstance;
 import com.kh.tbrr.data.models.Player;
 import com.kh.tbrr.system.DeveloperMode;
 
-import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -51,19 +54,39 @@ public class JavaFXUI implements GameUI {
 	private Stage stage;
 	private DeveloperMode developerMode;
 
+	/** メッセージ欄がメモリに保持する行数（超えた分は履歴ファイルへ） */
+	private static final int MESSAGE_LOG_CAPACITY = 3000;
+	/** 重要ログ欄がメモリに保持する行数（超えた分は履歴ファイルへ） */
+	private static final int IMPORTANT_LOG_CAPACITY = 500;
+	/** 画像枠の表示サイズ（画像はこの大きさに縮小してデコードする） */
+	private static final int MAIN_IMAGE_WIDTH = 800;
+	private static final int MAIN_IMAGE_HEIGHT = 450;
+	private static final int SUB_IMAGE_SIZE = 450;
+	private static final int PORTRAIT_WIDTH = 288;
+	private static final int PORTRAIT_HEIGHT = 512;
+
 	// ゲーム画面の主要コンポーネント
 	private Label hpLabel;
 	private Label apLabel;
 	private Label moneyLabel;
-	private TextArea messageArea;
+	private MessageLogView messageLog;
 	private ImageView eventImageView;
 	private ImageView enemyImageView;
 	private TextField inputField;
 	private FlowPane skillsPane; // 技能アイコン表示用
 	private FlowPane itemsPane; // アイテムアイコン表示用
 	private FlowPane statusEffectsPane; // 状態異常アイコン表示用
+	// 各アイコン欄に表示中のノード（キー → ノード。アイコンがないキーは null）
+	private final java.util.Map<String, javafx.scene.Node> skillIconNodes = new java.util.HashMap<>();
+	private final java.util.Map<String, javafx.scene.Node> itemIconNodes = new java.util.HashMap<>();
+	private final java.util.Map<String, javafx.scene.Node> statusEffectIconNodes = new java.util.HashMap<>();
+	// 画像枠ごとの最新の表示要求の番号（デコードが遅れて終わった古い画像で上書きしないため）
+	private final java.util.Map<String, Integer> imageRequests = new java.util.HashMap<>();
 
 	private Label characterImageLabel;
+	// 表情差分を先読み済みの立ち絵（printPlayerStatus を呼ぶゲームスレッドだけが触る。
+	// FXスレッドの装備パネルからは refreshStatusFromPanel で更新し、ここには触れない）
+	private String preloadedPortrait;
 
 	// 画像読み込みとか
 	private ImageView characterPortraitView;
@@ -80,11 +103,20 @@ public class JavaFXUI implements GameUI {
 	private Scene gameScene;
 
 	// 重要ログ置き場
-	private TextArea importantLogArea;
-
-	// 入力待機用
-	private CountDownLatch inputLatch;
-	private AtomicReference<String> inputResult = new AtomicReference<>("");
+	private MessageLogView importantLog;
+
+	// 入力待機用（入力欄の確定で完了させる）
+	private volatile CompletableFuture<String> pendingInput;
+	// ゲームスレッドが待機中の Future（タイトルに戻るときにまとめて取り消す）
+	private final Set<CompletableFuture<?>> waits = ConcurrentHashMap.newKeySet();
+	// タイトルに戻った後は、以後の入力要求もすべて取り消す
+	private volatile boolean cancelled;
+	// 中断時に、ゲームスレッドが入力待ちから抜けるところで1回だけ実行する処理（状態の写し取りと保存）
+	private final AtomicReference<Runnable> onSessionCancelled = new AtomicReference<>();
+	// ゲームスレッドが終了したか（終了後の中断はFXスレッドでそのまま保存してよい）
+	private volatile boolean sessionEnded;
+	// 入力後の続き（検証・開発者コマンド）を動かす先。FXスレッドを塞がないよう仮想スレッドで実行する
+	private static final Executor continuation = r -> Thread.ofVirtual().name("ui-input").start(r);
 
 	// インタラクション（ミニゲーム）用入力ハンドラー
 	private java.util.function.Consumer<String> interactionInputHandler;
@@ -96,13 +128,48 @@ public class JavaFXUI implements GameUI {
 	private ComboBox<String> stanceComboBox;
 	private ComboBox<String> specialComboBox;
 	private Button executeTurnButton;
-	private CountDownLatch battleCommandLatch;
-	private AtomicReference<BattleCommand> battleCommandResult = new AtomicReference<>();
+	private volatile CompletableFuture<BattleCommand> pendingBattleCommand;
 	private HBox inputBox; // inputBoxのクラスフィールド保存用
 
 	// 戦闘情報サブウィンドウ用コントローラー
 	private BattlePanelController battlePanelController;
 
+	/** ゲームスレッドからの出力をパルスごとにまとめて反映するキュー */
+	private final UiOutputQueue output = new UiOutputQueue(new UiOutputQueue.Sink() {
+		@Override
+		public void appendMessage(String text) {
+			messageLog.append(text);
+		}
+
+		@Override
+		public void clearMessages() {
+			messageLog.clear();
+		}
+
+		@Override
+		public void appendImportant(String text) {
+			importantLog.append(text);
+		}
+
+		@Override
+		public void setEventInfo(String text) {
+			eventInfoLabel.setText(text);
+		}
+
+		@Override
+		public void setFloorInfo(String text) {
+			mapInfoLabel.setText(text);
+		}
+
+		@Override
+		public void showImageNow(String imageType, String imagePath) {
+			JavaFXUI.this.showImageNow(imageType, imagePath);
+		}
+	});
+
+	// 開発者モードの性能計測オーバーレイ（perf on で表示）
+	private final PerformanceOverlay perfOverlay = new PerformanceOverlay();
+
 	public JavaFXUI(Stage stage, DeveloperMode developerMode) {
 		this.stage = stage;
 		this.developerMode = developerMode;
@@ -125,8 +192,12 @@ public class JavaFXUI implements GameUI {
 		// 右側（立ち絵など）
 		root.setRight(createRightPanel());
 
+		// 性能計測オーバーレイを最前面に重ねる（マウス操作は素通し）
+		StackPane sceneRoot = new StackPane(root, perfOverlay.getNode());
+		StackPane.setAlignment(perfOverlay.getNode(), Pos.TOP_LEFT);
+
 		// シーン設定
-		gameScene = new Scene(root, 1600, 900);
+		gameScene = new Scene(sceneRoot, 1600, 900);
 		stage.setTitle("T.B.R.R.");
 		stage.setScene(gameScene);
 		stage.setResizable(false);
@@ -141,17 +212,31 @@ public class JavaFXUI implements GameUI {
 			}
 		});
 
-		// ★追加: スクロールバーを常に表示する（二重表示防止のため内部ScrollPaneに適用）
-		Platform.runLater(() -> {
-			javafx.scene.Node scrollPane = messageArea.lookup(".scroll-pane");
-			if (scrollPane != null) {
-				scrollPane.setStyle("-fx-vbar-policy: always;");
+		// 画面の部品が揃ってから出力キューの取り出しを始める
+		output.start();
+
+		// Ctrl+F でメッセージログの検索バーを開く
+		gameScene.addEventHandler(javafx.scene.input.KeyEvent.KEY_PRESSED, e -> {
+			if (e.isShortcutDown() && e.getCode() == javafx.scene.input.KeyCode.F && messageLog != null) {
+				messageLog.showSearch();
+				e.consume();
 			}
+		});
 
-			// ★追加: テキストエリア選択時に先頭へスクロールしてしまうバグ対策
-			// テキストエリア部分でのマウスクリックを完全にブロックし、スクロールバー操作のみ許可する
-			disableTextClickSelection(messageArea);
-			disableTextClickSelection(importantLogArea);
+		// Ctrl+C でログの選択行をコピーする（入力欄で文字を選択しているときは入力欄のコピーを優先）
+		// ログはフォーカスを取らないので、入力欄に届く前にシーンで受け取る
+		gameScene.addEventFilter(javafx.scene.input.KeyEvent.KEY_PRESSED, e -> {
+			if (!e.isShortcutDown() || e.getCode() != javafx.scene.input.KeyCode.C)
+				return;
+			if (inputField != null && !inputField.getSelectedText().isEmpty())
+				return;
+			if (messageLog != null && messageLog.hasSelection()) {
+				messageLog.copySelection();
+				e.consume();
+			} else if (importantLog != null && importantLog.hasSelection()) {
+				importantLog.copySelection();
+				e.consume();
+			}
 		});
 	}
 
@@ -207,8 +292,8 @@ public class JavaFXUI implements GameUI {
 
 		// 背景：イベント画像エリア（800×450）
 		eventImageView = new ImageView();
-		eventImageView.setFitWidth(800);
-		eventImageView.setFitHeight(450);
+		eventImageView.setFitWidth(MAIN_IMAGE_WIDTH);
+		eventImageView.setFitHeight(MAIN_IMAGE_HEIGHT);
 		eventImageView.setPreserveRatio(false);
 		eventImageView.setSmooth(true);
 		eventImageView.setStyle(
@@ -216,8 +301,8 @@ public class JavaFXUI implements GameUI {
 
 		// ★追加: 敵画像エリア (背景の上に重ねる)
 		enemyImageView = new ImageView();
-		enemyImageView.setFitWidth(800);
-		enemyImageView.setFitHeight(450);
+		enemyImageView.setFitWidth(MAIN_IMAGE_WIDTH);
+		enemyImageView.setFitHeight(MAIN_IMAGE_HEIGHT);
 		enemyImageView.setPreserveRatio(true);
 		enemyImageView.setSmooth(true);
 		enemyImageView.setVisible(false);
@@ -268,8 +353,8 @@ public class JavaFXUI implements GameUI {
 
 		// サブウィンドウ用画像表示エリア
 		subWindowImageView = new ImageView();
-		subWindowImageView.setFitWidth(450); // 枠いっぱいに表示
-		subWindowImageView.setFitHeight(450); // 正方形いっぱいに表示
+		subWindowImageView.setFitWidth(SUB_IMAGE_SIZE); // 枠いっぱいに表示
+		subWindowImageView.setFitHeight(SUB_IMAGE_SIZE); // 正方形いっぱいに表示
 		subWindowImageView.setPreserveRatio(false);
 		subWindowImageView.setSmooth(true);
 		subWindowImageView.setStyle("-fx-background-color: #222222;");
@@ -310,11 +395,7 @@ public class JavaFXUI implements GameUI {
 					break;
 				case "E":
 					// エンター処理（決定）
-					if (inputLatch != null) {
-						inputResult.set(inputField.getText().trim());
-						inputField.clear();
-						inputLatch.countDown();
-					}
+					submitInput();
 					break;
 				default:
 					// 数字を追加
@@ -336,15 +417,9 @@ public class JavaFXUI implements GameUI {
 		logBox.setMinWidth(454);
 		// 高さは可変（VBox.setVgrowで制御）
 
-		importantLogArea = new TextArea();
-		importantLogArea.setEditable(false);
-		importantLogArea.setFocusTraversable(false);
-		importantLogArea.setWrapText(true);
-		importantLogArea.setFont(Font.font("MS Gothic", 14));
-		importantLogArea.setStyle("-fx-control-inner-background: #2b2b2b; -fx-text-fill: #cccccc;");
-		VBox.setVgrow(importantLogArea, Priority.ALWAYS);
+		importantLog = new MessageLogView(IMPORTANT_LOG_CAPACITY, Font.font("MS Gothic", 14), "#cccccc", "important");
 
-		logBox.getChildren().add(importantLogArea);
+		logBox.getChildren().add(importantLog.getNode());
 		return logBox;
 	}
 
@@ -534,11 +609,7 @@ public class JavaFXUI implements GameUI {
 			// 通常時はEnter相当（ACTION）または無視
 			if ("ACTION".equals(direction)) {
 				// Enterと同等の処理
-				if (inputLatch != null) {
-					inputResult.set(inputField.getText().trim());
-					inputField.clear();
-					inputLatch.countDown();
-				}
+				submitInput();
 			}
 			// 方向キーは通常時は何もしない（将来的にメニュー操作等に使用可能）
 		});
@@ -552,15 +623,10 @@ public class JavaFXUI implements GameUI {
 		messageBox.setStyle("-fx-background-color: #2b2b2b;");
 		messageBox.setPadding(new Insets(0));
 
-		messageArea = new TextArea();
-		messageArea.setEditable(false);
-		messageArea.setFocusTraversable(false);
-		messageArea.setWrapText(true);
-		messageArea.setFont(Font.font("MS Gothic", 16));
-		messageArea.setStyle("-fx-control-inner-background: #2b2b2b; -fx-text-fill: white;");
-		VBox.setVgrow(messageArea, Priority.ALWAYS);
+		// 行単位のリングバッファで表示する（古い行は履歴ファイルへ押し出す）
+		messageLog = new MessageLogView(MESSAGE_LOG_CAPACITY, Font.font("MS Gothic", 16), "white", "main");
 
-		messageBox.getChildren().add(messageArea);
+		messageBox.getChildren().add(messageLog.getNode());
 		return messageBox;
 	}
 
@@ -605,14 +671,14 @@ public class JavaFXUI implements GameUI {
 		executeTurnButton = new Button("ターンの決定");
 		executeTurnButton.setFont(Font.font("MS Gothic", 14));
 		executeTurnButton.setOnAction(e -> {
-			if (battleCommandLatch != null) {
-				BattleCommand cmd = new BattleCommand(
+			CompletableFuture<BattleCommand> pending = pendingBattleCommand;
+			if (pending != null) {
+				pendingBattleCommand = null;
+				pending.complete(new BattleCommand(
 						moveComboBox.getValue(),
 						actionComboBox.getValue(),
 						stanceComboBox.getValue(),
-						specialComboBox.getValue());
-				battleCommandResult.set(cmd);
-				battleCommandLatch.countDown();
+						specialComboBox.getValue()));
 			}
 		});
 
@@ -638,7 +704,7 @@ public class JavaFXUI implements GameUI {
 	 * 戦闘モードのUI切り替え（選択肢エリアとコマンドエリアの切り替え）
 	 */
 	public void setBattleMode(boolean isBattle) {
-		Platform.runLater(() -> {
+		output.run(() -> {
 			if (inputBox != null && battleCommandBox != null) {
 				inputBox.setVisible(!isBattle);
 				inputBox.setManaged(!isBattle);
@@ -676,16 +742,19 @@ public class JavaFXUI implements GameUI {
 	 * プレイヤーのバトルコマンド入力を待機して取得する
 	 */
 	public BattleCommand getBattleCommand() {
-		battleCommandLatch = new CountDownLatch(1);
-		battleCommandResult.set(null);
+		return await(getBattleCommandAsync());
+	}
 
-		try {
-			battleCommandLatch.await();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			return null;
+	/**
+	 * プレイヤーのバトルコマンド入力を非同期に取得する（「ターンの決定」で完了する）
+	 */
+	public CompletableFuture<BattleCommand> getBattleCommandAsync() {
+		if (cancelled) {
+			return CompletableFuture.failedFuture(new CancellationException("セッションは終了しています"));
 		}
-		return battleCommandResult.get();
+		CompletableFuture<BattleCommand> future = new CompletableFuture<>();
+		pendingBattleCommand = future;
+		return future;
 	}
 
 	/**
@@ -703,14 +772,7 @@ public class JavaFXUI implements GameUI {
 		inputField.setPrefHeight(35);
 		HBox.setHgrow(inputField, Priority.ALWAYS);
 
-		inputField.setOnAction(e -> {
-			String input = inputField.getText().trim();
-			if (inputLatch != null) {
-				inputResult.set(input);
-				inputField.clear();
-				inputLatch.countDown();
-			}
-		});
+		inputField.setOnAction(e -> submitInput());
 
 		bottomBox.getChildren().add(inputField);
 		return bottomBox;
@@ -763,8 +825,8 @@ public class JavaFXUI implements GameUI {
 
 		// 立ち絵エリア
 		characterPortraitView = new ImageView();
-		characterPortraitView.setFitWidth(288);
-		characterPortraitView.setFitHeight(512);
+		characterPortraitView.setFitWidth(PORTRAIT_WIDTH);
+		characterPortraitView.setFitHeight(PORTRAIT_HEIGHT);
 		characterPortraitView.setPreserveRatio(true);
 		characterPortraitView.setStyle(
 				"-fx-background-color: #e0e0e0; " +
@@ -792,16 +854,8 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void print(String message) {
-		Platform.runLater(() -> {
-			messageArea.appendText(message + "\n");
-			// ★改善: PauseTransitionで少し待ってからスクロール（レイアウト更新待ち）
-			PauseTransition pause = new PauseTransition(Duration.millis(50));
-			pause.setOnFinished(e -> {
-				messageArea.positionCaret(messageArea.getText().length()); // 末尾にキャレットを合わせる
-				messageArea.setScrollTop(Double.MAX_VALUE); // 強制的に最下部へ
-			});
-			pause.play();
-		});
+		// 出力キューに積むだけ（次のパルスで連続する追記をまとめて反映する）
+		output.push(UiOutputQueue.Kind.MESSAGE, null, message);
 	}
 
 	@Override
@@ -816,12 +870,7 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void printTitleBar(String title) {
-		Platform.runLater(() -> {
-			messageArea.appendText("\n" + "╔".repeat(40) + "\n");
-			messageArea.appendText(" " + title + "\n");
-			messageArea.appendText("╔".repeat(40) + "\n");
-			messageArea.setScrollTop(Double.MAX_VALUE);
-		});
+		output.push(UiOutputQueue.Kind.MESSAGE, null, "\n" + "╔".repeat(40) + "\n " + title + "\n" + "╔".repeat(40));
 	}
 
 	@Override
@@ -831,9 +880,7 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void clearScreen() {
-		Platform.runLater(() -> {
-			messageArea.clear();
-		});
+		output.push(UiOutputQueue.Kind.CLEAR, null, null);
 	}
 
 	@Override
@@ -843,55 +890,54 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public String getInput(String prompt) {
-		while (true) {
-			if (prompt != null && !prompt.isEmpty()) {
-				print(prompt);
-			}
-
-			inputLatch = new CountDownLatch(1);
-			inputResult.set("");
-
-			Platform.runLater(() -> inputField.requestFocus());
-
-			try {
-				inputLatch.await();
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				return "";
-			}
+		return await(getInputAsync(prompt));
+	}
 
-			String result = inputResult.get();
+	@Override
+	public CompletableFuture<String> getInputAsync(String prompt) {
+		if (prompt != null && !prompt.isEmpty()) {
+			print(prompt);
+		}
 
+		return nextLine().thenComposeAsync(result -> {
 			// 開発者コマンドのチェック
 			if (result != null && !result.isEmpty()) {
 				String lowerInput = result.trim().toLowerCase();
 
-				// 開発者コマンドの判定（admin, dev, admin on/off, debug on/off, helper on/off, player.*）
+				// 開発者コマンドの判定（admin, dev, admin on/off, debug on/off, helper on/off, battlelog on/off, player.*）
 				if (lowerInput.equals("admin") ||
 						lowerInput.equals("dev") ||
-						lowerInput.equals("admin on") ||
-						lowerInput.equals("admin off") ||
-						lowerInput.equals("debug on") ||
-						lowerInput.equals("debug off") ||
-						lowerInput.equals("helper on") ||
-						lowerInput.equals("helper off") ||
-						lowerInput.startsWith("player.")) {
+						isToggleOrPlayerCommand(lowerInput)) {
 
 					if (developerMode != null) {
 						Player currentPlayer = developerMode.getCurrentPlayer();
 						developerMode.handleDevCommand(result, currentPlayer);
 					}
-					continue;
+					return getInputAsync(prompt);
 				}
 			}
 
-			return result;
-		}
+			return CompletableFuture.completedFuture(result);
+		}, continuation);
 	}
 
-	/**
-	 * 内部実装：再帰的に入力を受け付ける
-	 */
+	/** 開発者モード中だけ受け付けるコマンド（on/off 切り替えと player.*）か */
+	private static boolean isToggleOrPlayerCommand(String lowerInput) {
+		return lowerInput.startsWith("player.") ||
+				lowerInput.equals("admin on") ||
+				lowerInput.equals("admin off") ||
+				lowerInput.equals("debug on") ||
+				lowerInput.equals("debug off") ||
+				lowerInput.equals("helper on") ||
+				lowerInput.equals("helper off") ||
+				lowerInput.equals("battlelog on") ||
+				lowerInput.equals("battlelog off") ||
+				lowerInput.equals("perf on") ||
+				lowerInput.equals("perf off") ||
+				lowerInput.equals("perf export") ||
+				lowerInput.equals("save export") ||
+				lowerInput.equals("rollback");
+	}
 
 	@Override
 	public int getPlayerChoice(int max) {
@@ -900,7 +946,7 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public int getPlayerChoice(int max, Player currentPlayer) {
-		return getPlayerChoiceInternal(max, currentPlayer, true);
+		return await(getPlayerChoiceAsync(max, currentPlayer));
 	}
 
 	@Override
@@ -908,94 +954,90 @@ public class JavaFXUI implements GameUI {
 		return getPlayerChoice(max);
 	}
 
-	private int getPlayerChoiceInternal(int max, Player currentPlayer, boolean firstCall) {
+	@Override
+	public CompletableFuture<Integer> getPlayerChoiceAsync(int max, Player currentPlayer) {
+		return getPlayerChoiceAsync(max, currentPlayer, true);
+	}
+
+	/**
+	 * 内部実装：有効な番号が入力されるまで入力を受け付け直す
+	 */
+	private CompletableFuture<Integer> getPlayerChoiceAsync(int max, Player currentPlayer, boolean firstCall) {
 		if (firstCall) {
 			print("選択してください (1-" + max + "): ");
 		}
 
-		inputLatch = new CountDownLatch(1);
-		AtomicInteger result = new AtomicInteger(-1);
-
-		Platform.runLater(() -> inputField.requestFocus());
-
-		try {
-			inputLatch.await();
-			String input = inputResult.get();
-
-			// 開発者コマンドのチェック
-			if (input != null && !input.isEmpty()) {
-				String lowerInput = input.trim().toLowerCase();
+		return nextLine().thenComposeAsync(input -> {
+			Integer choice = parseChoice(input, max, currentPlayer);
+			return (choice != null)
+					? CompletableFuture.completedFuture(choice)
+					: getPlayerChoiceAsync(max, currentPlayer, false);
+		}, continuation);
+	}
 
-				if (lowerInput.equals("admin") || lowerInput.equals("dev")) {
-					if (developerMode != null) {
-						developerMode.handleDevCommand(input, currentPlayer);
-					}
-					return getPlayerChoiceInternal(max, currentPlayer, false);
+	/**
+	 * 入力を選択肢の番号として解釈する
+	 * 開発者コマンド・ステータス確認・無効な入力の場合は（必要な表示をしてから）null を返す
+	 */
+	private Integer parseChoice(String input, int max, Player currentPlayer) {
+		// 開発者コマンドのチェック
+		if (input != null && !input.isEmpty()) {
+			String lowerInput = input.trim().toLowerCase();
+
+			if (lowerInput.equals("admin") || lowerInput.equals("dev")) {
+				if (developerMode != null) {
+					developerMode.handleDevCommand(input, currentPlayer);
 				}
+				return null;
+			}
 
-				if (developerMode != null && developerMode.isEnabled()) {
-					if (lowerInput.startsWith("player.") ||
-							lowerInput.equals("admin on") ||
-							lowerInput.equals("admin off") ||
-							lowerInput.equals("debug on") ||
-							lowerInput.equals("debug off") ||
-							lowerInput.equals("helper on") ||
-							lowerInput.equals("helper off")) {
-
-						if (currentPlayer != null) {
-							developerMode.handleDevCommand(input, currentPlayer);
-						}
-						return getPlayerChoiceInternal(max, currentPlayer, false);
-					}
+			if (developerMode != null && developerMode.isEnabled() && isToggleOrPlayerCommand(lowerInput)) {
+				if (currentPlayer != null) {
+					developerMode.handleDevCommand(input, currentPlayer);
 				}
+				return null;
 			}
+		}
 
-			if (input == null || input.isEmpty()) {
-				print("⚠ 入力が空です。もう一度入力してください。");
-				return getPlayerChoiceInternal(max, currentPlayer, false);
-			}
+		if (input == null || input.isEmpty()) {
+			print("⚠ 入力が空です。もう一度入力してください。");
+			return null;
+		}
 
-			// ステータス確認コマンド（開発者モード不要）
-			if (currentPlayer != null && !input.matches("\\d+")) {
-				String lowerInput = input.trim().toLowerCase();
-				if (lowerInput.equals("status") || lowerInput.equals("ステータス") || lowerInput.equals("s")) {
-					print("━━━━━━━━━━━━━━━━━━━━━━━━");
-					print(currentPlayer.getCharacterSheet());
-					print("━━━━━━━━━━━━━━━━━━━━━━━━");
-					print(""); // 空行を追加
-					return getPlayerChoiceInternal(max, currentPlayer, false);
-				}
+		// ステータス確認コマンド（開発者モード不要）
+		if (currentPlayer != null && !input.matches("\\d+")) {
+			String lowerInput = input.trim().toLowerCase();
+			if (lowerInput.equals("status") || lowerInput.equals("ステータス") || lowerInput.equals("s")) {
+				print("━━━━━━━━━━━━━━━━━━━━━━━━");
+				print(currentPlayer.getCharacterSheet());
+				print("━━━━━━━━━━━━━━━━━━━━━━━━");
+				print(""); // 空行を追加
+				return null;
 			}
+		}
 
-			try {
-				int choice = Integer.parseInt(input);
-				if (choice >= 1 && choice <= max) {
-					result.set(choice);
-				} else {
-					print("⚠ 無効な選択です（範囲外: 1-" + max + "）");
-					return getPlayerChoiceInternal(max, currentPlayer, false);
-				}
-			} catch (NumberFormatException e) {
-				print("⚠ 無効な入力です（数値を入力してください）");
-				return getPlayerChoiceInternal(max, currentPlayer, false);
+		try {
+			int choice = Integer.parseInt(input);
+			if (choice >= 1 && choice <= max) {
+				return choice;
 			}
-
-		} catch (InterruptedException e) {
-			print("⚠ 入力待機中にエラーが発生しました");
-			e.printStackTrace();
-			return getPlayerChoiceInternal(max, currentPlayer, false);
+			print("⚠ 無効な選択です（範囲外: 1-" + max + "）");
+		} catch (NumberFormatException e) {
+			print("⚠ 無効な入力です（数値を入力してください）");
 		}
-
-		return result.get();
+		return null;
 	}
 
 	@Override
 	public boolean getYesNo() {
+		return await(getYesNoAsync());
+	}
 
-		CountDownLatch latch = new CountDownLatch(1);
-		AtomicReference<Boolean> result = new AtomicReference<>(false);
+	@Override
+	public CompletableFuture<Boolean> getYesNoAsync() {
+		CompletableFuture<Boolean> result = new CompletableFuture<>();
 
-		Platform.runLater(() -> {
+		output.run(() -> {
 			javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
 					javafx.scene.control.Alert.AlertType.CONFIRMATION);
 			alert.setTitle("確認");
@@ -1008,19 +1050,160 @@ public class JavaFXUI implements GameUI {
 					javafx.scene.control.ButtonBar.ButtonData.NO);
 			alert.getButtonTypes().setAll(yesButton, noButton);
 
-			alert.showAndWait().ifPresent(buttonType -> {
-				result.set(buttonType == yesButton);
-				latch.countDown();
-			});
+			// 出力キューの反映中（アニメーション処理中）は showAndWait できないため、閉じたときに結果を返す
+			// ボタンを押さずに閉じた場合は「いいえ」扱い
+			alert.setOnHidden(e -> result.complete(alert.getResult() == yesButton));
+			alert.show();
 		});
 
+		return result;
+	}
+
+	// ========================================
+	// 入力待機の共通処理
+	// ========================================
+
+	/**
+	 * 入力欄の内容を、待機中の入力要求へ渡す（FXスレッド）
+	 */
+	private void submitInput() {
+		CompletableFuture<String> pending = pendingInput;
+		if (pending != null) {
+			pendingInput = null;
+			String input = inputField.getText().trim();
+			inputField.clear();
+			pending.complete(input);
+		}
+	}
+
+	/**
+	 * 次に確定される1行の入力を待つ Future を返す
+	 */
+	private CompletableFuture<String> nextLine() {
+		if (cancelled) {
+			return CompletableFuture.failedFuture(new CancellationException("セッションは終了しています"));
+		}
+		CompletableFuture<String> future = new CompletableFuture<>();
+		pendingInput = future;
+		Platform.runLater(() -> inputField.requestFocus());
+		return future;
+	}
+
+	/**
+	 * Future の完了を待つ（ゲームスレッド用）
+	 * 仮想スレッド上ではキャリアスレッドを手放して待機する。
+	 * タイトルに戻った場合・割り込まれた場合は CancellationException を投げてゲームループを終わらせる
+	 */
+	private <T> T await(CompletableFuture<T> future) {
+		if (cancelled) {
+			future.cancel(false);
+			runSessionCancelledTask();
+			throw new CancellationException("セッションは終了しています");
+		}
+		waits.add(future);
 		try {
-			latch.await();
+			return future.get();
+		} catch (CancellationException e) {
+			runSessionCancelledTask();
+			throw e;
 		} catch (InterruptedException e) {
-			e.printStackTrace();
+			Thread.currentThread().interrupt();
+			runSessionCancelledTask();
+			throw new CancellationException("入力待機が中断されました");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new CompletionException(e.getCause());
+		} finally {
+			waits.remove(future);
 		}
+	}
 
-		return result.get();
+	/**
+	 * インタラクション（ミニゲーム）の結果を待つ（ゲームスレッド用）
+	 * 入力待ちと同じく waits に登録するので、タイトルに戻る・中断で取り消され、CancellationException で終わる
+	 */
+	@Override
+	public <T> T awaitInteraction(CompletableFuture<T> future, long timeout, java.util.concurrent.TimeUnit unit)
+			throws java.util.concurrent.TimeoutException {
+		try {
+			return await(future.orTimeout(timeout, unit));
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof java.util.concurrent.TimeoutException te) {
+				throw te;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * このゲーム画面のセッションを打ち切る（タイトルに戻るとき。FXスレッドから呼ぶ）
+	 * 待機中・以後の入力要求はすべて CancellationException で終わり、ゲームスレッドはそこから巻き戻って終了する
+	 */
+	public void cancelSession() {
+		cancelled = true;
+		pendingInput = null;
+		pendingBattleCommand = null;
+		for (CompletableFuture<?> wait : waits) {
+			wait.cancel(false);
+		}
+		releaseScreen();
+	}
+
+	/**
+	 * 画面の後始末（出力キュー・性能計測のタイマーを止め、履歴ファイルを閉じる）
+	 * タイマーが動いたままだと、パルスのたびにこの画面全体が参照され続けてメモリから消えない
+	 */
+	private void releaseScreen() {
+		Platform.runLater(() -> {
+			output.stop();
+			perfOverlay.stop();
+			if (messageLog != null) {
+				messageLog.close();
+			}
+			if (importantLog != null) {
+				importantLog.close();
+			}
+		});
+	}
+
+	/**
+	 * 状態を保存してからセッションを打ち切る（中断するとき。FXスレッドから呼ぶ）
+	 * save はゲームスレッドが入力待ちから抜けるところで呼ばれる。ゲームスレッドは入力待ちの間は状態を書き換えないので、
+	 * save の中で GameState をそのまま写し取ってよい。ゲームスレッドがすでに終わっている場合はこのスレッドで呼ぶ
+	 *
+	 * @param save 状態の写し取りと保存（1回だけ呼ばれる）
+	 */
+	public void suspendSession(Runnable save) {
+		onSessionCancelled.set(save);
+		cancelSession();
+		if (sessionEnded) {
+			runSessionCancelledTask();
+		}
+	}
+
+	/**
+	 * ゲームスレッドの終了時に呼ぶ（ゲームスレッドから）
+	 * 入力待ちに入らないまま終わった場合でも、中断の保存が行われるようにする。画面の後始末もここで行う
+	 */
+	public void endSession() {
+		sessionEnded = true;
+		runSessionCancelledTask();
+		releaseScreen();
+	}
+
+	private void runSessionCancelledTask() {
+		Runnable task = onSessionCancelled.getAndSet(null);
+		if (task == null) {
+			return;
+		}
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			System.err.println("[JavaFXUI] 中断時の処理でエラー: " + e.getMessage());
+			e.printStackTrace();
+		}
 	}
 
 	public void waitForEnter() {
@@ -1032,88 +1215,86 @@ public class JavaFXUI implements GameUI {
 	@Override
 	public void printPlayerStatus(Player player) {
 		this.currentPlayer = player; // ここで現在のプレイヤーインスタンスを保持する
-		Platform.runLater(() -> {
-			// HP/AP/銀貨更新
-			hpLabel.setText(String.format("HP: %s/%s",
-					player.getCurrentHP(), player.getEffectiveMaxHp()));
-			apLabel.setText(String.format("AP: %s/%s",
-					player.getCurrentAP(), player.getEffectiveMaxAp()));
-
-			moneyLabel.setText(String.format("銀貨: %s/%s",
-					player.getMoney(), player.getEffectiveMaxMoney()));
-
-			// スキル表示（アイコン表示）
-			List<String> skills = player.getEffectiveSkills();
-			skillsPane.getChildren().clear();
-			if (skills != null && !skills.isEmpty()) {
-				for (String skillName : skills) {
-					ImageView iconView = createSkillIconView(skillName);
-					if (iconView != null) {
-						skillsPane.getChildren().add(iconView);
-					}
-				}
-			} else {
-				// スキルがない場合は「なし」ラベルを表示
-				Label noSkillLabel = new Label("（なし）");
-				noSkillLabel.setStyle("-fx-text-fill: #999999; -fx-font-size: 11px;");
-				skillsPane.getChildren().add(noSkillLabel);
-			}
+		preloadPortraitExpressions(player.getPortraitFileName());
+		com.kh.tbrr.manager.IconHelper.warmPlayerIcons(player); // 未読み込みのアイコンだけ裏で読む
+		// Playerはゲームスレッドで書き換えられるため、表示内容はここで不変のスナップショットにしてから渡す
+		PlayerStatusSnapshot snapshot = PlayerStatusSnapshot.capture(player);
+		output.run(() -> applyPlayerStatus(snapshot));
+	}
 
-			// アイテム表示（アイコン表示）
-			List<String> itemIds = player.getInventory();
-			itemsPane.getChildren().clear();
-			if (itemIds != null && !itemIds.isEmpty()) {
-				boolean hasDisplayable = false;
-				for (String itemId : itemIds) {
-					com.kh.tbrr.data.models.Item item = com.kh.tbrr.data.ItemRegistry.getItemById(itemId);
-					if (item != null) {
-						String cat = item.getEquipmentCategory();
-						if ("WEAPON".equalsIgnoreCase(cat) || "ACCESSORY".equalsIgnoreCase(cat)) {
-							continue; // 装備品は対象外（将来の専用UIで表示）
-						}
-					}
+	/**
+	 * 装備パネルで装備を変えたときにステータス欄を更新する（FXスレッド）。
+	 * パネルはFXスレッドでプレイヤーを書き換えるので、書き換えた直後にその場でスナップショットを取る。
+	 * 立ち絵は装備では変わらないので、表情差分の先読み（ゲームスレッド側）はしない。
+	 */
+	private void refreshStatusFromPanel(Player player) {
+		PlayerStatusSnapshot snapshot = PlayerStatusSnapshot.capture(player);
+		output.run(() -> applyPlayerStatus(snapshot));
+	}
 
-					ImageView iconView = createItemIconView(itemId);
-					if (iconView != null) {
-						itemsPane.getChildren().add(iconView);
-						hasDisplayable = true;
-					}
-				}
+	/**
+	 * ステータス欄にスナップショットを反映する（FXスレッド）。
+	 * アイコン欄は前回のノードをキーで使い回し、増減した分だけ作成・削除する。
+	 */
+	private void applyPlayerStatus(PlayerStatusSnapshot snapshot) {
+		// HP/AP/銀貨更新
+		hpLabel.setText(snapshot.hpText);
+		apLabel.setText(snapshot.apText);
+		moneyLabel.setText(snapshot.moneyText);
 
-				if (!hasDisplayable) {
-					Label noItemLabel = new Label("（なし）");
-					noItemLabel.setStyle("-fx-text-fill: #999999; -fx-font-size: 11px;");
-					itemsPane.getChildren().add(noItemLabel);
-				}
-			} else {
-				// アイテムがない場合は「なし」ラベルを表示
-				Label noItemLabel = new Label("（なし）");
-				noItemLabel.setStyle("-fx-text-fill: #999999; -fx-font-size: 11px;");
-				itemsPane.getChildren().add(noItemLabel);
-			}
+		// スキル表示（アイコン表示）
+		reconcileIcons(skillsPane, skillIconNodes, snapshot.skills,
+				e -> createSkillIconView(e.id()), "（なし）");
 
-			// 状態異常表示（アイコン表示）
-			java.util.Map<String, Integer> statusEffects = player.getStatusEffects();
-			statusEffectsPane.getChildren().clear();
-			if (statusEffects != null && !statusEffects.isEmpty()) {
-				for (java.util.Map.Entry<String, Integer> entry : statusEffects.entrySet()) {
-					String effectId = entry.getKey();
-					int value = entry.getValue();
-					ImageView iconView = createStatusEffectIconView(effectId, value);
-					if (iconView != null) {
-						statusEffectsPane.getChildren().add(iconView);
-					}
-				}
+		// アイテム表示（アイコン表示）
+		reconcileIcons(itemsPane, itemIconNodes, snapshot.items,
+				e -> createItemIconView(e.id()), "（なし）");
+
+		// 状態異常表示（アイコン表示）
+		reconcileIcons(statusEffectsPane, statusEffectIconNodes, snapshot.statusEffects,
+				e -> createStatusEffectIconView(e.id(), e.value()), "（状態異常：なし）");
+
+		// 立ち絵の更新
+		updatePortrait(snapshot.portraitFileName);
+	}
+
+	/**
+	 * アイコン欄の子ノードをキー付きで差分更新する。
+	 * 既にあるキーのノードはそのまま使い、新しいキーだけ factory で作る（アイコンがないキーも覚えておく）。
+	 * 並びが変わらなければ子リストには触れない。表示できる要素がなければ「なし」ラベルを出す。
+	 */
+	private void reconcileIcons(FlowPane pane, java.util.Map<String, javafx.scene.Node> nodes,
+			List<PlayerStatusSnapshot.IconEntry> entries,
+			java.util.function.Function<PlayerStatusSnapshot.IconEntry, javafx.scene.Node> factory,
+			String emptyText) {
+		java.util.Map<String, javafx.scene.Node> next = new java.util.HashMap<>();
+		List<javafx.scene.Node> desired = new java.util.ArrayList<>(entries.size());
+		for (PlayerStatusSnapshot.IconEntry entry : entries) {
+			javafx.scene.Node node;
+			if (nodes.containsKey(entry.key())) {
+				node = nodes.get(entry.key());
 			} else {
-				// 状態異常がない場合は「なし」ラベルを表示
-				Label noStatusLabel = new Label("（状態異常：なし）");
-				noStatusLabel.setStyle("-fx-text-fill: #999999; -fx-font-size: 11px;");
-				statusEffectsPane.getChildren().add(noStatusLabel);
+				node = factory.apply(entry);
 			}
-
-			// 立ち絵の更新
-			updatePortrait(player);
-		});
+			next.put(entry.key(), node);
+			if (node != null) {
+				desired.add(node);
+			}
+		}
+		nodes.clear();
+		nodes.putAll(next);
+
+		if (desired.isEmpty()) {
+			Label emptyLabel = (Label) pane.getProperties().computeIfAbsent("emptyLabel", k -> {
+				Label label = new Label(emptyText);
+				label.setStyle("-fx-text-fill: #999999; -fx-font-size: 11px;");
+				return label;
+			});
+			desired.add(emptyLabel);
+		}
+		if (!pane.getChildren().equals(desired)) {
+			pane.getChildren().setAll(desired);
+		}
 	}
 
 	/**
@@ -1123,12 +1304,12 @@ public class JavaFXUI implements GameUI {
 	 * @return アイコンImageView
 	 */
 	private ImageView createSkillIconView(String skillName) {
-		Image icon = com.kh.tbrr.manager.IconHelper.loadSkillIcon(skillName);
-		if (icon == null) {
+		// アトラスを共有し viewport で切り出した ImageView（デコードはプロセス中1回だけ）
+		ImageView iconView = com.kh.tbrr.manager.IconHelper.createSkillIconView(skillName);
+		if (iconView == null) {
 			return null;
 		}
 
-		ImageView iconView = new ImageView(icon);
 		iconView.setFitWidth(32);
 		iconView.setFitHeight(32);
 		iconView.setPreserveRatio(true);
@@ -1152,12 +1333,11 @@ public class JavaFXUI implements GameUI {
 	 * @return アイコンImageView
 	 */
 	private ImageView createItemIconView(String itemId) {
-		Image icon = com.kh.tbrr.manager.IconHelper.loadItemIcon(itemId);
-		if (icon == null) {
+		ImageView iconView = com.kh.tbrr.manager.IconHelper.createItemIconView(itemId);
+		if (iconView == null) {
 			return null;
 		}
 
-		ImageView iconView = new ImageView(icon);
 		iconView.setFitWidth(32);
 		iconView.setFitHeight(32);
 		iconView.setPreserveRatio(true);
@@ -1182,12 +1362,11 @@ public class JavaFXUI implements GameUI {
 	 * @return アイコンImageView
 	 */
 	private ImageView createStatusEffectIconView(String effectId, int value) {
-		Image icon = com.kh.tbrr.manager.IconHelper.loadStatusEffectIcon(effectId);
-		if (icon == null) {
+		ImageView iconView = com.kh.tbrr.manager.IconHelper.createStatusEffectIconView(effectId);
+		if (iconView == null) {
 			return null;
 		}
 
-		ImageView iconView = new ImageView(icon);
 		iconView.setFitWidth(32);
 		iconView.setFitHeight(32);
 		iconView.setPreserveRatio(true);
@@ -1208,17 +1387,27 @@ public class JavaFXUI implements GameUI {
 	/**
 	 * 立ち絵を更新する
 	 */
-	private void updatePortrait(Player player) {
-		this.currentPlayer = player;
-
-		if (player.getPortraitFileName() != null && !player.getPortraitFileName().isEmpty()) {
-			javafx.scene.image.Image portrait = loadPortraitWithCustomSupport(player.getPortraitFileName());
+	private void updatePortrait(String portraitFileName) {
+		if (portraitFileName != null && !portraitFileName.isEmpty()) {
+			javafx.scene.image.Image portrait = loadPortraitWithCustomSupport(portraitFileName);
 			if (portrait != null) {
 				characterPortraitView.setImage(portrait);
 			}
 		}
 	}
 
+	/**
+	 * 立ち絵が変わったときだけ、表情差分をまとめて裏で読み込んでおく（初回の表情変更で引っかからないように）
+	 * 読み込んだ立ち絵はメインメニューに戻るまでキャッシュに固定される
+	 */
+	private void preloadPortraitExpressions(String portraitFileName) {
+		if (portraitFileName == null || portraitFileName.isEmpty() || portraitFileName.equals(preloadedPortrait)) {
+			return;
+		}
+		preloadedPortrait = portraitFileName;
+		imageManager.preloadPortraitExpressions(portraitFileName, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
+	}
+
 	/**
 	 * 立ち絵の表情を変更する
 	 * 
@@ -1232,10 +1421,11 @@ public class JavaFXUI implements GameUI {
 			if (com.kh.tbrr.manager.ImageManager.isCustomPortrait(fileName)) {
 				// カスタム立ち絵の表情差分
 				String actualFileName = com.kh.tbrr.manager.ImageManager.stripCustomPrefix(fileName);
-				portrait = imageManager.loadCustomPortraitExpression(actualFileName, expression);
+				portrait = imageManager.loadCustomPortraitExpression(actualFileName, expression,
+						PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
 			} else {
 				// 内蔵立ち絵の表情差分
-				portrait = imageManager.loadPortraitExpression(fileName, expression);
+				portrait = imageManager.loadPortraitExpression(fileName, expression, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
 			}
 
 			if (portrait != null) {
@@ -1264,10 +1454,10 @@ public class JavaFXUI implements GameUI {
 		if (com.kh.tbrr.manager.ImageManager.isCustomPortrait(fileName)) {
 			// カスタム立ち絵
 			String actualFileName = com.kh.tbrr.manager.ImageManager.stripCustomPrefix(fileName);
-			return imageManager.loadCustomPortrait(actualFileName);
+			return imageManager.loadCustomPortrait(actualFileName, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
 		} else {
 			// 内蔵立ち絵
-			return imageManager.loadPortrait(fileName);
+			return imageManager.loadPortrait(fileName, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
 		}
 	}
 
@@ -1281,24 +1471,19 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void showFloorInfo(int floorNumber, String terrainName) {
-		Platform.runLater(() -> {
-			if (floorNumber <= 0) {
-				mapInfoLabel.setText(String.format("プロローグ | 現在の地形：%s", terrainName));
-			} else {
-				mapInfoLabel.setText(String.format("フロア%d | 現在の地形：%s", floorNumber, terrainName));
-			}
-		});
+		String text;
+		if (floorNumber <= 0) {
+			text = String.format("プロローグ | 現在の地形：%s", terrainName);
+		} else {
+			text = String.format("フロア%d | 現在の地形：%s", floorNumber, terrainName);
+		}
+		output.push(UiOutputQueue.Kind.FLOOR_INFO, null, text);
 	}
 
 	@Override
 	public void showEventInfo(String eventTitle) {
-		Platform.runLater(() -> {
-			if (eventTitle != null && !eventTitle.isEmpty()) {
-				eventInfoLabel.setText(eventTitle);
-			} else {
-				eventInfoLabel.setText("");
-			}
-		});
+		output.push(UiOutputQueue.Kind.EVENT_INFO, null,
+				(eventTitle != null && !eventTitle.isEmpty()) ? eventTitle : "");
 	}
 
 	@Override
@@ -1307,16 +1492,66 @@ public class JavaFXUI implements GameUI {
 			print("[画像: " + imageType + " - " + imagePath + "]");
 		}
 
-		// 実際に画像を表示
-		Platform.runLater(() -> {
-			if ("background".equals(imageType)) {
-				updateBackgroundImage(imagePath);
-			} else if ("sub".equals(imageType)) {
-				updateSubImage(imagePath);
-			} else if ("enemy".equals(imageType)) {
-				updateEnemyImage(imagePath);
+		// 実際に画像を表示（同じ枠への連続した更新は最後の1件だけ反映される）
+		output.push(UiOutputQueue.Kind.IMAGE, imageType, imagePath);
+	}
+
+	@Override
+	public void setPerformanceOverlayVisible(boolean visible) {
+		Platform.runLater(() -> perfOverlay.setVisible(visible));
+	}
+
+	@Override
+	public String exportPerformanceLog() {
+		java.nio.file.Path file = perfOverlay.exportCsv();
+		return file != null ? file.toString() : null;
+	}
+
+	@Override
+	public void prefetchImage(String imageType, String imagePath) {
+		if ("sub".equals(imageType)) {
+			imageManager.prefetch(imageType, imagePath, SUB_IMAGE_SIZE, SUB_IMAGE_SIZE);
+		} else {
+			imageManager.prefetch(imageType, imagePath, MAIN_IMAGE_WIDTH, MAIN_IMAGE_HEIGHT);
+		}
+	}
+
+	/** showImage の実体（FXスレッド上で呼ぶこと） */
+	private void showImageNow(String imageType, String imagePath) {
+		if ("background".equals(imageType)) {
+			updateBackgroundImage(imagePath);
+		} else if ("sub".equals(imageType)) {
+			updateSubImage(imagePath);
+		} else if ("enemy".equals(imageType)) {
+			updateEnemyImage(imagePath);
+		}
+	}
+
+	/**
+	 * 画像枠に、読み込みが終わった画像を反映する（FXスレッド上で呼ぶこと）
+	 * 読み込み済みならその場で反映する。デコード中なら完了後に反映するが、
+	 * その間に同じ枠へ新しい要求が来ていれば古い結果は捨てる
+	 * 
+	 * @param slot   画像枠の種類
+	 * @param future 読み込み中の画像（null なら画像を消す）
+	 * @param apply  反映処理（読み込み失敗時は null を受け取る）
+	 */
+	private void showImageWhenReady(String slot, java.util.concurrent.CompletableFuture<Image> future,
+			java.util.function.Consumer<Image> apply) {
+		int request = imageRequests.merge(slot, 1, Integer::sum);
+		if (future == null) {
+			apply.accept(null);
+			return;
+		}
+		if (future.isDone()) {
+			apply.accept(future.getNow(null));
+			return;
+		}
+		future.thenAccept(image -> Platform.runLater(() -> {
+			if (imageRequests.get(slot) == request) {
+				apply.accept(image);
 			}
-		});
+		}));
 	}
 
 	/**
@@ -1326,12 +1561,11 @@ public class JavaFXUI implements GameUI {
 	 */
 	public void updateBackgroundImage(String fileName) {
 		if (fileName == null || fileName.isEmpty()) {
-			eventImageView.setImage(null);
+			showImageWhenReady("background", null, image -> eventImageView.setImage(null));
 			return;
 		}
 
-		Platform.runLater(() -> {
-			Image bgImage = imageManager.loadBackground(fileName);
+		showImageWhenReady("background", imageManager.loadBackgroundAsync(fileName, MAIN_IMAGE_WIDTH, MAIN_IMAGE_HEIGHT), bgImage -> {
 			if (bgImage != null) {
 				eventImageView.setImage(bgImage);
 			} else {
@@ -1346,21 +1580,19 @@ public class JavaFXUI implements GameUI {
 	 * @param fileName 画像ファイル名
 	 */
 	public void updateSubImage(String fileName) {
+		if (subWindowImageView == null) {
+			return;
+		}
 		if (fileName == null || fileName.isEmpty()) {
-			if (subWindowImageView != null) {
-				subWindowImageView.setImage(null);
-			}
+			showImageWhenReady("sub", null, image -> subWindowImageView.setImage(null));
 			return;
 		}
 
-		Platform.runLater(() -> {
-			if (subWindowImageView != null) {
-				Image subImage = imageManager.loadSubImage(fileName);
-				if (subImage != null) {
-					subWindowImageView.setImage(subImage);
-				} else {
-					System.err.println("[JavaFXUI] サブ画像の読み込みに失敗: " + fileName);
-				}
+		showImageWhenReady("sub", imageManager.loadEventImageAsync(fileName, SUB_IMAGE_SIZE, SUB_IMAGE_SIZE), subImage -> {
+			if (subImage != null) {
+				subWindowImageView.setImage(subImage);
+			} else {
+				System.err.println("[JavaFXUI] サブ画像の読み込みに失敗: " + fileName);
 			}
 		});
 	}
@@ -1371,18 +1603,18 @@ public class JavaFXUI implements GameUI {
 	 * @param fileName 画像ファイル名
 	 */
 	public void updateEnemyImage(String fileName) {
+		if (enemyImageView == null) {
+			return;
+		}
 		if (fileName == null || fileName.isEmpty()) {
-			Platform.runLater(() -> {
-				if (enemyImageView != null) {
-					enemyImageView.setImage(null);
-					enemyImageView.setVisible(false);
-				}
+			showImageWhenReady("enemy", null, image -> {
+				enemyImageView.setImage(null);
+				enemyImageView.setVisible(false);
 			});
 			return;
 		}
 
-		Platform.runLater(() -> {
-			Image enemyImg = imageManager.loadEnemyImage(fileName);
+		showImageWhenReady("enemy", imageManager.loadEnemyImageAsync(fileName, MAIN_IMAGE_WIDTH, MAIN_IMAGE_HEIGHT), enemyImg -> {
 			if (enemyImg != null) {
 				enemyImageView.setImage(enemyImg);
 				enemyImageView.setVisible(true);
@@ -1395,10 +1627,7 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void printImportantLog(String message) {
-		Platform.runLater(() -> {
-			importantLogArea.appendText(message + "\n");
-			importantLogArea.setScrollTop(Double.MAX_VALUE);
-		});
+		output.push(UiOutputQueue.Kind.IMPORTANT, null, message);
 	}
 
 	/**
@@ -1423,10 +1652,17 @@ public class JavaFXUI implements GameUI {
 	 */
 	private void showConfigDialog() {
 		Platform.runLater(() -> {
-			ConfigDialog dialog = new ConfigDialog(stage, returnToMainMenuCallback);
+			// タイトルに戻る・中断するときは、待機中のゲームスレッドを取り消して終わらせる
+			ConfigDialog dialog = new ConfigDialog(stage, () -> {
+				cancelSession();
+				if (returnToMainMenuCallback != null) {
+					returnToMainMenuCallback.run();
+				}
+			});
 			// 中断コールバックを設定（プレイヤーが存在する場合のみ＝ゲーム開始後のみ）
-			if (currentPlayer != null) {
-				dialog.setOnSuspendGame(onSuspendGameCallback);
+			if (currentPlayer != null && onSuspendGameCallback != null) {
+				// 状態の保存は、ゲームスレッドが入力待ちから抜けるところで行う
+				dialog.setOnSuspendGame(() -> suspendSession(onSuspendGameCallback));
 			} else {
 				dialog.setOnSuspendGame(null);
 			}
@@ -1498,7 +1734,7 @@ public class JavaFXUI implements GameUI {
 					},
 					() -> {
 						// 装備変更時の処理: UIのステータス情報などを更新する
-						printPlayerStatus(currentPlayer);
+						refreshStatusFromPanel(currentPlayer);
 					});
 
 			subWindowBox.getChildren().clear();
@@ -1508,7 +1744,7 @@ public class JavaFXUI implements GameUI {
 
 	/**
 	 * ドロップした装備品の割り当てUIを開く。
-	 * ゲームスレッドを CountDownLatch でブロックし、プレイヤーが「決定して閉じる」を押すまで待機する。
+	 * プレイヤーが「決定して閉じる」を押すまでゲームスレッドを待機させる。
 	 * 未配置の場合はテキストエリアで「置いていきますか？」を問い、「いいえ」なら再度パネルを開く。
 	 *
 	 * @param item   入手した装備アイテム
@@ -1516,36 +1752,33 @@ public class JavaFXUI implements GameUI {
 	 */
 	public void showDropEquipmentPanel(com.kh.tbrr.data.models.Item item, Player player) {
 		while (true) {
-			CountDownLatch latch = new CountDownLatch(1);
+			CompletableFuture<Void> closed = new CompletableFuture<>();
 			DropEquipmentPanel[] panelHolder = new DropEquipmentPanel[1];
 
-			Platform.runLater(() -> {
+			output.run(() -> {
 				DropEquipmentPanel panel = new DropEquipmentPanel(
 						player,
 						item,
 						() -> {
-							// 「決定して閉じる」押下時：サブウィンドウを元に戻してラッチ解放
+							// 「決定して閉じる」押下時：サブウィンドウを元に戻して待機を解除
+							// （ステータスの更新は待機が解けたゲームスレッドで行う）
 							subWindowBox.getChildren().clear();
 							subWindowBox.getChildren().add(subWindowImageView);
-							printPlayerStatus(player);
-							latch.countDown();
+							closed.complete(null);
 						});
 				panelHolder[0] = panel;
 				subWindowBox.getChildren().clear();
 				subWindowBox.getChildren().add(panel);
 			});
 
-			try {
-				latch.await();
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				return;
-			}
+			await(closed);
+
+			// パネルでの変更をステータス欄に反映する
+			printPlayerStatus(player);
 
 			// 配置済みなら終了
 			DropEquipmentPanel panel = panelHolder[0];
 			if (panel != null && panel.isPendingPlaced()) {
-				printPlayerStatus(player);
 				return;
 			}
 
@@ -1569,13 +1802,15 @@ public class JavaFXUI implements GameUI {
 	 * BattleManager から setBattleMode(true) の直後に呼ぶ。
 	 */
 	public void showBattlePanel() {
-		battlePanelController = new BattlePanelController();
-		Platform.runLater(() -> {
+		BattlePanelController controller = new BattlePanelController(output::run);
+		controller.setFleeAvailabilityHandler(this::applyFleeAvailability);
+		battlePanelController = controller;
+		output.run(() -> {
 			if (subWindowBox != null) {
-				javafx.scene.layout.VBox panel = battlePanelController.createPanel();
+				javafx.scene.layout.VBox panel = controller.createPanel();
 				subWindowBox.getChildren().clear();
 				subWindowBox.getChildren().add(panel);
-				battlePanelController.clearLog();
+				controller.clearLog();
 			}
 		});
 	}
@@ -1585,7 +1820,7 @@ public class JavaFXUI implements GameUI {
 	 * BattleManager から setBattleMode(false) の直後に呼ぶ。
 	 */
 	public void hideBattlePanel() {
-		Platform.runLater(() -> {
+		output.run(() -> {
 			if (subWindowBox != null) {
 				subWindowBox.getChildren().clear();
 				subWindowBox.getChildren().add(subWindowImageView);
@@ -1597,24 +1832,16 @@ public class JavaFXUI implements GameUI {
 	/**
 	 * 戦闘パネルの全情報を一括更新する。
 	 * ターン開始時（コマンド入力前）に BattleManager から呼ぶ。
+	 * スナップショットはゲームスレッドで作っておき、描画は次のパルスで差分だけ行う。
+	 * 逃走可否もこのスナップショットに含めて反映する。
 	 *
-	 * @param turn        現在のターン数
-	 * @param distance    現在の距離（0〜4）
-	 * @param player      プレイヤーデータ
-	 * @param enemy       敵データ
-	 * @param playerConds プレイヤーの戦闘状態リスト
-	 * @param enemyConds  敵の戦闘状態リスト
+	 * @param model ターン開始時点の表示内容
 	 */
-	public void updateBattlePanel(int turn, int distance,
-			Player player, EnemyData enemy,
-			List<BattleState.ActiveCombatCondition> playerConds,
-			List<BattleState.ActiveCombatCondition> enemyConds) {
-		if (battlePanelController == null)
+	public void updateBattlePanel(BattleViewModel model) {
+		BattlePanelController controller = battlePanelController;
+		if (controller == null)
 			return;
-		battlePanelController.updateHeader(turn, distance);
-		battlePanelController.updatePlayerStatus(player, playerConds);
-		battlePanelController.updateEnemyStatus(enemy, enemyConds);
-		battlePanelController.updateDistanceMap(distance);
+		controller.publish(model);
 	}
 
 	/**
@@ -1629,17 +1856,29 @@ public class JavaFXUI implements GameUI {
 		battlePanelController.appendLog(message);
 	}
 
+	/**
+	 * 戦闘イベントログの購読口。BattleManager がターンごとに publish した範囲を受け取り、
+	 * 戦闘パネルのログへ一括で反映する。
+	 */
+	public void onBattleEvents(com.kh.tbrr.battle.BattleEventLog log, long fromSeq, long toSeq) {
+		BattlePanelController controller = battlePanelController;
+		if (controller == null)
+			return;
+		controller.appendEvents(log, fromSeq, toSeq);
+	}
+
 	@Override
 	public void close() {
 		// 入力待機中のスレッドを解放
-		if (inputLatch != null) {
-			inputLatch.countDown();
+		CompletableFuture<String> pending = pendingInput;
+		if (pending != null) {
+			pendingInput = null;
+			pending.complete("");
 		}
 
 		// ステージを閉じる
-		Platform.runLater(() -> {
-			stage.close();
-		});
+		releaseScreen();
+		Platform.runLater(() -> stage.close());
 	}
 
 	// ========== インタラクション（ミニゲーム）用メソッド ==========
@@ -1658,7 +1897,7 @@ public class JavaFXUI implements GameUI {
 
 	@Override
 	public void updateAvailableStances(List<String> stanceNames) {
-		Platform.runLater(() -> {
+		output.run(() -> {
 			if (stanceComboBox != null) {
 				stanceComboBox.getItems().clear();
 				stanceComboBox.getItems().add("なし");
@@ -1677,19 +1916,7 @@ public class JavaFXUI implements GameUI {
 			// すでにFXスレッド上なら直接実行
 			applyFleeAvailability(canFlee);
 		} else {
-			java.util.concurrent.CountDownLatch latch = new java.util.concurrent.CountDownLatch(1);
-			Platform.runLater(() -> {
-				try {
-					applyFleeAvailability(canFlee);
-				} finally {
-					latch.countDown();
-				}
-			});
-			try {
-				latch.await();
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
+			await(CompletableFuture.runAsync(() -> applyFleeAvailability(canFlee), output::run));
 		}
 	}
 
@@ -1746,7 +1973,7 @@ public class JavaFXUI implements GameUI {
 	 * サブウィンドウを通常の画像表示モードに戻す
 	 */
 	public void restoreSubWindowToNormal() {
-		Platform.runLater(() -> {
+		output.run(() -> {
 			if (subWindowBox != null) {
 				subWindowBox.getChildren().clear();
 				subWindowBox.getChildren().add(subWindowImageView);
@@ -1754,42 +1981,6 @@ public class JavaFXUI implements GameUI {
 		});
 	}
 
-	/**
-	 * TextAreaのテキスト部分のクリックイベントを消費し、
-	 * キャレット移動による意図しないスクロールを防止します。
-	 */
-	private void disableTextClickSelection(TextArea textArea) {
-		// マウス操作（クリック、ドラッグ等）を完全に無効化する共通フィルター
-		javafx.event.EventHandler<javafx.scene.input.MouseEvent> filter = event -> {
-			javafx.scene.Node target = (javafx.scene.Node) event.getTarget();
-			boolean isScrollBar = false;
-			while (target != null) {
-				if (target instanceof javafx.scene.control.ScrollBar) {
-					isScrollBar = true;
-					break;
-				}
-				target = target.getParent();
-			}
-			if (!isScrollBar) {
-				// スクロールバー以外のマウス操作イベントを完全に握りつぶす
-				event.consume();
-				// 押し込んだ瞬間だけ、入力フィールドにフォーカスを戻す
-				if (event.getEventType() == javafx.scene.input.MouseEvent.MOUSE_PRESSED) {
-					if (inputField != null) {
-						inputField.requestFocus();
-					}
-				}
-			}
-		};
-
-		// 以前は PRESSED だけを無効化していたため、ダブルクリック時の DRAGGED や CLICKED がすり抜けてバグを起こしていました。
-		// 関連する全てのマウスイベントを遮断することで、完全に封殺します。
-		textArea.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_PRESSED, filter);
-		textArea.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_RELEASED, filter);
-		textArea.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_CLICKED, filter);
-		textArea.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_DRAGGED, filter);
-	}
-
 	/**
 	 * 引継ぎ選択画面を表示する（JavaFX版の実装）。
 	 * ゲームスレッドから呼び出され、CarryoverScreen を起動して
@@ -1802,25 +1993,17 @@ public class JavaFXUI implements GameUI {
 	public void requestCarryoverSelection(Player player, Runnable onComplete) {
 		CarryoverScreen carryoverScreen = new CarryoverScreen(stage);
 		
-		// 1. 引継ぎ画面を開き、プレイヤーが選択して確定するまで待機（内部でlatch.awaitしている）
-		carryoverScreen.requestCarryover(player, null);
+		// 1. 引継ぎ画面を開き、プレイヤーが選択して確定する（結果の反映まで）まで待機
+		await(carryoverScreen.requestCarryoverAsync(player));
 
 		// 2. 選択が終わったら、元のゲーム画面（gameScene）に戻す
-		java.util.concurrent.CountDownLatch sceneLatch = new java.util.concurrent.CountDownLatch(1);
-		Platform.runLater(() -> {
+		// 3. 画面の復帰が完了するまでゲームスレッドを待機させる
+		await(CompletableFuture.runAsync(() -> {
 			if (gameScene != null) {
 				stage.setScene(gameScene);
 				stage.setTitle("T.B.R.R.");
 			}
-			sceneLatch.countDown();
-		});
-
-		// 3. 画面の復帰が完了するまでゲームスレッドを待機させる
-		try {
-			sceneLatch.await();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-		}
+		}, Platform::runLater));
 
 		// 4. 画面が完全にゲーム画面に戻った状態で、コールバック（waitForEnter等）を実行する
 		if (onComplete != null) {
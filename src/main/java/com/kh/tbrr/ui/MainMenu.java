@@ -140,6 +140,8 @@ public class MainMenu {
 			return;
 		}
 
+		com.kh.tbrr.manager.CharacterLibrary.markPlayed(selectedCharFile);
+
 		ui.print("");
 		ui.print("✅ " + player.getName() + " を選択しました。");
 		ui.print("");
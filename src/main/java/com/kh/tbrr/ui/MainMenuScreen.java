@@ -1,27 +1,35 @@
 package com.kh.tbrr.ui;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
 import com.kh.tbrr.core.GameEngine;
 import com.kh.tbrr.data.models.Player;
 import com.kh.tbrr.data.models.Scenario;
+import com.kh.tbrr.manager.CharacterLibrary;
 import com.kh.tbrr.manager.DataManager;
 import com.kh.tbrr.system.CharacterLoader;
 import com.kh.tbrr.system.DeveloperMode;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
-import javafx.scene.control.ChoiceDialog;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
@@ -37,6 +45,10 @@ public class MainMenuScreen {
 	private JavaFXUI gameUI;
 	private com.kh.tbrr.manager.ImageManager imageManager; // 画像管理用
 
+	// 一度組み立てたシーン（再表示のときは「続きから」の表示だけを更新する）
+	private Scene scene;
+	private Button continueButton;
+
 	public MainMenuScreen(Stage stage) {
 		this.stage = stage;
 		this.imageManager = new com.kh.tbrr.manager.ImageManager();
@@ -46,8 +58,30 @@ public class MainMenuScreen {
 	 * メインメニューを表示
 	 */
 	public void show() {
+		// 前回のプレイで固定していた立ち絵の表情差分を解放する
+		imageManager.releasePortraitExpressions();
+
+		if (scene == null) {
+			scene = buildScene();
+		}
+
+		// ★追加: 中断データがある場合は「続きから」ボタンを表示
+		boolean hasSuspendData = com.kh.tbrr.manager.SaveManager.hasSuspendData();
+		continueButton.setVisible(hasSuspendData);
+		continueButton.setManaged(hasSuspendData);
+
+		stage.setScene(scene);
+		stage.setTitle("TBRR - Main Menu");
+		stage.setResizable(false); // ウィンドウサイズを固定
+		stage.show();
+	}
+
+	/**
+	 * メインメニューのシーンを組み立てる（最初の表示で1回だけ）
+	 */
+	private Scene buildScene() {
 		// 背景画像を読み込み
-		Image backgroundImage = imageManager.loadBackground("mainmenu.png");
+		Image backgroundImage = imageManager.loadBackground("mainmenu.png", 1600, 900);
 		ImageView backgroundView = new ImageView(backgroundImage);
 		backgroundView.setFitWidth(1600);
 		backgroundView.setFitHeight(900);
@@ -59,31 +93,29 @@ public class MainMenuScreen {
 		buttonBox.setAlignment(Pos.BOTTOM_RIGHT);
 
 		// メニューボタン
-		// ★追加: 中断データがある場合は「続きから」ボタンを表示
-		if (com.kh.tbrr.manager.SaveManager.hasSuspendData()) {
-			Button continueButton = createMenuButton("続きから");
+		// 「続きから」は中断データがあるときだけ表示する（show で切り替える）
+		continueButton = createMenuButton("続きから");
+		continueButton.setStyle(
+				"-fx-background-color: #446644; " + // 緑色っぽくして目立たせる
+						"-fx-text-fill: white; " +
+						"-fx-border-color: #668866; " +
+						"-fx-border-width: 2px;");
+		continueButton.setOnMouseEntered(e -> {
+			continueButton.setStyle(
+					"-fx-background-color: #557755; " +
+							"-fx-text-fill: white; " +
+							"-fx-border-color: #88aa88; " +
+							"-fx-border-width: 2px;");
+		});
+		continueButton.setOnMouseExited(e -> {
 			continueButton.setStyle(
-					"-fx-background-color: #446644; " + // 緑色っぽくして目立たせる
+					"-fx-background-color: #446644; " +
 							"-fx-text-fill: white; " +
 							"-fx-border-color: #668866; " +
 							"-fx-border-width: 2px;");
-			continueButton.setOnMouseEntered(e -> {
-				continueButton.setStyle(
-						"-fx-background-color: #557755; " +
-								"-fx-text-fill: white; " +
-								"-fx-border-color: #88aa88; " +
-								"-fx-border-width: 2px;");
-			});
-			continueButton.setOnMouseExited(e -> {
-				continueButton.setStyle(
-						"-fx-background-color: #446644; " +
-								"-fx-text-fill: white; " +
-								"-fx-border-color: #668866; " +
-								"-fx-border-width: 2px;");
-			});
-			continueButton.setOnAction(e -> onContinueGame());
-			buttonBox.getChildren().add(continueButton);
-		}
+		});
+		continueButton.setOnAction(e -> onContinueGame());
+		buttonBox.getChildren().add(continueButton);
 
 		Button selectCharButton = createMenuButton("キャラクターの選択");
 		Button createCharButton = createMenuButton("キャラクターの作成");
@@ -113,11 +145,7 @@ public class MainMenuScreen {
 		StackPane root = new StackPane();
 		root.getChildren().addAll(backgroundView, buttonBox);
 
-		Scene scene = new Scene(root, 1600, 900);
-		stage.setScene(scene);
-		stage.setTitle("TBRR - Main Menu");
-		stage.setResizable(false); // ウィンドウサイズを固定
-		stage.show();
+		return new Scene(root, 1600, 900);
 	}
 
 	/**
@@ -159,11 +187,10 @@ public class MainMenuScreen {
 	 */
 	private void onCreateCharacter() {
 		try {
-			// PersonalityManagerを初期化（引数なし）
-			com.kh.tbrr.manager.PersonalityManager personalityManager = new com.kh.tbrr.manager.PersonalityManager();
-
-			// キャラクター制作画面を表示
-			CharacterCreationScreen creationScreen = new CharacterCreationScreen(stage, personalityManager);
+			// キャラクター制作画面を表示（初回だけPersonalityManagerを初期化して画面を作る）
+			CharacterCreationScreen creationScreen = ScreenRegistry.of(stage)
+					.get(CharacterCreationScreen.class, () -> new CharacterCreationScreen(stage,
+							new com.kh.tbrr.manager.PersonalityManager()));
 			creationScreen.show(() -> {
 				// 作成完了後、メインメニューに戻る
 				show();
@@ -186,7 +213,7 @@ public class MainMenuScreen {
 	 * マニュアル
 	 */
 	private void onManual() {
-		ManualScreen manualScreen = new ManualScreen(stage);
+		ManualScreen manualScreen = ScreenRegistry.of(stage).get(ManualScreen.class, () -> new ManualScreen(stage));
 		manualScreen.show(() -> show());
 	}
 
@@ -194,7 +221,7 @@ public class MainMenuScreen {
 	 * 実績・冒険の記録
 	 */
 	private void onAchievements() {
-		RecordsScreen recordsScreen = new RecordsScreen(stage);
+		RecordsScreen recordsScreen = ScreenRegistry.of(stage).get(RecordsScreen.class, () -> new RecordsScreen(stage));
 		recordsScreen.show(() -> show());
 	}
 
@@ -226,35 +253,102 @@ public class MainMenuScreen {
 	 * キャラクター選択画面を表示
 	 */
 	private void showCharacterSelection() {
-		// 保存されたキャラクターファイルを取得
+		// 保存されたキャラクターの要約を取得（キャラクターJSONは変わったものだけ読み直される）
 		File saveDir = new File("userdata/character");
 		if (!saveDir.exists() || !saveDir.isDirectory()) {
 			showAlert("エラー", "キャラクターフォルダが見つかりません。\n\n「キャラクターの作成」からキャラクターを作成してください。\n（フォルダは自動的に作成されます）");
 			return;
 		}
 
-		File[] files = saveDir.listFiles((dir, name) -> name.endsWith(".json"));
-		if (files == null || files.length == 0) {
+		List<CharacterLibrary.Summary> characters = CharacterLibrary.list();
+		if (characters.isEmpty()) {
 			showAlert("エラー", "保存されたキャラクターが見つかりません。\n\nまずはキャラクターを作成してください。");
 			return;
 		}
+		// 立ち絵のサムネイルは裏で縮小デコードしておく
+		CharacterLibrary.prefetchThumbnails(characters);
 
-		// キャラクターリストを表示
-		List<String> characterNames = new ArrayList<>();
-		for (File file : files) {
-			characterNames.add(file.getName().replace(".json", ""));
-		}
+		// キャラクターリストを表示（最近プレイした順）
+		ListView<CharacterLibrary.Summary> listView = new ListView<>(FXCollections.observableArrayList(characters));
+		listView.setCellFactory(v -> new CharacterCell());
+		listView.setPrefSize(520, 480);
+		listView.getSelectionModel().selectFirst();
 
-		ChoiceDialog<String> dialog = new ChoiceDialog<>(characterNames.get(0), characterNames);
+		Dialog<CharacterLibrary.Summary> dialog = new Dialog<>();
 		dialog.setTitle("キャラクター選択");
 		dialog.setHeaderText("使用するキャラクターを選択してください");
-		dialog.setContentText("キャラクター:");
+		dialog.getDialogPane().setContent(listView);
+		dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+		dialog.setResultConverter(button -> button == ButtonType.OK
+				? listView.getSelectionModel().getSelectedItem()
+				: null);
+		// ダブルクリックでも決定
+		listView.setOnMouseClicked(e -> {
+			if (e.getClickCount() == 2 && listView.getSelectionModel().getSelectedItem() != null) {
+				dialog.setResult(listView.getSelectionModel().getSelectedItem());
+				dialog.close();
+			}
+		});
 
-		dialog.showAndWait().ifPresent(selectedName -> {
-			startGameWithCharacter(selectedName);
+		dialog.showAndWait().ifPresent(selected -> {
+			startGameWithCharacter(selected.fileName());
 		});
 	}
 
+	/**
+	 * キャラクター選択リストの1行（サムネイル・名前・種族/職・グレード・最終プレイ日時）
+	 * サムネイルは読み込みが終わったときに、その行がまだ同じキャラクターを表示していれば差し込む
+	 */
+	private static class CharacterCell extends ListCell<CharacterLibrary.Summary> {
+		private static final DateTimeFormatter PLAYED_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm")
+				.withZone(ZoneId.systemDefault());
+
+		private final ImageView thumbnailView = new ImageView();
+		private final Label nameLabel = new Label();
+		private final Label detailLabel = new Label();
+		private final HBox box;
+
+		CharacterCell() {
+			thumbnailView.setFitWidth(CharacterLibrary.THUMBNAIL_WIDTH);
+			thumbnailView.setFitHeight(CharacterLibrary.THUMBNAIL_HEIGHT);
+			thumbnailView.setPreserveRatio(true);
+			StackPane thumbnailBox = new StackPane(thumbnailView);
+			thumbnailBox.setMinSize(CharacterLibrary.THUMBNAIL_WIDTH, CharacterLibrary.THUMBNAIL_HEIGHT);
+			nameLabel.setFont(Font.font("Arial", 16));
+			detailLabel.setStyle("-fx-text-fill: #666666;");
+			VBox text = new VBox(4, nameLabel, detailLabel);
+			text.setAlignment(Pos.CENTER_LEFT);
+			box = new HBox(12, thumbnailBox, text);
+			box.setAlignment(Pos.CENTER_LEFT);
+		}
+
+		@Override
+		protected void updateItem(CharacterLibrary.Summary item, boolean empty) {
+			super.updateItem(item, empty);
+			thumbnailView.setImage(null);
+			if (empty || item == null) {
+				setGraphic(null);
+				return;
+			}
+			nameLabel.setText(item.displayName());
+			StringBuilder detail = new StringBuilder();
+			detail.append(item.raceName() != null ? item.raceName() : "？").append(" / ")
+					.append(item.job() != null ? item.job() : "？")
+					.append(" / グレード ").append(item.grade());
+			if (item.lastPlayed() > 0) {
+				detail.append("\n最終プレイ: ").append(PLAYED_FORMAT.format(Instant.ofEpochMilli(item.lastPlayed())));
+			}
+			detailLabel.setText(detail.toString());
+			setGraphic(box);
+
+			CharacterLibrary.thumbnail(item).thenAccept(image -> Platform.runLater(() -> {
+				if (image != null && item.equals(getItem())) {
+					thumbnailView.setImage(image);
+				}
+			}));
+		}
+	}
+
 	/**
 	 * 選択したキャラクターでゲームを開始
 	 */
@@ -269,6 +363,7 @@ public class MainMenuScreen {
 				showAlert("エラー", "キャラクター情報の読み込みに失敗しました。");
 				return;
 			}
+			CharacterLibrary.markPlayed(filename);
 
 			// ゲーム画面を初期化してシナリオ選択へ
 			initializeGameScreen(player);
@@ -283,9 +378,10 @@ public class MainMenuScreen {
 	 * ゲーム画面を初期化（選択したプレイヤーで）
 	 */
 	private void initializeGameScreen(Player player) {
-		// 別スレッドでゲームを実行（デーモンスレッドに設定）
-		Thread gameThread = new Thread(() -> {
+		// 別スレッド（仮想スレッド）でゲームを実行
+		Thread gameThread = GameEngine.newGameThread(() -> {
 			System.err.println("[DEBUG] Game thread started");
+			JavaFXUI sessionUI = null;
 			try {
 				// 正しい順序でマネージャー初期化
 				// 1. DeveloperModeを作成 (引数なし)
@@ -293,6 +389,7 @@ public class MainMenuScreen {
 
 				// 2. JavaFXUIを作成
 				gameUI = new JavaFXUI(stage, developerMode);
+				sessionUI = gameUI;
 
 				// メインメニューに戻るコールバックを設定
 				gameUI.setReturnToMainMenuCallback(() -> {
@@ -462,22 +559,20 @@ public class MainMenuScreen {
 
 				// ★重要: 中断コールバックをGameEngineを使って正しく設定（シナリオ選択完了後）
 				gameUI.setOnSuspendGameCallback(() -> {
-					try {
-						// エンジンから現在の状態を取得して保存
-						com.kh.tbrr.manager.SaveManager.saveSuspendData(engine.getGameState());
-
-						// メインメニューに戻る
-						Platform.runLater(() -> show());
-
-					} catch (Exception e) {
-						Platform.runLater(() -> {
-							Alert alert = new Alert(Alert.AlertType.ERROR);
-							alert.setTitle("エラー");
-							alert.setContentText("保存に失敗しました: " + e.getMessage());
-							alert.showAndWait();
-						});
-						e.printStackTrace();
-					}
+					// ゲームスレッドで呼ばれる（JavaFXUI.suspendSession）。エンジンから現在の状態を写し取り、
+					// 保存は裏で行う（書き終わったらメインメニューに戻る）
+					com.kh.tbrr.manager.SaveManager.saveSuspendDataAsync(engine.getGameState())
+							.whenComplete((v, e) -> Platform.runLater(() -> {
+								if (e != null) {
+									Alert alert = new Alert(Alert.AlertType.ERROR);
+									alert.setTitle("エラー");
+									alert.setContentText("保存に失敗しました: " + e.getMessage());
+									alert.showAndWait();
+									e.printStackTrace();
+								}
+								// メインメニューに戻る
+								show();
+							}));
 				});
 
 				// 9. ゲーム開始（プレイヤーは既に選択済み）
@@ -496,15 +591,21 @@ public class MainMenuScreen {
 					show();
 				});
 
+			} catch (java.util.concurrent.CancellationException e) {
+				// タイトルに戻る・中断でセッションが打ち切られた（メインメニューは呼び出し元が表示済み）
 			} catch (Exception e) {
 				Platform.runLater(() -> {
 					showAlert("エラー", "ゲームの実行中にエラーが発生しました: " + e.getMessage());
 				});
 				e.printStackTrace();
+			} finally {
+				// 入力待ちに入らずに終わった場合も、要求済みの中断の保存を行う
+				if (sessionUI != null) {
+					sessionUI.endSession();
+				}
 			}
 		});
-		gameThread.setDaemon(true); // デーモンスレッドに設定（メインスレッド終了時に自動終了）
-		gameThread.start();
+		gameThread.start(); // 仮想スレッドは常にデーモン（メインスレッド終了時に自動終了）
 	}
 
 	/**
@@ -542,14 +643,16 @@ public class MainMenuScreen {
 	 * ゲームを再開する（GameStateを指定して開始）
 	 */
 	private void resumeGame(com.kh.tbrr.core.GameState state, Player player) {
-		// 別スレッドでゲームを実行
-		Thread gameThread = new Thread(() -> {
+		// 別スレッド（仮想スレッド）でゲームを実行
+		Thread gameThread = GameEngine.newGameThread(() -> {
+			JavaFXUI sessionUI = null;
 			try {
 				// 1. DeveloperModeを作成
 				DeveloperMode developerMode = new DeveloperMode();
 
 				// 2. JavaFXUIを作成
 				gameUI = new JavaFXUI(stage, developerMode);
+				sessionUI = gameUI;
 
 				// メインメニューに戻るコールバックを設定
 				gameUI.setReturnToMainMenuCallback(() -> {
@@ -599,22 +702,20 @@ public class MainMenuScreen {
 
 				// ★重要: 中断コールバックをGameEngineを使って正しく設定
 				gameUI.setOnSuspendGameCallback(() -> {
-					try {
-						// エンジンから現在の状態を取得して保存
-						com.kh.tbrr.manager.SaveManager.saveSuspendData(engine.getGameState());
-
-						// メインメニューに戻る
-						Platform.runLater(() -> show());
-
-					} catch (Exception e) {
-						Platform.runLater(() -> {
-							Alert alert = new Alert(Alert.AlertType.ERROR);
-							alert.setTitle("エラー");
-							alert.setContentText("保存に失敗しました: " + e.getMessage());
-							alert.showAndWait();
-						});
-						e.printStackTrace();
-					}
+					// ゲームスレッドで呼ばれる（JavaFXUI.suspendSession）。エンジンから現在の状態を写し取り、
+					// 保存は裏で行う（書き終わったらメインメニューに戻る）
+					com.kh.tbrr.manager.SaveManager.saveSuspendDataAsync(engine.getGameState())
+							.whenComplete((v, e) -> Platform.runLater(() -> {
+								if (e != null) {
+									Alert alert = new Alert(Alert.AlertType.ERROR);
+									alert.setTitle("エラー");
+									alert.setContentText("保存に失敗しました: " + e.getMessage());
+									alert.showAndWait();
+									e.printStackTrace();
+								}
+								// メインメニューに戻る
+								show();
+							}));
 				});
 
 				// 7. プレイヤー情報を表示
@@ -649,14 +750,20 @@ public class MainMenuScreen {
 					show();
 				});
 
+			} catch (java.util.concurrent.CancellationException e) {
+				// タイトルに戻る・中断でセッションが打ち切られた（メインメニューは呼び出し元が表示済み）
 			} catch (Exception e) {
 				Platform.runLater(() -> {
 					showAlert("エラー", "ゲーム実行中にエラーが発生しました: " + e.getMessage());
 				});
 				e.printStackTrace();
+			} finally {
+				// 入力待ちに入らずに終わった場合も、要求済みの中断の保存を行う
+				if (sessionUI != null) {
+					sessionUI.endSession();
+				}
 			}
 		});
-		gameThread.setDaemon(true);
 		gameThread.start();
 	}
 
@@ -54,7 +54,12 @@ public class ManualScreen {
     private TextField searchField;
     private TreeView<ManualItem> treeView;
     private Label contentTitleLabel;
-    private WebView webView;
+    private VBox contentPane;
+    private WebView webView; // 最初に本文を表示するときに1回だけ作る
+
+    // 一度組み立てたシーン（再表示のときはそのまま使う）
+    private Scene scene;
+    private BorderPane root;
 
     // Data
     private TreeItem<ManualItem> rootNode;
@@ -74,8 +79,33 @@ public class ManualScreen {
     public void show(Runnable onBack) {
         this.onBack = onBack;
 
+        boolean firstTime = (scene == null);
+        if (firstTime) {
+            scene = buildScene();
+        } else {
+            // 前回の検索条件を消してツリーを元に戻す（目次と本文は読み込み済みのものを使う）
+            searchField.clear();
+        }
+
+        stage.setScene(scene);
+        stage.setTitle("T.B.R.R. ゲームマニュアル");
+        stage.show();
+
+        // 初回は最初の項目を開く（2回目以降は前回見ていた項目のまま）
+        if (firstTime && !rootNode.getChildren().isEmpty()) {
+            treeView.getSelectionModel().select(rootNode.getChildren().get(0));
+        }
+
+        // 検索バーにフォーカスがいかないように、ルートにフォーカスを当てる
+        root.requestFocus();
+    }
+
+    /**
+     * 画面のシーンを組み立て、目次を読み込む（最初の表示で1回だけ）
+     */
+    private Scene buildScene() {
         // メインレイアウト
-        BorderPane root = new BorderPane();
+        root = new BorderPane();
         root.setStyle("-fx-background-color: #333132;");
 
         // 左側：ナビゲーション（検索 + ツリー）
@@ -96,21 +126,10 @@ public class ManualScreen {
         VBox rightPane = createRightPane();
         root.setCenter(rightPane);
 
-        Scene scene = new Scene(root, 1600, 900);
-        stage.setScene(scene);
-        stage.setTitle("T.B.R.R. ゲームマニュアル");
-        stage.show();
-
         // データ初期化（JSONから読み込み）
         initData();
 
-        // 初期選択（最初の項目を開く）
-        if (!rootNode.getChildren().isEmpty()) {
-            treeView.getSelectionModel().select(rootNode.getChildren().get(0));
-        }
-
-        // 検索バーにフォーカスがいかないように、ルートにフォーカスを当てる
-        root.requestFocus();
+        return new Scene(root, 1600, 900);
     }
 
     /**
@@ -228,21 +247,31 @@ public class ManualScreen {
         // 区切り線
         Separator separator = new Separator(Orientation.HORIZONTAL);
 
-        // WebView (本文)
-        webView = new WebView();
-        // 背景色を統一（HTML側でも指定するが念のため）
-        webView.setPageFill(javafx.scene.paint.Color.web("#333132"));
-        // 右クリックメニューを無効化
-        webView.setContextMenuEnabled(false);
-        webView.setFocusTraversable(false);
-        
-        VBox.setVgrow(webView, Priority.ALWAYS);
-
-        pane.getChildren().addAll(contentTitleLabel, separator, webView);
+        // 本文の WebView は重いため、最初に本文を表示するときに作る（getWebView）
+        pane.getChildren().addAll(contentTitleLabel, separator);
+        contentPane = pane;
 
         return pane;
     }
 
+    /**
+     * 本文表示用の WebView を取得する（初回だけ作って右ペインに追加する。以後は同じものを使う）
+     */
+    private WebView getWebView() {
+        if (webView == null) {
+            webView = new WebView();
+            // 背景色を統一（HTML側でも指定するが念のため）
+            webView.setPageFill(javafx.scene.paint.Color.web("#333132"));
+            // 右クリックメニューを無効化
+            webView.setContextMenuEnabled(false);
+            webView.setFocusTraversable(false);
+
+            VBox.setVgrow(webView, Priority.ALWAYS);
+            contentPane.getChildren().add(webView);
+        }
+        return webView;
+    }
+
     private void updateContent(ManualItem item) {
         contentTitleLabel.setText(item.getTitle());
 
@@ -263,7 +292,7 @@ public class ManualScreen {
         String html = "<!DOCTYPE html><html lang=\"ja\"><head><meta charset=\"UTF-8\">" +
                 "<style>body { background-color: #333132; color: white; font-family: Arial, sans-serif; font-size: 18px; line-height: 1.6; white-space: pre-wrap; margin: 0; padding: 0; }</style>" +
                 "</head><body>" + text + "</body></html>";
-        webView.getEngine().loadContent(html);
+        getWebView().getEngine().loadContent(html);
     }
 
     private void loadHtmlContent(String filePath) {
@@ -297,7 +326,7 @@ public class ManualScreen {
             }
             matcher.appendTail(sb);
             
-            webView.getEngine().loadContent(sb.toString());
+            getWebView().getEngine().loadContent(sb.toString());
 
         } catch (Exception e) {
             System.err.println("[ManualScreen] HTML読み込みエラー: " + filePath + " - " + e.getMessage());
@@ -0,0 +1,404 @@
+package com.kh.tbrr.ui;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.collections.ObservableListBase;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TextField;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+
+/**
+ * 行単位のメッセージログ表示（メインのメッセージ欄・重要ログ欄で使う）。
+ *
+ * 以前の TextArea は全文を1つの文字列として持っていたため、長いプレイの後半ほど追記・スクロールが重くなっていた。
+ * ここでは行を上限付きのリングバッファに持ち、ListView で見えている行だけを描画する。
+ * 上限を超えて押し出された行は、履歴ファイルが指定されていればディスクへ書き出す。
+ * 書き出しは追記1回分ずつまとめて専用スレッドに渡し、FXスレッドではファイルを触らない。
+ *
+ * すべてのメソッドは JavaFX Application Thread から呼ぶこと。
+ */
+public final class MessageLogView {
+
+    private static final String HISTORY_DIR = "userdata/logs/messages";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    // 履歴ファイルの書き込み用のスレッド（1本なので、各ログの行は押し出した順に書かれる）
+    private static final ExecutorService historyIo = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "message-history");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final LineBuffer lines;
+    private final ListView<String> listView;
+    private final VBox root;
+
+    // ---- 検索バー ----
+    private final HBox searchBar;
+    private final TextField searchField;
+    private final Label searchStatus;
+
+    /** 押し出された行の書き出し先（null なら捨てる） */
+    private final String historyName;
+    /** まだ書き込みスレッドに渡していない行（FXスレッド専用） */
+    private final List<String> spilled = new ArrayList<>();
+    /** 履歴ファイル（message-history スレッド専用） */
+    private BufferedWriter historyWriter;
+
+    /**
+     * @param capacity    メモリに保持する最大行数
+     * @param font        表示フォント
+     * @param textColor   文字色（CSSの色指定）
+     * @param historyName 押し出した行を書き出す履歴ファイル名の接尾辞（null なら書き出さない）
+     */
+    public MessageLogView(int capacity, Font font, String textColor, String historyName) {
+        this.lines = new LineBuffer(capacity);
+        this.historyName = historyName;
+
+        listView = new ListView<>(lines);
+        listView.setFocusTraversable(false);
+        listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        listView.setStyle("-fx-background-color: #2b2b2b; -fx-control-inner-background: #2b2b2b;"
+                + " -fx-background-insets: 0; -fx-padding: 0;");
+        listView.setCellFactory(lv -> new LineCell(lv, font, textColor));
+        VBox.setVgrow(listView, Priority.ALWAYS);
+
+        searchField = new TextField();
+        searchField.setPromptText("ログを検索（Enterで次、Shift+Enterで前）");
+        searchField.setFont(Font.font("MS Gothic", 13));
+        HBox.setHgrow(searchField, Priority.ALWAYS);
+        searchField.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ENTER) {
+                find(searchField.getText(), !e.isShiftDown());
+                e.consume();
+            } else if (e.getCode() == KeyCode.ESCAPE) {
+                hideSearch();
+                e.consume();
+            }
+        });
+
+        Button prevButton = new Button("▲");
+        prevButton.setFocusTraversable(false);
+        prevButton.setOnAction(e -> find(searchField.getText(), false));
+        Button nextButton = new Button("▼");
+        nextButton.setFocusTraversable(false);
+        nextButton.setOnAction(e -> find(searchField.getText(), true));
+        Button copyButton = new Button("コピー");
+        copyButton.setFocusTraversable(false);
+        copyButton.setOnAction(e -> copySelection());
+        Button closeButton = new Button("×");
+        closeButton.setFocusTraversable(false);
+        closeButton.setOnAction(e -> hideSearch());
+
+        searchStatus = new Label();
+        searchStatus.setFont(Font.font("MS Gothic", 12));
+        searchStatus.setStyle("-fx-text-fill: #aaaaaa;");
+
+        searchBar = new HBox(4, searchField, prevButton, nextButton, searchStatus, copyButton, closeButton);
+        searchBar.setAlignment(Pos.CENTER_LEFT);
+        searchBar.setPadding(new Insets(2, 4, 2, 4));
+        searchBar.setStyle("-fx-background-color: #3a3a3a;");
+        searchBar.setVisible(false);
+        searchBar.setManaged(false);
+
+        root = new VBox(0, listView, searchBar);
+        VBox.setVgrow(root, Priority.ALWAYS);
+    }
+
+    /** 画面に配置するノード（ログ本体＋検索バー） */
+    public VBox getNode() {
+        return root;
+    }
+
+    /**
+     * テキストを追記する。改行を含む場合は行ごとに分けて追加する。
+     * 検索バーを開いている間は、読んでいる位置を動かさないよう自動スクロールしない。
+     */
+    public void append(String text) {
+        String s = String.valueOf(text);
+        int start = 0;
+        int nl;
+        while ((nl = s.indexOf('\n', start)) >= 0) {
+            push(s.substring(start, nl));
+            start = nl + 1;
+        }
+        push(s.substring(start));
+        writeHistory(false);
+        if (!searchBar.isVisible()) {
+            scrollToEnd();
+        }
+    }
+
+    /** 全行を消去する（消した行も履歴ファイルへ残す） */
+    public void clear() {
+        for (int i = 0; i < lines.size(); i++) {
+            spill(lines.get(i));
+        }
+        writeHistory(true);
+        lines.clear();
+    }
+
+    public void scrollToEnd() {
+        int size = lines.size();
+        if (size > 0) {
+            listView.scrollTo(size - 1);
+        }
+    }
+
+    private void push(String line) {
+        String evicted = lines.push(line);
+        if (evicted != null) {
+            spill(evicted);
+        }
+    }
+
+    // =============================================
+    // --- 検索・コピー ---
+    // =============================================
+
+    public void showSearch() {
+        searchBar.setVisible(true);
+        searchBar.setManaged(true);
+        searchField.requestFocus();
+        searchField.selectAll();
+    }
+
+    public void hideSearch() {
+        searchBar.setVisible(false);
+        searchBar.setManaged(false);
+        searchStatus.setText("");
+        listView.getSelectionModel().clearSelection();
+        scrollToEnd();
+    }
+
+    /**
+     * 選択中の行の次（または前）から、query を含む行を探して選択する。大文字小文字は区別しない。
+     *
+     * @return 見つかった行のインデックス（なければ -1）
+     */
+    public int find(String query, boolean forward) {
+        int size = lines.size();
+        if (query == null || query.isEmpty() || size == 0) {
+            searchStatus.setText("");
+            return -1;
+        }
+        String needle = query.toLowerCase();
+        int current = listView.getSelectionModel().getSelectedIndex();
+        int from = (current < 0) ? (forward ? 0 : size - 1) : current + (forward ? 1 : -1);
+        for (int n = 0; n < size; n++) {
+            int i = Math.floorMod(from + (forward ? n : -n), size);
+            String line = lines.get(i);
+            if (line.toLowerCase().contains(needle)) {
+                listView.getSelectionModel().clearAndSelect(i);
+                listView.scrollTo(Math.max(0, i - 2));
+                searchStatus.setText((i + 1) + " / " + size);
+                return i;
+            }
+        }
+        searchStatus.setText("見つかりません");
+        return -1;
+    }
+
+    /** 行が選択されているか */
+    public boolean hasSelection() {
+        return !listView.getSelectionModel().isEmpty();
+    }
+
+    /** 選択中の行（選択がなければ保持している全行）をクリップボードへコピーする */
+    public void copySelection() {
+        List<String> selected = listView.getSelectionModel().getSelectedItems();
+        StringBuilder sb = new StringBuilder();
+        if (selected.isEmpty()) {
+            for (int i = 0; i < lines.size(); i++) {
+                sb.append(lines.get(i)).append('\n');
+            }
+        } else {
+            for (String line : selected) {
+                sb.append(line).append('\n');
+            }
+        }
+        ClipboardContent content = new ClipboardContent();
+        content.putString(sb.toString());
+        Clipboard.getSystemClipboard().setContent(content);
+    }
+
+    // =============================================
+    // --- 履歴ファイル ---
+    // =============================================
+
+    private void spill(String line) {
+        if (historyName != null)
+            spilled.add(line);
+    }
+
+    /** 溜まった行を書き込みスレッドに渡す（flush なら書き込み後にファイルへ反映する） */
+    private void writeHistory(boolean flush) {
+        if (spilled.isEmpty() && !flush)
+            return;
+        List<String> batch = new ArrayList<>(spilled);
+        spilled.clear();
+        historyIo.execute(() -> writeLines(batch, flush));
+    }
+
+    /** 履歴ファイルへ書く（message-history スレッド） */
+    private void writeLines(List<String> batch, boolean flush) {
+        try {
+            if (historyWriter == null) {
+                if (batch.isEmpty())
+                    return;
+                Path dir = Paths.get(HISTORY_DIR);
+                Files.createDirectories(dir);
+                Path file = dir.resolve(LocalDateTime.now().format(FILE_TIME) + "_" + historyName + ".log");
+                historyWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            for (String line : batch) {
+                historyWriter.write(line);
+                historyWriter.newLine();
+            }
+            if (flush)
+                historyWriter.flush();
+        } catch (IOException e) {
+            System.err.println("[MessageLogView] 履歴の書き出しに失敗: " + e.getMessage());
+        }
+    }
+
+    /** 履歴ファイルを閉じる（ウィンドウを閉じるとき） */
+    public void close() {
+        if (historyName == null)
+            return;
+        List<String> batch = new ArrayList<>(spilled);
+        spilled.clear();
+        historyIo.execute(() -> {
+            writeLines(batch, false);
+            if (historyWriter == null)
+                return;
+            try {
+                historyWriter.close();
+            } catch (IOException e) {
+                // 閉じる際の失敗は無視
+            }
+            historyWriter = null;
+        });
+    }
+
+    // =============================================
+    // --- 内部クラス ---
+    // =============================================
+
+    /**
+     * 上限付きの行リングバッファ。ListView の items としてそのまま使える。
+     * 追加は O(1)。満杯のときは先頭（最古）の1行を押し出す。
+     */
+    static final class LineBuffer extends ObservableListBase<String> {
+        private final String[] ring;
+        private int head; // 最古の行の位置
+        private int size;
+
+        LineBuffer(int capacity) {
+            this.ring = new String[Math.max(1, capacity)];
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException(index);
+            return ring[(head + index) % ring.length];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 末尾に1行追加する。
+         * @return 押し出された最古の行（押し出しがなければ null）
+         */
+        String push(String line) {
+            String evicted = null;
+            beginChange();
+            try {
+                if (size == ring.length) {
+                    evicted = ring[head];
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                    size--;
+                    nextRemove(0, evicted);
+                }
+                ring[(head + size) % ring.length] = line;
+                size++;
+                nextAdd(size - 1, size);
+            } finally {
+                endChange();
+            }
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            if (size == 0)
+                return;
+            java.util.List<String> removed = new java.util.ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                removed.add(get(i));
+            }
+            beginChange();
+            try {
+                java.util.Arrays.fill(ring, null);
+                head = 0;
+                size = 0;
+                nextRemove(0, removed);
+            } finally {
+                endChange();
+            }
+        }
+    }
+
+    /** 折り返し表示する1行分のセル */
+    private static final class LineCell extends ListCell<String> {
+        LineCell(ListView<String> owner, Font font, String textColor) {
+            setWrapText(true);
+            setFont(font);
+            // 縦スクロールバーの分を除いた幅で折り返す
+            prefWidthProperty().bind(owner.widthProperty().subtract(20));
+            setMaxWidth(USE_PREF_SIZE);
+            setStyle("-fx-text-fill: " + textColor + "; -fx-background-color: transparent; -fx-padding: 0 4 0 4;");
+            selectedProperty().addListener((obs, was, now) -> setStyle("-fx-text-fill: " + textColor + ";"
+                    + " -fx-background-color: " + (now ? "#4a4a6a" : "transparent") + "; -fx-padding: 0 4 0 4;"));
+        }
+
+        @Override
+        protected void updateItem(String item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+            } else {
+                // 空行も1行分の高さを確保する
+                setText(item.isEmpty() ? " " : item);
+            }
+        }
+    }
+}
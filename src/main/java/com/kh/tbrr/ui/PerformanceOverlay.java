@@ -0,0 +1,277 @@
+package com.kh.tbrr.ui;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.text.Font;
+
+/**
+ * 開発者モード用の性能計測オーバーレイ。
+ *
+ * 長いプレイやミニゲーム中の引っかかりが FXスレッド・ゲームスレッド・GC のどれによるものかを切り分けるため、
+ * 次の値を一定間隔（250ms）ごとに記録し、画面左上に重ねて表示する。
+ * <ul>
+ * <li>フレーム時間：AnimationTimer のパルス間隔（平均・最大）</li>
+ * <li>runLater の滞留：計測用に積んだ Platform.runLater が実行されるまでの時間と、未実行の件数</li>
+ * <li>ヒープ使用量と GC：GarbageCollectorMXBean の回数・累積時間の前回からの増分</li>
+ * <li>直近の GameUI 出力の遅延：ゲームスレッドが出力を積んでから画面に反映されるまでの時間</li>
+ * </ul>
+ * 記録した値は CSV（userdata/logs/perf/）に書き出せる。
+ *
+ * 計測は表示中だけ行う（非表示の間はタイマーを止め、負荷をかけない）。
+ * setVisible などのノード操作は JavaFX Application Thread から呼ぶこと。exportCsv はどのスレッドからでもよい。
+ */
+public final class PerformanceOverlay {
+
+    private static final String LOG_DIR = "userdata/logs/perf";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final DateTimeFormatter ROW_TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    // 記録間隔（ナノ秒）
+    private static final long SAMPLE_INTERVAL_NANOS = 250_000_000L;
+    // 保持する記録の上限（250ms 間隔で約1時間分）
+    private static final int MAX_SAMPLES = 14_400;
+
+    /** 記録1件分 */
+    private record Sample(long epochMillis, int frames, double frameAvgMs, double frameMaxMs,
+            double runLaterLatencyMs, int runLaterPending, long heapUsed, long heapMax,
+            long gcCount, long gcTimeMs, String lastUiCall, double lastUiCallMs) {
+    }
+
+    // ---- 直近の GameUI 出力（どのスレッドからでも記録できる）----
+    private static volatile boolean recording = false;
+    private static volatile String lastUiCall = "-";
+    private static volatile long lastUiCallNanos = 0;
+
+    private final Label label;
+    private final AnimationTimer timer;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    // 記録（samples で同期する）
+    private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+
+    // ---- 集計中の値（FXスレッド専用）----
+    private long lastPulse = 0;
+    private long windowStart = 0;
+    private int frames = 0;
+    private long frameSumNanos = 0;
+    private long frameMaxNanos = 0;
+    private int probesPending = 0;
+    private long probeLatencyNanos = 0;
+    private long prevGcCount = -1;
+    private long prevGcTimeMs = 0;
+
+    public PerformanceOverlay() {
+        label = new Label();
+        label.setFont(Font.font("MS Gothic", 12));
+        label.setStyle("-fx-text-fill: #7CFC00; -fx-background-color: rgba(0,0,0,0.7);");
+        label.setPadding(new Insets(4, 8, 4, 8));
+        label.setMouseTransparent(true);
+        label.setFocusTraversable(false);
+        label.setVisible(false);
+        label.setManaged(false);
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
+    }
+
+    /** シーンに重ねるノード（StackPane の左上に置く想定） */
+    public Label getNode() {
+        return label;
+    }
+
+    public boolean isVisible() {
+        return label.isVisible();
+    }
+
+    /** 表示・計測を切り替える（FXスレッド） */
+    public void setVisible(boolean visible) {
+        if (visible == label.isVisible()) {
+            return;
+        }
+        label.setVisible(visible);
+        label.setManaged(visible);
+        recording = visible;
+        if (visible) {
+            lastPulse = 0;
+            windowStart = 0;
+            resetWindow();
+            prevGcCount = -1;
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    /** 計測を止める（ウィンドウを閉じるとき） */
+    public void stop() {
+        timer.stop();
+        recording = false;
+    }
+
+    /**
+     * GameUI 呼び出しの遅延を記録する（計測中でなければ何もしない）
+     *
+     * @param name  呼び出しの種類
+     * @param nanos 遅延（ナノ秒）
+     */
+    static void recordUiCall(String name, long nanos) {
+        if (!recording) {
+            return;
+        }
+        lastUiCall = name;
+        lastUiCallNanos = nanos;
+    }
+
+    /** 計測中かどうか（記録側で時刻を取る手間を省くため） */
+    static boolean isRecording() {
+        return recording;
+    }
+
+    // =============================================
+    // --- 計測 ---
+    // =============================================
+
+    private void onPulse(long now) {
+        if (lastPulse != 0) {
+            long dt = now - lastPulse;
+            frames++;
+            frameSumNanos += dt;
+            frameMaxNanos = Math.max(frameMaxNanos, dt);
+        }
+        lastPulse = now;
+        if (windowStart == 0) {
+            windowStart = now;
+            return;
+        }
+        if (now - windowStart < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+        windowStart = now;
+
+        // runLater の滞留を測るための印を積む（実行されるまでの時間が、その時点のキューの混み具合）
+        long posted = System.nanoTime();
+        probesPending++;
+        Platform.runLater(() -> {
+            probesPending--;
+            probeLatencyNanos = System.nanoTime() - posted;
+        });
+
+        Sample sample = takeSample();
+        synchronized (samples) {
+            if (samples.size() == MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+            samples.addLast(sample);
+        }
+        label.setText(format(sample));
+        resetWindow();
+    }
+
+    private Sample takeSample() {
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTimeMs += Math.max(0, gc.getCollectionTime());
+        }
+        long gcCountDelta = (prevGcCount < 0) ? 0 : gcCount - prevGcCount;
+        long gcTimeDelta = (prevGcCount < 0) ? 0 : gcTimeMs - prevGcTimeMs;
+        prevGcCount = gcCount;
+        prevGcTimeMs = gcTimeMs;
+
+        double avg = frames > 0 ? frameSumNanos / (double) frames / 1e6 : 0;
+        return new Sample(System.currentTimeMillis(), frames, avg, frameMaxNanos / 1e6,
+                probeLatencyNanos / 1e6, probesPending, heap.getUsed(), heap.getMax(),
+                gcCountDelta, gcTimeDelta, lastUiCall, lastUiCallNanos / 1e6);
+    }
+
+    private void resetWindow() {
+        frames = 0;
+        frameSumNanos = 0;
+        frameMaxNanos = 0;
+    }
+
+    private static String format(Sample s) {
+        return String.format(Locale.ROOT,
+                "frame  avg %.1fms / max %.1fms (%d)%n"
+                        + "runLater  %.1fms / 未実行 %d%n"
+                        + "heap  %dMB / %dMB%n"
+                        + "GC  +%d回 / +%dms%n"
+                        + "UI  %s %.1fms",
+                s.frameAvgMs(), s.frameMaxMs(), s.frames(),
+                s.runLaterLatencyMs(), s.runLaterPending(),
+                s.heapUsed() >> 20, s.heapMax() >> 20,
+                s.gcCount(), s.gcTimeMs(),
+                s.lastUiCall(), s.lastUiCallMs());
+    }
+
+    // =============================================
+    // --- CSV 書き出し ---
+    // =============================================
+
+    /**
+     * これまでの記録を CSV に書き出す
+     *
+     * @return 書き出したファイル。記録がない場合・失敗した場合は null
+     */
+    public Path exportCsv() {
+        List<Sample> copy;
+        synchronized (samples) {
+            copy = new ArrayList<>(samples);
+        }
+        if (copy.isEmpty()) {
+            return null;
+        }
+        try {
+            Path dir = Paths.get(LOG_DIR);
+            Files.createDirectories(dir);
+            Path file = dir.resolve(LocalDateTime.now().format(FILE_TIME) + "_perf.csv");
+            try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                w.write("time,frames,frame_avg_ms,frame_max_ms,runlater_latency_ms,runlater_pending,"
+                        + "heap_used_mb,heap_max_mb,gc_count,gc_time_ms,last_ui_call,last_ui_call_ms");
+                w.newLine();
+                for (Sample s : copy) {
+                    String time = LocalDateTime.ofInstant(Instant.ofEpochMilli(s.epochMillis()), ZoneId.systemDefault())
+                            .format(ROW_TIME);
+                    w.write(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%d,%.1f,%.1f,%d,%d,%s,%.3f",
+                            time, s.frames(), s.frameAvgMs(), s.frameMaxMs(),
+                            s.runLaterLatencyMs(), s.runLaterPending(),
+                            s.heapUsed() / 1048576.0, s.heapMax() / 1048576.0,
+                            s.gcCount(), s.gcTimeMs(), s.lastUiCall(), s.lastUiCallMs()));
+                    w.newLine();
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            System.err.println("[PerformanceOverlay] CSVの書き出しに失敗: " + e.getMessage());
+            return null;
+        }
+    }
+}
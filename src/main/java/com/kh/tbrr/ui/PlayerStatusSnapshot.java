@@ -0,0 +1,100 @@
+package com.kh.tbrr.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kh.tbrr.data.ItemRegistry;
+import com.kh.tbrr.data.models.Item;
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * 右パネルのステータス欄に表示する内容の不変スナップショット。
+ * ゲームスレッドで Player から作り、FXスレッドはこれだけを読む（可変の Player を FXスレッドから触らない）。
+ *
+ * アイコン欄の各要素はキー付きで持ち、前回表示との差分（追加・削除）だけをノードに反映できるようにする。
+ */
+final class PlayerStatusSnapshot {
+
+    /**
+     * アイコン欄の1要素。
+     * key は欄の中で一意（同じアイテムを複数持つ場合は出現順の番号を付ける）。
+     * 状態異常は値が変わるとツールチップも変わるため、値を key に含める。
+     */
+    record IconEntry(String key, String id, int value) {
+    }
+
+    final String hpText;
+    final String apText;
+    final String moneyText;
+    final List<IconEntry> skills;
+    final List<IconEntry> items;
+    final List<IconEntry> statusEffects;
+    final String portraitFileName;
+
+    private PlayerStatusSnapshot(String hpText, String apText, String moneyText,
+            List<IconEntry> skills, List<IconEntry> items, List<IconEntry> statusEffects,
+            String portraitFileName) {
+        this.hpText = hpText;
+        this.apText = apText;
+        this.moneyText = moneyText;
+        this.skills = skills;
+        this.items = items;
+        this.statusEffects = statusEffects;
+        this.portraitFileName = portraitFileName;
+    }
+
+    /** プレイヤーの現在の状態からスナップショットを作る（ゲームスレッドから呼ぶ） */
+    static PlayerStatusSnapshot capture(Player player) {
+        String hp = String.format("HP: %s/%s", player.getCurrentHP(), player.getEffectiveMaxHp());
+        String ap = String.format("AP: %s/%s", player.getCurrentAP(), player.getEffectiveMaxAp());
+        String money = String.format("銀貨: %s/%s", player.getMoney(), player.getEffectiveMaxMoney());
+
+        List<IconEntry> skills = new ArrayList<>();
+        List<String> skillNames = player.getEffectiveSkills();
+        if (skillNames != null) {
+            Map<String, Integer> seen = new HashMap<>();
+            for (String skillName : skillNames) {
+                skills.add(new IconEntry(occurrenceKey(seen, skillName), skillName, 0));
+            }
+        }
+
+        List<IconEntry> items = new ArrayList<>();
+        List<String> itemIds = player.getInventory();
+        if (itemIds != null) {
+            Map<String, Integer> seen = new HashMap<>();
+            for (String itemId : itemIds) {
+                Item item = ItemRegistry.getItemById(itemId);
+                if (item != null) {
+                    String cat = item.getEquipmentCategory();
+                    if ("WEAPON".equalsIgnoreCase(cat) || "ACCESSORY".equalsIgnoreCase(cat)) {
+                        continue; // 装備品は対象外（将来の専用UIで表示）
+                    }
+                }
+                items.add(new IconEntry(occurrenceKey(seen, itemId), itemId, 0));
+            }
+        }
+
+        List<IconEntry> effects = new ArrayList<>();
+        Map<String, Integer> statusEffects = player.getStatusEffects();
+        if (statusEffects != null) {
+            for (Map.Entry<String, Integer> entry : statusEffects.entrySet()) {
+                int value = entry.getValue();
+                effects.add(new IconEntry(entry.getKey() + "=" + value, entry.getKey(), value));
+            }
+        }
+
+        return new PlayerStatusSnapshot(hp, ap, money,
+                Collections.unmodifiableList(skills),
+                Collections.unmodifiableList(items),
+                Collections.unmodifiableList(effects),
+                player.getPortraitFileName());
+    }
+
+    private static String occurrenceKey(Map<String, Integer> seen, String id) {
+        int n = seen.merge(id, 1, Integer::sum);
+        return n == 1 ? id : id + "#" + n;
+    }
+}
@@ -24,6 +24,11 @@ public class RecordsScreen {
     private Stage stage;
     private ImageManager imageManager;
 
+    // 一度組み立てたシーン（再表示のときはそのまま使う）
+    private Scene scene;
+    // 「戻る」の処理（表示のたびに呼び出し元から渡される）
+    private Runnable onBack;
+
     public RecordsScreen(Stage stage) {
         this.stage = stage;
         this.imageManager = new ImageManager();
@@ -35,8 +40,21 @@ public class RecordsScreen {
      * @param onBack 「戻る」ボタンを押したときの処理（メインメニューへ戻るコールバック）
      */
     public void show(Runnable onBack) {
+        this.onBack = onBack;
+        if (scene == null) {
+            scene = buildScene();
+        }
+        stage.setScene(scene);
+        stage.setTitle("TBRR - 実績・冒険の記録");
+        stage.show();
+    }
+
+    /**
+     * 画面のシーンを組み立てる（最初の表示で1回だけ）
+     */
+    private Scene buildScene() {
         // 背景画像
-        Image backgroundImage = imageManager.loadBackground("mainmenu.png");
+        Image backgroundImage = imageManager.loadBackground("mainmenu.png", 1600, 900);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1600);
         backgroundView.setFitHeight(900);
@@ -62,7 +80,8 @@ public class RecordsScreen {
 
         // 冒険の記録：次の中間メニューへ
         adventureButton.setOnAction(e -> {
-            AdventureRecordsScreen adventureScreen = new AdventureRecordsScreen(stage);
+            AdventureRecordsScreen adventureScreen = ScreenRegistry.of(stage)
+                    .get(AdventureRecordsScreen.class, () -> new AdventureRecordsScreen(stage));
             adventureScreen.show(() -> show(onBack));
         });
 
@@ -76,10 +95,7 @@ public class RecordsScreen {
         StackPane root = new StackPane();
         root.getChildren().addAll(backgroundView, buttonBox);
 
-        Scene scene = new Scene(root, 1600, 900);
-        stage.setScene(scene);
-        stage.setTitle("TBRR - 実績・冒険の記録");
-        stage.show();
+        return new Scene(root, 1600, 900);
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.kh.tbrr.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javafx.stage.Stage;
+
+/**
+ * メニュー系画面（メインメニュー・マニュアル・記録・墓地・キャラクター制作）の登録簿。
+ *
+ * 画面の切り替えのたびにノードツリー・背景・データを作り直すと、メニュー間の移動に毎回待ちが出る。
+ * ここでは画面をステージごとに1つずつだけ作って保持し、各画面は最初の表示で1回だけシーンを組み立てる。
+ * 再表示のときは、各画面が自分のデータ（記録一覧・中断データの有無など）だけを更新してから同じシーンに戻す。
+ *
+ * JavaFX Application Thread から使うこと。
+ */
+public final class ScreenRegistry {
+
+    private final Map<Class<?>, Object> screens = new HashMap<>();
+
+    private ScreenRegistry() {
+    }
+
+    /**
+     * ステージに対応する登録簿を取得する（なければ作ってステージに持たせる）
+     */
+    public static ScreenRegistry of(Stage stage) {
+        return (ScreenRegistry) stage.getProperties().computeIfAbsent(ScreenRegistry.class, k -> new ScreenRegistry());
+    }
+
+    /**
+     * 画面を取得する（初回だけ factory で作る）
+     *
+     * @param type    画面のクラス
+     * @param factory 画面を作る処理
+     * @return 保持している画面
+     */
+    public <T> T get(Class<T> type, Supplier<T> factory) {
+        Object screen = screens.get(type);
+        if (screen == null) {
+            screen = factory.get();
+            screens.put(type, screen);
+        }
+        return type.cast(screen);
+    }
+}
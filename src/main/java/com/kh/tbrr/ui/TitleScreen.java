@@ -108,7 +108,7 @@ public class TitleScreen {
      * メインメニューを表示
      */
     private void onStart() {
-        MainMenuScreen mainMenu = new MainMenuScreen(stage);
+        MainMenuScreen mainMenu = ScreenRegistry.of(stage).get(MainMenuScreen.class, () -> new MainMenuScreen(stage));
         mainMenu.show();
     }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.kh.tbrr.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * ゲームスレッドからの画面出力（メッセージ・重要ログ・ラベル・画像）をまとめて反映するキュー。
+ *
+ * 出力1件ごとに Platform.runLater を積むと、説明文の多いイベントでFXキューが溢れて入力の反応が遅れる。
+ * ここでは出力を {@link UiOp} としてロックフリーのキューに積み、AnimationTimer がパルスごとに1回だけ取り出す。
+ * 取り出すときに、連続するテキスト追記は1回の追記にまとめ、同じラベル・画像枠への更新は最後の1件だけを反映する。
+ * 戦闘パネルの表示・ステータス更新などテキスト以外の画面操作も {@link #run(Runnable)} で同じキューに積み、
+ * それより前に積まれた出力をすべて反映してから実行する（ゲームスレッドで呼んだ順に画面が変わる）。
+ */
+final class UiOutputQueue {
+
+    /** 出力の種類 */
+    enum Kind {
+        MESSAGE, CLEAR, IMPORTANT, EVENT_INFO, FLOOR_INFO, IMAGE, RUN
+    }
+
+    /**
+     * キューに積む出力1件（IMAGE のときだけ key に画像枠の種類が入る。RUN のときだけ action が入る）
+     * queuedAt は積んだ時刻（性能計測中のみ。それ以外は 0）
+     */
+    record UiOp(Kind kind, String key, String text, Runnable action, long queuedAt) {
+    }
+
+    /** 実際の反映先（FXスレッドで呼ばれる） */
+    interface Sink {
+        void appendMessage(String text);
+
+        void clearMessages();
+
+        void appendImportant(String text);
+
+        void setEventInfo(String text);
+
+        void setFloorInfo(String text);
+
+        void showImageNow(String imageType, String imagePath);
+    }
+
+    private final ConcurrentLinkedQueue<UiOp> queue = new ConcurrentLinkedQueue<>();
+    private final Sink sink;
+    private final AnimationTimer timer;
+
+    // ---- 取り出し中の作業領域（FXスレッド専用）----
+    private final StringBuilder pendingMessage = new StringBuilder();
+    private boolean hasPendingMessage;
+    private final StringBuilder pendingImportant = new StringBuilder();
+    private boolean hasPendingImportant;
+    private final Map<String, String> pendingImages = new LinkedHashMap<>();
+    private String pendingEventInfo;
+    private boolean hasPendingEventInfo;
+    private String pendingFloorInfo;
+    private boolean hasPendingFloorInfo;
+
+    UiOutputQueue(Sink sink) {
+        this.sink = sink;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drain();
+            }
+        };
+    }
+
+    /** パルスごとの取り出しを開始する（FXスレッドから呼ぶ） */
+    void start() {
+        timer.start();
+    }
+
+    void stop() {
+        timer.stop();
+    }
+
+    /** どのスレッドからでも呼べる */
+    void push(Kind kind, String key, String text) {
+        queue.add(new UiOp(kind, key, text, null, PerformanceOverlay.isRecording() ? System.nanoTime() : 0));
+    }
+
+    /**
+     * 画面操作を出力と同じ順序で実行する（どのスレッドからでも呼べる）
+     * action はFXスレッドで、これより前に積まれた出力をすべて反映した後に呼ばれる。
+     */
+    void run(Runnable action) {
+        queue.add(new UiOp(Kind.RUN, null, null, action,
+                PerformanceOverlay.isRecording() ? System.nanoTime() : 0));
+    }
+
+    /** 現在キューにある出力をすべて反映する（FXスレッド） */
+    void drain() {
+        UiOp op = queue.poll();
+        if (op == null)
+            return;
+
+        // 最も古い出力が積まれてから反映されるまでの時間（性能計測用）
+        if (op.queuedAt() != 0) {
+            PerformanceOverlay.recordUiCall(op.kind().name(), System.nanoTime() - op.queuedAt());
+        }
+
+        for (; op != null; op = queue.poll()) {
+            switch (op.kind()) {
+                case MESSAGE:
+                    if (hasPendingMessage)
+                        pendingMessage.append('\n');
+                    pendingMessage.append(op.text());
+                    hasPendingMessage = true;
+                    break;
+                case CLEAR:
+                    // 消去前の追記は履歴に残すため、順序どおりに反映してから消す
+                    flushMessage();
+                    sink.clearMessages();
+                    break;
+                case IMPORTANT:
+                    if (hasPendingImportant)
+                        pendingImportant.append('\n');
+                    pendingImportant.append(op.text());
+                    hasPendingImportant = true;
+                    break;
+                case EVENT_INFO:
+                    pendingEventInfo = op.text();
+                    hasPendingEventInfo = true;
+                    break;
+                case FLOOR_INFO:
+                    pendingFloorInfo = op.text();
+                    hasPendingFloorInfo = true;
+                    break;
+                case IMAGE:
+                    // 同じ枠への更新は最後の1件だけ（順序は最初に更新された順を保つ）
+                    pendingImages.put(op.key(), op.text());
+                    break;
+                case RUN:
+                    // 画面操作より前の出力を先に反映する
+                    flushAll();
+                    try {
+                        op.action().run();
+                    } catch (RuntimeException e) {
+                        System.err.println("[UiOutputQueue] 画面操作でエラー: " + e.getMessage());
+                        e.printStackTrace();
+                    }
+                    break;
+            }
+        }
+
+        flushAll();
+    }
+
+    private void flushAll() {
+        flushMessage();
+        if (hasPendingImportant) {
+            sink.appendImportant(pendingImportant.toString());
+            pendingImportant.setLength(0);
+            hasPendingImportant = false;
+        }
+        if (hasPendingEventInfo) {
+            sink.setEventInfo(pendingEventInfo);
+            pendingEventInfo = null;
+            hasPendingEventInfo = false;
+        }
+        if (hasPendingFloorInfo) {
+            sink.setFloorInfo(pendingFloorInfo);
+            pendingFloorInfo = null;
+            hasPendingFloorInfo = false;
+        }
+        if (!pendingImages.isEmpty()) {
+            for (Map.Entry<String, String> e : pendingImages.entrySet()) {
+                sink.showImageNow(e.getKey(), e.getValue());
+            }
+            pendingImages.clear();
+        }
+    }
+
+    private void flushMessage() {
+        if (!hasPendingMessage)
+            return;
+        sink.appendMessage(pendingMessage.toString());
+        pendingMessage.setLength(0);
+        hasPendingMessage = false;
+    }
+}
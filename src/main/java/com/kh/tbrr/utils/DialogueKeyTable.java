@@ -0,0 +1,187 @@
+package com.kh.tbrr.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * 口上プレースホルダー（括弧の中身）→ 性格JSONの台詞キー の対応表
+ *
+ * 対応ルールは data/dialogue_keys.json に書く。ルールは上から順に調べ、最初に当てはまったもののキーを使う。
+ * 各ルールの patterns は「キーワードの並び」のリストで、キーワードがその順に（間に何があってもよい）
+ * 含まれていれば当てはまる（以前の ".*攻撃.*口上.*" という正規表現と同じ意味）。
+ *
+ * <pre>
+ * { "rules": [ { "key": "attack", "patterns": [["攻撃", "口上"]] }, ... ] }
+ * </pre>
+ *
+ * 一度調べたプレースホルダーの結果は覚えておく。
+ * また、どのルールの最後のキーワード（"口上" など）も含まない括弧書きは、ルールを調べる前に対象外とする。
+ */
+final class DialogueKeyTable {
+
+	private static final String RULES_PATH = "data/dialogue_keys.json";
+
+	// 覚えておくプレースホルダーの上限（超えたら忘れて数え直す）
+	private static final int MAX_MEMO = 4096;
+	// 「対応するキーなし」を覚えておくための値
+	private static final String NO_KEY = "";
+
+	/** 1つのルール（patterns のどれかに当てはまれば key） */
+	private record Rule(String key, List<String[]> patterns) {
+	}
+
+	private static final List<Rule> rules = loadRules();
+	// どのルールでも最後に来るキーワード（前段の絞り込み用）
+	private static final String[] lastKeywords = collectLastKeywords(rules);
+	private static final Map<String, String> memo = new ConcurrentHashMap<>();
+
+	private DialogueKeyTable() {
+	}
+
+	/**
+	 * プレースホルダーに対応する台詞キーを取得する
+	 *
+	 * @param placeholder 括弧の中身
+	 * @return 台詞キー（対応するものがなければ null）
+	 */
+	static String resolve(String placeholder) {
+		String key = memo.get(placeholder);
+		if (key == null) {
+			key = lookup(placeholder);
+			if (memo.size() >= MAX_MEMO) {
+				memo.clear();
+			}
+			memo.put(placeholder, key);
+		}
+		return key.isEmpty() ? null : key;
+	}
+
+	private static String lookup(String placeholder) {
+		// 正規化: 前後の空白を除去、小文字化
+		String normalized = placeholder.trim().toLowerCase();
+
+		// 以前の正規表現の "." は改行にマッチしなかったため、改行を含むものは対象外
+		if (hasLineTerminator(normalized) || !containsAny(normalized, lastKeywords)) {
+			return NO_KEY;
+		}
+
+		for (Rule rule : rules) {
+			for (String[] pattern : rule.patterns()) {
+				if (matchesInOrder(normalized, pattern)) {
+					return rule.key();
+				}
+			}
+		}
+		return NO_KEY;
+	}
+
+	/** キーワードがこの順に含まれているか */
+	private static boolean matchesInOrder(String text, String[] keywords) {
+		int from = 0;
+		for (String keyword : keywords) {
+			int found = text.indexOf(keyword, from);
+			if (found < 0) {
+				return false;
+			}
+			from = found + keyword.length();
+		}
+		return true;
+	}
+
+	private static boolean containsAny(String text, String[] keywords) {
+		for (String keyword : keywords) {
+			if (text.contains(keyword)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasLineTerminator(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String[] collectLastKeywords(List<Rule> rules) {
+		Set<String> last = new LinkedHashSet<>();
+		for (Rule rule : rules) {
+			for (String[] pattern : rule.patterns()) {
+				last.add(pattern[pattern.length - 1]);
+			}
+		}
+		return last.toArray(new String[0]);
+	}
+
+	// =============================================
+	// --- 読み込み ---
+	// =============================================
+
+	private static List<Rule> loadRules() {
+		List<Rule> loaded = new ArrayList<>();
+		try (InputStream is = openRules()) {
+			if (is == null) {
+				System.err.println("[TextReplacer] 口上の対応表が見つかりません: " + RULES_PATH);
+				return loaded;
+			}
+			JsonObject root = JsonParser.parseReader(new InputStreamReader(is, StandardCharsets.UTF_8))
+					.getAsJsonObject();
+			for (JsonElement ruleElement : root.getAsJsonArray("rules")) {
+				JsonObject ruleObj = ruleElement.getAsJsonObject();
+				List<String[]> patterns = new ArrayList<>();
+				for (JsonElement patternElement : ruleObj.getAsJsonArray("patterns")) {
+					String[] keywords = toKeywords(patternElement.getAsJsonArray());
+					if (keywords.length > 0) {
+						patterns.add(keywords);
+					}
+				}
+				loaded.add(new Rule(ruleObj.get("key").getAsString(), List.copyOf(patterns)));
+			}
+		} catch (Exception e) {
+			System.err.println("[TextReplacer] 口上の対応表の読み込みに失敗: " + e.getMessage());
+			e.printStackTrace();
+		}
+		return loaded;
+	}
+
+	private static String[] toKeywords(JsonArray array) {
+		List<String> keywords = new ArrayList<>();
+		for (JsonElement e : array) {
+			String keyword = e.getAsString().toLowerCase();
+			if (!keyword.isEmpty()) {
+				keywords.add(keyword);
+			}
+		}
+		return keywords.toArray(new String[0]);
+	}
+
+	/**
+	 * 対応表を開く（クラスパス → 開発環境の src/main/resources の順に探す）
+	 */
+	private static InputStream openRules() throws java.io.IOException {
+		InputStream is = DialogueKeyTable.class.getClassLoader().getResourceAsStream(RULES_PATH);
+		if (is != null) {
+			return is;
+		}
+		File file = new File("src/main/resources/" + RULES_PATH);
+		return file.exists() ? new FileInputStream(file) : null;
+	}
+}
@@ -1,8 +1,11 @@
 package com.kh.tbrr.utils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,6 +41,10 @@ public class TextReplacer {
 	private static final Pattern NAME_PATTERN = Pattern.compile("\\[Name\\]");
 	private static final Pattern DIALOGUE_PATTERN = Pattern.compile("\\(([^)]+)\\)");
 
+	// 解析済みのテキスト（元のテキスト → 部品列）
+	private static final int MAX_TEMPLATES = 8192;
+	private static final Map<String, TextTemplate> templates = new ConcurrentHashMap<>();
+
 	// ★ 追加: RandomWordsManagerを設定するメソッド
 	/**
 	 * RandomWordsManagerを設定（初期化時に一度だけ呼ぶ）
@@ -48,6 +55,13 @@ public class TextReplacer {
 		randomWordsManager = manager;
 	}
 
+	/**
+	 * 置き換えに使う乱数の種を設定する（テストで結果を再現するため）
+	 */
+	static void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
 	/**
 	 * テキスト内のすべてのプレースホルダーを置き換える
 	 * 
@@ -59,11 +73,43 @@ public class TextReplacer {
 		if (text == null || text.isEmpty()) {
 			return text;
 		}
+		return template(text).render(player);
+	}
 
-		// ステップ1: {random:カテゴリ} を先に置き換え
-		// （この結果に[Name]などが含まれる可能性があるため、最初に処理）
-		text = replaceRandomWords(text);
+	/**
+	 * テキストを前もって解析しておく（イベント読み込み時などに呼ぶ）
+	 * 
+	 * @param texts 置き換え対象になるテキスト（null・空文字は無視する）
+	 */
+	public static void precompile(Collection<String> texts) {
+		for (String text : texts) {
+			if (text != null && !text.isEmpty()) {
+				template(text);
+			}
+		}
+	}
+
+	/**
+	 * 解析済みのテキストを取得する（なければ解析して保持する）
+	 */
+	private static TextTemplate template(String text) {
+		TextTemplate template = templates.get(text);
+		if (template == null) {
+			if (templates.size() >= MAX_TEMPLATES) {
+				// 想定外に増えた場合（動的に組み立てたテキストなど）は作り直す
+				templates.clear();
+			}
+			template = TextTemplate.compile(text);
+			templates.put(text, template);
+		}
+		return template;
+	}
 
+	/**
+	 * {random:カテゴリ} を置き換えた後のテキストに、残りの置き換えを順に行う
+	 * （テンプレートで処理できない値が差し込まれる場合に使う、以前からの置き換え手順）
+	 */
+	static String replaceAfterRandomWords(String text, Player player) {
 		// ステップ2: [Name]をプレイヤー名に置き換え
 		text = replaceName(text, player);
 
@@ -87,29 +133,10 @@ public class TextReplacer {
 		return NAME_PATTERN.matcher(text).replaceAll(player.getName());
 	}
 
-	/**
-	 * {random:カテゴリ} または {カテゴリ} をランダム単語に置き換え
-	 */
-	private static String replaceRandomWords(String text) {
-		// {random:カテゴリ} と {カテゴリ} の両方に対応
-		Pattern pattern = Pattern.compile("\\{(?:random:)?([^}]+)\\}");
-		Matcher matcher = pattern.matcher(text);
-		StringBuffer sb = new StringBuffer();
-
-		while (matcher.find()) {
-			String category = matcher.group(1);
-			String word = getRandomWord(category);
-			matcher.appendReplacement(sb, Matcher.quoteReplacement(word));
-		}
-
-		matcher.appendTail(sb);
-		return sb.toString();
-	}
-
 	/**
 	 * カテゴリからランダムな単語を取得
 	 */
-	private static String getRandomWord(String category) {
+	static String getRandomWord(String category) {
 		// RandomWordsManagerが設定されていればそれを使用
 		if (randomWordsManager != null) {
 			return randomWordsManager.getRandomWord(category);
@@ -165,8 +192,13 @@ public class TextReplacer {
 	 * プレースホルダーに対応する台詞を性格から取得
 	 */
 	private static String getDialogueReplacement(String placeholder, Personality personality) {
-		String key = convertPlaceholderToKey(placeholder);
+		return getDialogueForKey(convertPlaceholderToKey(placeholder), personality);
+	}
 
+	/**
+	 * キーに対応する台詞を性格から取得
+	 */
+	static String getDialogueForKey(String key, Personality personality) {
 		if (key == null) {
 			return null; // 対応するキーが見つからない場合はそのまま
 		}
@@ -183,65 +215,10 @@ public class TextReplacer {
 
 	/**
 	 * プレースホルダー文字列をJSONのキーに変換
-	 * 柔軟に対応できるよう、複数のパターンをサポート
+	 * 対応ルールは data/dialogue_keys.json（DialogueKeyTable を参照）
 	 */
-	private static String convertPlaceholderToKey(String placeholder) {
-		// 正規化: 空白を除去、小文字化
-		String normalized = placeholder.trim().toLowerCase();
-
-		// パターンマッチング
-		if (normalized.matches(".*攻撃.*口上.*")) {
-			return "attack";
-		} else if (normalized.matches(".*小.*ダメージ.*口上.*") ||
-				normalized.matches(".*被.*ダメージ.*口上.*") ||
-				normalized.matches(".*ダメージ.*受け.*口上.*")) {
-			return "damaged_light";
-		} else if (normalized.matches(".*大.*ダメージ.*口上.*") ||
-				normalized.matches(".*重傷.*口上.*")) {
-			return "damaged_heavy";
-		} else if (normalized.matches(".*死.*口上.*") ||
-				normalized.matches(".*悲痛.*叫び.*") ||
-				normalized.matches(".*断末魔.*")) {
-			return "death_scream";
-		} else if (normalized.matches(".*回避.*口上.*") ||
-				normalized.matches(".*避け.*口上.*")) {
-			return "dodge_success";
-		} else if (normalized.matches(".*罠.*発見.*口上.*") ||
-				normalized.matches(".*罠.*見つけ.*口上.*")) {
-			return "trap_found";
-		} else if (normalized.matches(".*アイテム.*入手.*口上.*") ||
-				normalized.matches(".*アイテム.*取得.*口上.*")) {
-			return "item_get";
-		} else if (normalized.matches(".*休憩.*口上.*") ||
-				normalized.matches(".*休息.*口上.*")) {
-			return "rest";
-		} else if (normalized.matches(".*勝利.*口上.*") ||
-				normalized.matches(".*勝っ.*口上.*")) {
-			return "victory";
-		} else if (normalized.matches(".*恍惚.*口上.*")) {
-			return "ecstasy";
-		} else if (normalized.matches(".*朦朧.*口上.*")) {
-			return "dazed";
-		} else if (normalized.matches(".*苦悶.*口上.*")) {
-			return "agony";
-		} else if (normalized.matches(".*喘.*口上.*") ||
-				normalized.matches(".*息苦.*口上.*")) {
-			return "panting";
-		} else if (normalized.matches(".*溺れ.*口上.*")) {
-			return "drowning";
-		} else if (normalized.matches(".*悲鳴.*口上.*")) {
-			return "scream";
-		} else if (normalized.matches(".*驚愕.*口上.*")) {
-			return "shock";
-		} else if (normalized.matches(".*嫌悪.*口上.*")) {
-			return "disgust";
-		} else if (normalized.matches(".*拒否.*口上.*")) {
-			return "refusal";
-		} else if (normalized.matches(".*メタ死.*口上.*")) {
-			return "meta_death";
-		}
-
-		return null; // 対応するキーが見つからない
+	static String convertPlaceholderToKey(String placeholder) {
+		return DialogueKeyTable.resolve(placeholder);
 	}
 
 	/**
@@ -11,10 +11,21 @@ import com.kh.tbrr.data.models.Player;
 public class TextReplacerTest {
 
     public static void main(String[] args) {
-        testReplacements();
+        // --print を付けると、ゴールデンの期待値を現在の出力で書き出す（期待値の作り直し用）
+        boolean print = args.length > 0 && args[0].equals("--print");
+
+        boolean allPassed = testReplacements();
+        allPassed &= testGolden(print);
+
+        if (allPassed) {
+            System.out.println("All tests passed successfully!");
+        } else {
+            System.out.println("Some tests failed.");
+            System.exit(1);
+        }
     }
 
-    private static void testReplacements() {
+    private static boolean testReplacements() {
         System.out.println("Starting TextReplacer Verification...");
 
         // 1. Setup Mock Personality
@@ -49,6 +60,7 @@ public class TextReplacerTest {
         // 2. Setup Mock Player
         Player player = new Player();
         player.setName("TestPlayer");
+        player.setRaceName("人間");
         player.setPersonality(personality);
 
         // 3. Test Cases
@@ -85,11 +97,132 @@ public class TextReplacerTest {
             }
         }
 
-        if (allPassed) {
-            System.out.println("All tests passed successfully!");
-        } else {
-            System.out.println("Some tests failed.");
-            System.exit(1);
+        return allPassed;
+    }
+
+    // =============================================
+    // --- ゴールデンテスト ---
+    // =============================================
+
+    /**
+     * 1件分のゴールデン（乱数の種・プレイヤー・入力・期待する出力）
+     * 期待値は置き換え処理をテンプレート化する前の実装の出力で、以後はこれと1バイトも変わらないことを確認する
+     * （例外: (メタ死口上) は以前 death_scream に取られていたため、meta_death になるよう直した）
+     */
+    private record Golden(long seed, String player, String input, String expected) {
+    }
+
+    private static final Golden[] GOLDENS = {
+            new Golden(1, "full", "[Name]は{random:色}花を見つけた。", "ミナは黒い花を見つけた。"),
+            new Golden(2, "full", "{色}の{植物}と{小動物}", "茶色いの花とfb"),
+            new Golden(3, "full", "[Name]（[raceName]）は[PersonalityName]な性格で、[bodyType]体型、[clothing]を着ている。",
+                    "ミナ（エルフ）は陽気な性格で、華奢な体型、旅人の服を着ている。"),
+            new Golden(4, "full", "「(攻撃口上)」[Name]は剣を振るった。(小ダメージ口上)", "「はあっ！」ミナは剣を振るった。いたっ"),
+            new Golden(5, "full", "(悲鳴口上)(驚愕口上)(嫌悪口上)(拒否口上)", "ひっ！えっ！？うわ…いやです"),
+            new Golden(6, "full", "ただの括弧書き(これは台詞ではない)です。", "ただの括弧書き(これは台詞ではない)です。"),
+            new Golden(7, "full", "空の括弧()と(入れ子(悲鳴口上)", "空の括弧()とひっ！"),
+            new Golden(8, "full", "([Name]の悲鳴口上)", "ひっ！"),
+            new Golden(9, "full", "{未知のカテゴリ}と{random:}と{}", "???と???と{}"),
+            new Golden(10, "full", "[race{random:色}Name]と[Na{小動物}me]", "[race黄色いName]と[Nafbme]"),
+            new Golden(11, "full", "改行を含む(攻撃\n口上)と(攻撃口上)", "改行を含む(攻撃\n口上)とえいっ！"),
+            new Golden(12, "full", "$1 と \\ を含む[Name]と(攻撃口上)", "$1 と \\ を含むミナとえいっ！"),
+            new Golden(13, "full", "(死亡時の口上)と(メタ死口上)と(断末魔)", "そんな…とメタ死とそんな…"),
+            new Golden(14, "full", "{小動物}{小動物}{小動物}(攻撃口上)(攻撃口上)(攻撃口上)", "fbfbfbはあっ！はあっ！はあっ！"),
+            new Golden(15, "full", "プレースホルダーのない文章です。", "プレースホルダーのない文章です。"),
+            new Golden(16, "full", "(休憩口上)(勝利口上)(罠を発見した口上)(アイテム入手口上)", "(休憩口上)(勝利口上)(罠を発見した口上)(アイテム入手口上)"),
+            new Golden(17, "special", "[Name]は叫んだ。[raceName]の[clothing]", "ミナひっ！は叫んだ。[Name]の旅人の服"),
+            new Golden(18, "special", "{色}な[bodyType]", "赤いな???"),
+            new Golden(19, "noPersonality", "[Name]は[PersonalityName]。(攻撃口上){色}", "ミナは???。(攻撃口上)黒い"),
+            new Golden(20, "full", "((攻撃口上)", "はあっ！"),
+            new Golden(21, "full", "(攻撃口上", "(攻撃口上"),
+            new Golden(22, "full", "[[Name]] と [Name", "[ミナ] と [Name"),
+    };
+
+    private static boolean testGolden(boolean print) {
+        System.out.println("Starting TextReplacer golden test...");
+        boolean allPassed = true;
+
+        // 1周目はテンプレートを作る経路、2周目は作成済みのテンプレートを使う経路を確かめる
+        for (int pass = 1; pass <= 2; pass++) {
+            for (Golden g : GOLDENS) {
+                Player player = createPlayer(g.player());
+                TextReplacer.setSeed(g.seed());
+                String actual = TextReplacer.replace(g.input(), player);
+
+                if (print) {
+                    if (pass == 1) {
+                        System.out.println("new Golden(" + g.seed() + ", \"" + g.player() + "\", \""
+                                + escape(g.input()) + "\", \"" + escape(actual) + "\"),");
+                    }
+                    continue;
+                }
+
+                if (!actual.equals(g.expected())) {
+                    System.out.println("FAILED: Input='" + g.input() + "' (seed=" + g.seed() + ", player=" + g.player()
+                            + ", pass=" + pass + ")");
+                    System.out.println("  Expected='" + g.expected() + "'");
+                    System.out.println("  Actual  ='" + actual + "'");
+                    allPassed = false;
+                } else if (pass == 1) {
+                    System.out.println("PASSED: " + g.input() + " -> " + actual);
+                }
+            }
         }
+
+        // null と空文字はそのまま返す
+        Player player = createPlayer("full");
+        if (TextReplacer.replace(null, player) != null || !"".equals(TextReplacer.replace("", player))) {
+            System.out.println("FAILED: null / empty input");
+            allPassed = false;
+        }
+
+        return allPassed;
+    }
+
+    /**
+     * ゴールデン用のプレイヤー
+     * full: すべての項目を設定 / special: 名前に口上プレースホルダーを含む / noPersonality: 性格なし
+     */
+    private static Player createPlayer(String variant) {
+        Personality personality = new Personality();
+        personality.setId("cheerful");
+        personality.setName("陽気");
+
+        Map<String, List<String>> dialogue = new HashMap<>();
+        dialogue.put("attack", List.of("えいっ！", "たあっ！", "はあっ！"));
+        dialogue.put("damaged_light", List.of("うっ…", "いたっ"));
+        dialogue.put("death_scream", List.of("そんな…"));
+        dialogue.put("scream", List.of("きゃあっ！", "ひっ！"));
+        dialogue.put("shock", List.of("えっ！？"));
+        dialogue.put("disgust", List.of("うわ…"));
+        dialogue.put("refusal", List.of("いやです"));
+        dialogue.put("meta_death", List.of("メタ死"));
+        dialogue.put("rest", List.of());
+        personality.setDialogue(dialogue);
+
+        Player player = new Player();
+        player.setName("ミナ");
+        player.setRaceName("エルフ");
+        player.setBodyType("華奢な");
+        player.setClothing("旅人の服");
+        player.setPersonality(personality);
+
+        switch (variant) {
+            case "special":
+                player.setName("ミナ(悲鳴口上)");
+                player.setRaceName("[Name]");
+                player.setBodyType(null);
+                break;
+            case "noPersonality":
+                player.setPersonality(null);
+                break;
+            default:
+                break;
+        }
+        return player;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
     }
 }
@@ -0,0 +1,352 @@
+package com.kh.tbrr.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.kh.tbrr.data.models.Personality;
+import com.kh.tbrr.data.models.Player;
+
+/**
+ * TextReplacer の置き換え対象テキストを、読み込み時に1回だけ解析した部品列
+ *
+ * テキストを「そのままの文字列」「[Name] などのプレイヤー項目」「{random:カテゴリ}」「(○○口上)」に分けて持ち、
+ * 表示のたびには部品を順に StringBuilder へ書き出すだけにする（正規表現は解析時にしか使わない）。
+ *
+ * 出力は以前の置き換え処理（ランダム単語 → [Name] → その他の項目 → 口上 の順に文字列全体を置き換える）と完全に同じにする。
+ * そのため、差し込む値（ランダム単語・名前など）に [ ] ( ) が含まれていて、差し込んだ後の文字列で
+ * 新しいプレースホルダーや括弧の対応ができてしまう可能性がある場合は、以前と同じ順序の置き換えで処理する。
+ * 乱数を引く順序（ランダム単語を先頭から順に、その後で口上を先頭から順に）も以前と同じ。
+ */
+final class TextTemplate {
+
+	// {random:カテゴリ} と {カテゴリ} の両方に対応
+	private static final Pattern RANDOM_PATTERN = Pattern.compile("\\{(?:random:)?([^}]+)\\}");
+
+	// プレイヤー項目（以前の置き換え順）
+	private static final int NAME = 0;
+	private static final int RACE_NAME = 1;
+	private static final int PERSONALITY_NAME = 2;
+	private static final int BODY_TYPE = 3;
+	private static final int CLOTHING = 4;
+	private static final String[] FIELD_TOKENS = {
+			"[Name]", "[raceName]", "[PersonalityName]", "[bodyType]", "[clothing]"
+	};
+
+	/** 部品 */
+	private sealed interface Segment permits Literal, Slot, Field, Dialogue {
+	}
+
+	/** そのままの文字列 */
+	private record Literal(String text) implements Segment {
+	}
+
+	/** {random:カテゴリ}（index は categories の位置） */
+	private record Slot(int index) implements Segment {
+	}
+
+	/** [Name] などのプレイヤー項目 */
+	private record Field(int field) implements Segment {
+	}
+
+	/**
+	 * (○○) の括弧書き
+	 * 中身がそのままの文字列だけなら、対応する口上のキーを解析時に求めておく（staticKey。口上でなければ null）
+	 */
+	private record Dialogue(List<Segment> inner, boolean dynamic, String staticKey) implements Segment {
+	}
+
+	// ---- 以前の置き換え処理で使う情報 ----
+	// {random:…} の前後の文字列（categories.length + 1 個）
+	private final String[] pieces;
+	private final String[] categories;
+
+	// ---- 部品列 ----
+	private final List<Segment> segments;
+	// 使っているプレイヤー項目（ビットの集合）
+	private final int usedFields;
+	// 差し込む値によって [○○] が新しくできてしまう並びがあるか（ある場合は常に以前の置き換え処理を使う）
+	private final boolean bracketSensitive;
+
+	private TextTemplate(String[] pieces, String[] categories, List<Segment> segments, int usedFields,
+			boolean bracketSensitive) {
+		this.pieces = pieces;
+		this.categories = categories;
+		this.segments = segments;
+		this.usedFields = usedFields;
+		this.bracketSensitive = bracketSensitive;
+	}
+
+	// =============================================
+	// --- 解析 ---
+	// =============================================
+
+	/**
+	 * テキストを解析する
+	 *
+	 * @param text 元のテキスト（null・空文字でないこと）
+	 */
+	static TextTemplate compile(String text) {
+		// 1. {random:カテゴリ} で区切る
+		List<String> pieceList = new ArrayList<>();
+		List<String> categoryList = new ArrayList<>();
+		Matcher matcher = RANDOM_PATTERN.matcher(text);
+		int last = 0;
+		while (matcher.find()) {
+			pieceList.add(text.substring(last, matcher.start()));
+			categoryList.add(matcher.group(1));
+			last = matcher.end();
+		}
+		pieceList.add(text.substring(last));
+
+		// 2. 1文字ずつの並びにする（{random:…} とプレイヤー項目は1つの部品として扱う）
+		List<Object> units = new ArrayList<>();
+		int usedFields = 0;
+		for (int p = 0; p < pieceList.size(); p++) {
+			if (p > 0) {
+				units.add(new Slot(p - 1));
+			}
+			String piece = pieceList.get(p);
+			int i = 0;
+			while (i < piece.length()) {
+				int field = (piece.charAt(i) == '[') ? fieldAt(piece, i) : -1;
+				if (field >= 0) {
+					units.add(new Field(field));
+					usedFields |= 1 << field;
+					i += FIELD_TOKENS[field].length();
+				} else {
+					units.add(piece.charAt(i));
+					i++;
+				}
+			}
+		}
+
+		// 3. 括弧書きをまとめる（以前の "\\(([^)]+)\\)" と同じ対応づけ）
+		List<Segment> segments = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int n = units.size();
+		int i = 0;
+		while (i < n) {
+			int close = (isChar(units.get(i), '(')) ? findClose(units, i) : -1;
+			if (close < 0) {
+				appendUnit(units.get(i), literal, segments);
+				i++;
+				continue;
+			}
+			flush(literal, segments);
+			List<Segment> inner = new ArrayList<>();
+			StringBuilder innerLiteral = new StringBuilder();
+			boolean dynamic = false;
+			for (int k = i + 1; k < close; k++) {
+				Object unit = units.get(k);
+				dynamic |= (unit instanceof Segment);
+				appendUnit(unit, innerLiteral, inner);
+			}
+			String plain = innerLiteral.toString();
+			flush(innerLiteral, inner);
+			String staticKey = dynamic ? null : TextReplacer.convertPlaceholderToKey(plain);
+			segments.add(new Dialogue(List.copyOf(inner), dynamic, staticKey));
+			i = close + 1;
+		}
+		flush(literal, segments);
+
+		return new TextTemplate(pieceList.toArray(new String[0]), categoryList.toArray(new String[0]),
+				List.copyOf(segments), usedFields, isBracketSensitive(units));
+	}
+
+	/** 位置 i から始まるプレイヤー項目の番号（なければ -1） */
+	private static int fieldAt(String s, int i) {
+		for (int f = 0; f < FIELD_TOKENS.length; f++) {
+			if (s.startsWith(FIELD_TOKENS[f], i)) {
+				return f;
+			}
+		}
+		return -1;
+	}
+
+	/** open の '(' に対応する ')' の位置（中身が1文字以上ない・閉じていない場合は -1） */
+	private static int findClose(List<Object> units, int open) {
+		int k = open + 1;
+		if (k >= units.size() || isChar(units.get(k), ')')) {
+			return -1;
+		}
+		while (k < units.size() && !isChar(units.get(k), ')')) {
+			k++;
+		}
+		return (k < units.size()) ? k : -1;
+	}
+
+	/**
+	 * 差し込む値が、前後の "[" と "]" に挟まれる並びがあるか
+	 * （例: "[race{random:色}Name]" はランダム単語によっては [raceName] になり、以前の処理では置き換わる）
+	 */
+	private static boolean isBracketSensitive(List<Object> units) {
+		boolean open = false;
+		boolean enclosed = false;
+		for (Object unit : units) {
+			if (isChar(unit, '[')) {
+				open = true;
+				enclosed = false;
+			} else if (isChar(unit, ']')) {
+				if (enclosed) {
+					return true;
+				}
+				open = false;
+			} else if (unit instanceof Segment && open) {
+				enclosed = true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isChar(Object unit, char c) {
+		return (unit instanceof Character ch) && ch == c;
+	}
+
+	private static void appendUnit(Object unit, StringBuilder literal, List<Segment> out) {
+		if (unit instanceof Character ch) {
+			literal.append(ch.charValue());
+		} else {
+			flush(literal, out);
+			out.add((Segment) unit);
+		}
+	}
+
+	private static void flush(StringBuilder literal, List<Segment> out) {
+		if (literal.length() > 0) {
+			out.add(new Literal(literal.toString()));
+			literal.setLength(0);
+		}
+	}
+
+	// =============================================
+	// --- 書き出し ---
+	// =============================================
+
+	/**
+	 * プレイヤーの情報で置き換えた文字列を作る
+	 */
+	String render(Player player) {
+		// ランダム単語は先に先頭から順に引く（以前と同じ乱数の消費順）
+		String[] words = new String[categories.length];
+		for (int i = 0; i < categories.length; i++) {
+			words[i] = TextReplacer.getRandomWord(categories[i]);
+		}
+
+		String[] fields = fieldValues(player);
+		if (fields == null || bracketSensitive || !isPlain(words)) {
+			return TextReplacer.replaceAfterRandomWords(joinWords(words), player);
+		}
+
+		Personality personality = player.getPersonality();
+		StringBuilder sb = new StringBuilder();
+		for (Segment segment : segments) {
+			if (segment instanceof Dialogue d) {
+				appendDialogue(sb, d, words, fields, personality);
+			} else {
+				append(sb, segment, words, fields);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 置き換えに使うプレイヤー項目の値
+	 * 以前の処理と結果が変わりうる値（null・[ ] ( ) を含む・名前に $ や \ を含む）がある場合は null
+	 */
+	private String[] fieldValues(Player player) {
+		Personality personality = player.getPersonality();
+		String[] values = new String[FIELD_TOKENS.length];
+		values[NAME] = player.getName();
+		values[RACE_NAME] = player.getRaceName();
+		values[PERSONALITY_NAME] = personality != null ? personality.getName() : "???";
+		values[BODY_TYPE] = player.getBodyType() != null ? player.getBodyType() : "???";
+		values[CLOTHING] = player.getClothing() != null ? player.getClothing() : "???";
+
+		// 種族名・性格名が null の場合、以前の処理は使っていなくても例外になる
+		if (values[RACE_NAME] == null || values[PERSONALITY_NAME] == null) {
+			return null;
+		}
+		for (int f = 0; f < values.length; f++) {
+			if ((usedFields & (1 << f)) == 0) {
+				continue;
+			}
+			String value = values[f];
+			if (value == null || !isPlain(value)) {
+				return null;
+			}
+			// 名前は置換文字列として使われていたため、$ と \ は特別な意味を持つ
+			if (f == NAME && (value.indexOf('$') >= 0 || value.indexOf('\\') >= 0)) {
+				return null;
+			}
+		}
+		return values;
+	}
+
+	private static boolean isPlain(String[] values) {
+		for (String value : values) {
+			if (!isPlain(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** 差し込んでも新しいプレースホルダー・括弧の対応を作らない値か */
+	private static boolean isPlain(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '[' || c == ']' || c == '(' || c == ')') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void appendDialogue(StringBuilder sb, Dialogue d, String[] words, String[] fields,
+			Personality personality) {
+		if (personality != null) {
+			String key;
+			if (d.dynamic()) {
+				StringBuilder inner = new StringBuilder();
+				for (Segment segment : d.inner()) {
+					append(inner, segment, words, fields);
+				}
+				key = TextReplacer.convertPlaceholderToKey(inner.toString());
+			} else {
+				key = d.staticKey();
+			}
+			String replacement = TextReplacer.getDialogueForKey(key, personality);
+			if (replacement != null) {
+				sb.append(replacement);
+				return;
+			}
+		}
+		// 口上でない括弧書きはそのまま
+		sb.append('(');
+		for (Segment segment : d.inner()) {
+			append(sb, segment, words, fields);
+		}
+		sb.append(')');
+	}
+
+	private static void append(StringBuilder sb, Segment segment, String[] words, String[] fields) {
+		if (segment instanceof Literal l) {
+			sb.append(l.text());
+		} else if (segment instanceof Slot s) {
+			sb.append(words[s.index()]);
+		} else if (segment instanceof Field f) {
+			sb.append(fields[f.field()]);
+		}
+	}
+
+	/** {random:…} だけを置き換えた文字列（以前の処理の1段目の結果） */
+	private String joinWords(String[] words) {
+		StringBuilder sb = new StringBuilder(pieces[0]);
+		for (int i = 0; i < words.length; i++) {
+			sb.append(words[i]).append(pieces[i + 1]);
+		}
+		return sb.toString();
+	}
+}
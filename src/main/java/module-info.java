@@ -6,6 +6,9 @@ module com.kh.tbrr {
 	requires javafx.media;
 	requires javafx.web;
 
+	// 開発者モードの性能計測（ヒープ・GCの取得）
+	requires java.management;
+
 	// Gson - 正確なモジュール名を使用
 	requires transitive com.google.gson;
 